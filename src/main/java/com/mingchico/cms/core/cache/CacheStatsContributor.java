@@ -0,0 +1,21 @@
+package com.mingchico.cms.core.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Map;
+
+/**
+ * <h3>[비공개 캐시 통계 제공자]</h3>
+ * <p>
+ * CacheManager를 거치지 않고 컴포넌트 내부에서 직접 생성한 Caffeine 캐시를
+ * 통계 수집 대상({@link com.mingchico.cms.core.cache.service.CacheStatsService})으로 노출합니다.
+ * 통계가 집계되려면 해당 캐시는 {@code .recordStats()}로 생성되어야 합니다.
+ * </p>
+ */
+public interface CacheStatsContributor {
+
+    /**
+     * @return Key: 통계에 표시할 캐시 이름 (예: "tenant.resolved_domains"), Value: Caffeine 캐시
+     */
+    Map<String, Cache<?, ?>> getStatsCaches();
+}
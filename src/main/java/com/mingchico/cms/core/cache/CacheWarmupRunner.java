@@ -0,0 +1,160 @@
+package com.mingchico.cms.core.cache;
+
+import com.mingchico.cms.core.config.CacheProperties;
+import com.mingchico.cms.core.context.i18n.DatabaseMessageSource;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.service.MenuResolver;
+import com.mingchico.cms.core.tenant.TenantTrafficTracker;
+import com.mingchico.cms.core.tenant.dto.TenantInfo;
+import com.mingchico.cms.core.tenant.repository.TenantRepository;
+import com.mingchico.cms.core.tenant.service.TenantMetadataProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.MessageSource;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3>[기동 시 캐시 워밍업]</h3>
+ * <p>
+ * 배포/재기동 직후 첫 요청들이 테넌트 메타데이터, 메뉴, 다국어 메시지를 건건이 DB에서 읽는 지연 스파이크를 막기 위해,
+ * 집합 기반 쿼리(IN 절 배치) 몇 번으로 캐시를 미리 채웁니다.
+ * </p>
+ * <ul>
+ * <li><b>실행 시점:</b> {@link ApplicationRunner}는 Readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로,
+ * 워밍업이 끝난 뒤에 트래픽을 받습니다. 초기 데이터 적재(AdminDataInitializer 등) 이후에 실행됩니다.</li>
+ * <li><b>자원 제한:</b> 동시 작업 수({@code concurrency})와 전체 제한 시간({@code timeout})을 넘지 않으며,
+ * 시간 초과 시 남은 작업을 취소하고 기동을 계속합니다. 워밍업 실패가 기동 실패로 이어지지 않습니다.</li>
+ * <li><b>대상 선정:</b> {@code top-tenants}가 설정되면 최근 트래픽 상위 N개 테넌트만 적재합니다.</li>
+ * <li><b>기존 값 보존:</b> {@code putIfAbsent}로 적재하므로 다른 노드가 이미 채운 값(REDIS/TIERED)은 덮어쓰지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    // 캐시 이름 (TenantMetadataProvider의 @Cacheable, MenuRouteTableProvider)
+    private static final String TENANT_META_CACHE = "tenant_meta";
+    private static final String MENU_LIST_CACHE = "menu_list";
+
+    private final CacheProperties cacheProperties;
+    private final CacheManager cacheManager;
+    private final TenantRepository tenantRepository;
+    private final TenantMetadataProvider tenantMetadataProvider;
+    private final MenuResolver menuResolver;
+    private final MessageSource messageSource;
+    private final TenantTrafficTracker tenantTrafficTracker;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        CacheProperties.Warmup warmup = cacheProperties.getWarmup();
+        if (!warmup.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        List<String> siteCodes = selectSiteCodes(warmup);
+        List<Callable<Integer>> tasks = buildTasks(siteCodes, warmup.getBatchSize());
+
+        log.info("🔥 Cache Warm-up started: {} sites, {} tasks (concurrency: {}, timeout: {})",
+                siteCodes.size(), tasks.size(), warmup.getConcurrency(), warmup.getTimeout());
+
+        int loaded = 0;
+        int failed = 0;
+        int cancelled = 0;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, warmup.getConcurrency()),
+                Thread.ofVirtual().name("cms-cache-warmup-", 0).factory())) {
+
+            // 제한 시간이 지나면 완료되지 않은 작업은 모두 취소됨
+            List<Future<Integer>> futures = executor.invokeAll(tasks, warmup.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+
+            for (Future<Integer> future : futures) {
+                try {
+                    loaded += future.get();
+                } catch (CancellationException e) {
+                    cancelled++;
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.warn("⚠️ Cache Warm-up task failed: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("⚠️ Cache Warm-up interrupted.");
+        }
+
+        log.info("✅ Cache Warm-up finished in {} ms: {} entries loaded, {} tasks failed, {} tasks timed out.",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), loaded, failed, cancelled);
+    }
+
+    /**
+     * 워밍업 대상 사이트 선정. 트래픽 집계가 없으면(LOCAL 모드 재기동 등) 등록 순으로 N개를 고릅니다.
+     */
+    private List<String> selectSiteCodes(CacheProperties.Warmup warmup) {
+        int topN = warmup.getTopTenants();
+        if (topN <= 0) {
+            return tenantRepository.findAllSiteCodes();
+        }
+
+        List<String> ranked = tenantTrafficTracker.topSites(topN, warmup.getTrafficWindow());
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
+
+        List<String> all = tenantRepository.findAllSiteCodes();
+        return all.subList(0, Math.min(topN, all.size()));
+    }
+
+    private List<Callable<Integer>> buildTasks(List<String> siteCodes, int batchSize) {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        int size = Math.max(1, batchSize);
+
+        for (int from = 0; from < siteCodes.size(); from += size) {
+            List<String> batch = siteCodes.subList(from, Math.min(from + size, siteCodes.size()));
+            tasks.add(() -> warmTenantMeta(batch));
+            tasks.add(() -> warmMenus(batch));
+        }
+
+        if (messageSource instanceof DatabaseMessageSource databaseMessageSource) {
+            tasks.add(databaseMessageSource::preloadAll);
+        }
+        return tasks;
+    }
+
+    private int warmTenantMeta(List<String> siteCodes) {
+        Cache cache = cacheManager.getCache(TENANT_META_CACHE);
+        if (cache == null) return 0;
+
+        Map<String, TenantInfo> infos = tenantMetadataProvider.loadTenantInfos(siteCodes);
+        infos.forEach(cache::putIfAbsent);
+        return infos.size();
+    }
+
+    private int warmMenus(List<String> siteCodes) {
+        Cache cache = cacheManager.getCache(MENU_LIST_CACHE);
+        if (cache == null) return 0;
+
+        Map<String, MenuSnapshot> menus = menuResolver.loadMenus(siteCodes);
+        menus.forEach(cache::putIfAbsent);
+        return menus.size();
+    }
+}
@@ -0,0 +1,33 @@
+package com.mingchico.cms.core.cache.controller;
+
+import com.mingchico.cms.core.cache.dto.CacheStatsDto;
+import com.mingchico.cms.core.cache.service.CacheStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * <h3>[캐시 관리자 API]</h3>
+ * <p>
+ * 모든 캐시(CacheManager 관리 캐시 + 컴포넌트 내부 캐시)의 히트율, 제거 수, 로딩 시간을 조회합니다.
+ * {@code cms.cache.policies}의 TTL/크기를 실측 데이터 기반으로 조정하는 용도입니다.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheAdminController {
+
+    private final CacheStatsService cacheStatsService;
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.collect());
+    }
+}
@@ -0,0 +1,32 @@
+package com.mingchico.cms.core.cache.dto;
+
+/**
+ * <h3>[캐시 통계 응답]</h3>
+ * <p>
+ * 캐시(또는 캐시 계층) 하나의 누적 통계입니다. 값은 애플리케이션 기동 이후 누적치입니다.
+ * </p>
+ *
+ * @param name              캐시 이름
+ * @param tier              저장소 계층 (LOCAL, REDIS, TIERED_L1, TIERED_L2, PRIVATE)
+ * @param estimatedSize     현재 항목 수 추정치 (Redis처럼 알 수 없으면 null)
+ * @param hitCount          히트 수
+ * @param missCount         미스 수
+ * @param hitRatio          히트율 (0.0 ~ 1.0, 요청이 없으면 0)
+ * @param evictionCount     크기/만료로 인한 제거 수 (Redis는 삭제 요청 수)
+ * @param loadCount         원본 로딩 성공 수
+ * @param loadFailureCount  원본 로딩 실패 수
+ * @param averageLoadMillis 평균 로딩 시간 (ms)
+ */
+public record CacheStatsDto(
+        String name,
+        String tier,
+        Long estimatedSize,
+        long hitCount,
+        long missCount,
+        double hitRatio,
+        long evictionCount,
+        long loadCount,
+        long loadFailureCount,
+        double averageLoadMillis
+) {
+}
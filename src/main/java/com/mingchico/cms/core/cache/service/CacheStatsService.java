@@ -0,0 +1,110 @@
+package com.mingchico.cms.core.cache.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import com.mingchico.cms.core.cache.dto.CacheStatsDto;
+import com.mingchico.cms.core.config.SingleFlightCache;
+import com.mingchico.cms.core.config.TieredCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * <h3>[캐시 통계 수집기]</h3>
+ * <p>
+ * 캐시 모드(LOCAL/REDIS/TIERED)와 관계없이 시스템의 모든 캐시 통계를 하나의 형식으로 모읍니다.
+ * </p>
+ * <ul>
+ * <li><b>관리 캐시:</b> {@link CacheManager}의 캐시. 히트/미스는 저장소(Caffeine 또는 Redis) 통계를,
+ * 로딩 횟수/시간은 {@link SingleFlightCache}가 측정한 값을 사용합니다.</li>
+ * <li><b>비공개 캐시:</b> {@link CacheStatsContributor}를 구현한 빈이 노출하는 Caffeine 캐시.</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final CacheManager cacheManager;
+    private final ObjectProvider<CacheStatsContributor> contributors;
+
+    public List<CacheStatsDto> collect() {
+        List<CacheStatsDto> result = new ArrayList<>();
+
+        // 1. [관리 캐시]
+        for (String name : new TreeSet<>(cacheManager.getCacheNames())) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                collectManaged(name, cache, result);
+            }
+        }
+
+        // 2. [비공개 캐시] 모든 빈이 생성된 이후 조회하므로 실제 인스턴스 타입 기준으로 수집됨
+        List<CacheStatsDto> privateStats = new ArrayList<>();
+        contributors.forEach(contributor -> contributor.getStatsCaches().forEach((name, cache) ->
+                privateStats.add(fromCaffeine(name, "PRIVATE", cache.stats(), cache.estimatedSize(), null))));
+        privateStats.sort(Comparator.comparing(CacheStatsDto::name));
+        result.addAll(privateStats);
+
+        return result;
+    }
+
+    private void collectManaged(String name, Cache cache, List<CacheStatsDto> result) {
+        SingleFlightCache.LoadStats loads = null;
+        Cache target = cache;
+        if (cache instanceof SingleFlightCache singleFlight) {
+            loads = singleFlight.getLoadStats();
+            target = singleFlight.getDelegate();
+        }
+
+        if (target instanceof CaffeineCache caffeine) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeine.getNativeCache();
+            result.add(fromCaffeine(name, "LOCAL", nativeCache.stats(), nativeCache.estimatedSize(), loads));
+        } else if (target instanceof TieredCache tiered) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> l1 = tiered.getLocal().getNativeCache();
+            result.add(fromCaffeine(name, "TIERED_L1", l1.stats(), l1.estimatedSize(), null));
+            if (tiered.getRemote() instanceof RedisCache redis) {
+                result.add(fromRedis(name, "TIERED_L2", redis.getStatistics(), loads));
+            }
+        } else if (target instanceof RedisCache redis) {
+            result.add(fromRedis(name, "REDIS", redis.getStatistics(), loads));
+        }
+    }
+
+    private CacheStatsDto fromCaffeine(String name, String tier, CacheStats stats, long size,
+                                       SingleFlightCache.LoadStats loads) {
+        // 관리 캐시는 SingleFlightCache가 로딩을 대행하므로 Caffeine의 load 통계 대신 해당 값을 사용
+        long loadCount = (loads != null) ? loads.loadCount() : stats.loadSuccessCount();
+        long loadFailures = (loads != null) ? loads.loadFailureCount() : stats.loadFailureCount();
+        double avgLoadMillis = (loads != null) ? loads.averageLoadMillis() : stats.averageLoadPenalty() / NANOS_PER_MILLI;
+
+        return new CacheStatsDto(name, tier, size,
+                stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), loadCount, loadFailures, avgLoadMillis);
+    }
+
+    private CacheStatsDto fromRedis(String name, String tier, CacheStatistics stats, SingleFlightCache.LoadStats loads) {
+        long hits = stats.getHits();
+        // SingleFlightCache의 재확인 조회로 늘어난 미스는 제외
+        long misses = Math.max(0, stats.getMisses() - (loads != null ? loads.recheckCount() : 0));
+        long requests = hits + misses;
+
+        return new CacheStatsDto(name, tier, null,
+                hits, misses, requests == 0 ? 0.0 : (double) hits / requests,
+                stats.getDeletes(),
+                loads != null ? loads.loadCount() : 0,
+                loads != null ? loads.loadFailureCount() : 0,
+                loads != null ? loads.averageLoadMillis() : 0.0);
+    }
+}
@@ -0,0 +1,178 @@
+package com.mingchico.cms.core.common;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h3>[사전 인코딩 JSON 에러 응답 작성기]</h3>
+ * <p>
+ * 필터/진입점에서 보내는 고정 형식의 JSON 에러 응답을 <b>기동 시점에 UTF-8 바이트 배열로 미리 인코딩</b>해 두고,
+ * 요청마다 가변 값(대기 초)만 숫자로 끼워 넣어 출력 스트림에 바로 씁니다.
+ * 공격 상황에서는 거절 응답이 가장 뜨거운 경로이므로, Map 생성/문자열 포맷/ObjectMapper 직렬화를 모두 제거했습니다.
+ * </p>
+ *
+ * <h3>[본문 형식]</h3>
+ * <ul>
+ * <li>고정 메시지: {@code {"status":404,"error":"Not Found","message":"..."}}</li>
+ * <li>대기 시간 포함: {@code {"status":429,"error":"Too Many Requests","message":"...N초...","wait_seconds":N}}
+ * + {@code Retry-After: N} 헤더</li>
+ * </ul>
+ * <p>
+ * {@code Content-Length}를 정확히 지정하므로 청크 인코딩 없이 한 번에 전송됩니다.
+ * 인스턴스는 불변이며 여러 스레드가 공유합니다.
+ * </p>
+ */
+public final class ErrorResponseWriter {
+
+    /** 메시지 템플릿에서 대기 초가 들어갈 자리 */
+    public static final String SECONDS = "{seconds}";
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+
+    // Retry-After 헤더 값 캐시 (일반적인 대기 시간 범위)
+    private static final String[] SECONDS_TEXT = new String[601];
+
+    static {
+        for (int i = 0; i < SECONDS_TEXT.length; i++) {
+            SECONDS_TEXT[i] = Integer.toString(i);
+        }
+    }
+
+    private final int status;
+    // 가변 값 자리를 기준으로 나눈 본문 조각 (조각 사이마다 대기 초가 들어감)
+    private final byte[][] segments;
+    private final int staticLength;
+    private final boolean retryAfter;
+
+    private ErrorResponseWriter(HttpStatus status, String body, boolean retryAfter) {
+        this.status = status.value();
+        this.retryAfter = retryAfter;
+
+        List<byte[]> parts = new ArrayList<>();
+        int from = 0;
+        for (int at = body.indexOf(SECONDS); at >= 0; at = body.indexOf(SECONDS, from)) {
+            parts.add(body.substring(from, at).getBytes(StandardCharsets.UTF_8));
+            from = at + SECONDS.length();
+        }
+        parts.add(body.substring(from).getBytes(StandardCharsets.UTF_8));
+        this.segments = parts.toArray(byte[][]::new);
+
+        int length = 0;
+        for (byte[] segment : segments) {
+            length += segment.length;
+        }
+        this.staticLength = length;
+    }
+
+    /**
+     * 가변 값이 없는 고정 응답을 만듭니다.
+     */
+    public static ErrorResponseWriter of(HttpStatus status, String message) {
+        String body = "{\"status\":" + status.value()
+                + ",\"error\":\"" + escape(status.getReasonPhrase())
+                + "\",\"message\":\"" + escape(message) + "\"}";
+        return new ErrorResponseWriter(status, body, false);
+    }
+
+    /**
+     * 대기 시간을 알려주는 응답을 만듭니다. 메시지의 {@value #SECONDS} 자리와 {@code wait_seconds},
+     * {@code Retry-After} 헤더에 같은 값이 들어갑니다.
+     */
+    public static ErrorResponseWriter withRetryAfter(HttpStatus status, String messageTemplate) {
+        String body = "{\"status\":" + status.value()
+                + ",\"error\":\"" + escape(status.getReasonPhrase())
+                + "\",\"message\":\"" + escapeAround(messageTemplate)
+                + "\",\"wait_seconds\":" + SECONDS + "}";
+        return new ErrorResponseWriter(status, body, true);
+    }
+
+    /**
+     * 고정 응답을 씁니다.
+     */
+    public void write(HttpServletResponse response) throws IOException {
+        write(response, 0);
+    }
+
+    /**
+     * 대기 초를 끼워 넣어 응답을 씁니다.
+     */
+    public void write(HttpServletResponse response, long seconds) throws IOException {
+        long value = Math.max(0, seconds);
+        int digits = digits(value);
+
+        response.setStatus(status);
+        response.setContentType(CONTENT_TYPE);
+        if (retryAfter) {
+            response.setHeader("Retry-After", (value < SECONDS_TEXT.length) ? SECONDS_TEXT[(int) value] : Long.toString(value));
+        }
+        response.setContentLength(staticLength + digits * (segments.length - 1));
+
+        ServletOutputStream out = response.getOutputStream();
+        out.write(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            writeDigits(out, value, digits);
+            out.write(segments[i]);
+        }
+        out.flush();
+    }
+
+    private static int digits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void writeDigits(ServletOutputStream out, long value, int digits) throws IOException {
+        long divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.write('0' + (int) (value / divisor % 10));
+        }
+    }
+
+    /**
+     * 가변 값 자리({@value #SECONDS})는 그대로 두고 나머지만 JSON 문자열로 이스케이프합니다.
+     */
+    private static String escapeAround(String template) {
+        StringBuilder sb = new StringBuilder();
+        int from = 0;
+        for (int at = template.indexOf(SECONDS); at >= 0; at = template.indexOf(SECONDS, from)) {
+            sb.append(escape(template.substring(from, at))).append(SECONDS);
+            from = at + SECONDS.length();
+        }
+        return sb.append(escape(template.substring(from))).toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
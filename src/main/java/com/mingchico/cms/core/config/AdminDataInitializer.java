@@ -11,6 +11,8 @@ import com.mingchico.cms.core.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+// 캐시 워밍업(CacheWarmupRunner)보다 먼저 초기 데이터를 적재
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class AdminDataInitializer implements CommandLineRunner {
 
     private final UserRepository userRepository;
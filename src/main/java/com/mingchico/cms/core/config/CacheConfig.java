@@ -3,6 +3,7 @@ package com.mingchico.cms.core.config;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
@@ -12,17 +13,23 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * <h3>[중앙 캐시 매니저 설정]</h3>
  * <p>
  * {@link CacheProperties}의 설정(Mode, TTL, Size)을 기반으로
- * <b>Caffeine(Local)</b> 또는 <b>Redis(Distributed)</b> 캐시 매니저를 동적으로 생성합니다.
+ * <b>Caffeine(Local)</b>, <b>Redis(Distributed)</b> 또는 <b>Caffeine + Redis(Tiered)</b> 캐시 매니저를 동적으로 생성합니다.
  * </p>
  */
 @Slf4j
@@ -33,6 +40,10 @@ public class CacheConfig {
 
     private final CacheProperties cacheProperties;
 
+    // refresh-after-write 백그라운드 갱신용 (요청 스레드를 막지 않도록 가상 스레드 사용)
+    private final Executor refreshExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cms-cache-refresh-", 0).factory());
+
     /**
      * [캐시 매니저 통합 빈]
      * Mode 설정에 따라 구현체를 스위칭합니다.
@@ -44,13 +55,29 @@ public class CacheConfig {
             @org.springframework.beans.factory.annotation.Autowired(required = false)
             RedisConnectionFactory redisConnectionFactory
     ) {
-        // [핵심 로직] 모드에 따른 분기 처리
-        if (cacheProperties.getMode() == CacheProperties.Mode.REDIS) {
-            return createRedisCacheManager(redisConnectionFactory);
-        }
+        // [핵심 로직] 모드에 따른 분기 처리 (기본값: LOCAL)
+        CacheManager target = switch (cacheProperties.getMode()) {
+            case REDIS -> createRedisCacheManager(redisConnectionFactory);
+            case TIERED -> createTieredCacheManager(redisConnectionFactory);
+            case LOCAL -> createCaffeineCacheManager();
+        };
+
+        // [공통] 키별 Single-Flight 로딩 + refresh-after-write 적용
+        warnIneffectiveRefreshPolicies();
+        return new SingleFlightCacheManager(target, cacheProperties, refreshExecutor);
+    }
+
+    private void warnIneffectiveRefreshPolicies() {
+        cacheProperties.getPolicies().forEach(this::warnIfIneffective);
+        warnIfIneffective("default-policy", cacheProperties.getDefaultPolicy());
+    }
 
-        // 기본값: LOCAL
-        return createCaffeineCacheManager();
+    private void warnIfIneffective(String name, CacheProperties.Policy policy) {
+        Duration refresh = policy.getRefreshAfterWrite();
+        if (refresh != null && refresh.compareTo(policy.getTtl()) >= 0) {
+            log.warn("⚠️ Cache [{}]: refresh-after-write({}) >= ttl({}), entries will expire before refresh.",
+                    name, refresh, policy.getTtl());
+        }
     }
 
     // --- [전략 1] Caffeine (Local) ---
@@ -81,16 +108,19 @@ public class CacheConfig {
     }
 
     // --- [전략 2] Redis (Distributed) ---
-    private CacheManager createRedisCacheManager(RedisConnectionFactory connectionFactory) {
+    private RedisCacheManager createRedisCacheManager(RedisConnectionFactory connectionFactory) {
         if (connectionFactory == null) {
             throw new IllegalStateException("Redis Mode is enabled but RedisConnectionFactory is missing.");
         }
 
-        // 1. [직렬화 설정] JSON 포맷으로 저장하여 가독성 및 호환성 확보
+        // 1. [직렬화 설정] 키는 문자열, 값은 설정된 방식(JSON/BINARY/JSON_COMPRESSED)으로 저장
+        RedisSerializer<Object> valueSerializer = RedisValueSerializers.create(
+                cacheProperties.getSerializer(), (int) cacheProperties.getCompressionThreshold().toBytes());
+
         RedisCacheConfiguration baseConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer));
 
         // 2. [기본 설정 적용] (TTL)
         CacheProperties.Policy defaultPolicy = cacheProperties.getDefaultPolicy();
@@ -98,7 +128,8 @@ public class CacheConfig {
 
         // 3. [빌더 구성]
         RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(defaultConfig);
+                .cacheDefaults(defaultConfig)
+                .enableStatistics(); // 히트/미스 집계 (관리자 캐시 통계 API용)
 
         // 4. [상세 정책 등록] (tenant_meta 등 별도 TTL 적용)
         for (Map.Entry<String, CacheProperties.Policy> entry : cacheProperties.getPolicies().entrySet()) {
@@ -108,7 +139,41 @@ public class CacheConfig {
             builder.withCacheConfiguration(cacheName, baseConfig.entryTtl(policy.getTtl()));
         }
 
-        log.info("✅ Cache Strategy: [REDIS] Distributed Cache Activated.");
-        return builder.build();
+        // 5. [초기화] 빈으로 직접 등록되지 않고 감싸지므로, 캐시별 TTL 설정(initialCacheConfiguration)을 직접 로드
+        RedisCacheManager cacheManager = builder.build();
+        cacheManager.afterPropertiesSet();
+
+        log.info("✅ Cache Strategy: [REDIS] Distributed Cache Activated. (serializer: {})", cacheProperties.getSerializer());
+        return cacheManager;
+    }
+
+    // --- [전략 3] Tiered (Caffeine L1 + Redis L2) ---
+    private CacheManager createTieredCacheManager(RedisConnectionFactory connectionFactory) {
+        RedisCacheManager remoteCacheManager = createRedisCacheManager(connectionFactory);
+
+        log.info("✅ Cache Strategy: [TIERED] Caffeine L1 + Redis L2 Activated.");
+        return new TieredCacheManager(remoteCacheManager, new StringRedisTemplate(connectionFactory), cacheProperties);
+    }
+
+    /**
+     * [L1 무효화 구독]
+     * TIERED 모드에서 다른 노드가 발행한 무효화 메시지를 수신하여 로컬 L1을 정리합니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "cms.cache.mode", havingValue = "TIERED")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheManager cacheManager) {
+        CacheManager target = (cacheManager instanceof SingleFlightCacheManager singleFlight)
+                ? singleFlight.getDelegate() : cacheManager;
+        if (!(target instanceof TieredCacheManager tieredCacheManager)) {
+            throw new IllegalStateException("TIERED Mode is enabled but CacheManager is not a TieredCacheManager.");
+        }
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tieredCacheManager, new ChannelTopic(TieredCacheManager.CHANNEL));
+
+        log.info("✅ Cache L1 Invalidation: Subscribed to Redis channel [{}]", TieredCacheManager.CHANNEL);
+        return container;
     }
-}
\ No newline at end of file
+}
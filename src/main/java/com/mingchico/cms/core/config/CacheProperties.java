@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -27,9 +28,24 @@ public class CacheProperties {
      * 시스템 전반에서 사용할 캐시 엔진의 종류를 결정합니다. (기본값: LOCAL)
      * - LOCAL: Caffeine (단일 서버 메모리 기반, 초고속)
      * - REDIS: Redis (분산 서버 간 데이터 공유 가능)
+     * - TIERED: Caffeine(L1) + Redis(L2) 2계층 (L1 히트 시 네트워크 왕복 없음, 변경 시 노드 간 L1 무효화)
      */
     private Mode mode = Mode.LOCAL;
 
+    /**
+     * [Redis 값 직렬화 방식] (REDIS/TIERED 모드 전용, 기본값: JSON)
+     * - JSON: 사람이 읽을 수 있는 JSON (디버깅 용이)
+     * - BINARY: Jackson Smile 바이너리 (크기/디코딩 비용 절감)
+     * - JSON_COMPRESSED: JSON + 임계치 이상 GZIP 압축
+     */
+    private Serializer serializer = Serializer.JSON;
+
+    /**
+     * 압축 임계치 (JSON_COMPRESSED 전용, 기본값: 1KB)
+     * 이보다 작은 값은 압축하지 않습니다.
+     */
+    private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+
     /**
      * 기본 캐시 정책 (명시되지 않은 캐시에 적용)
      */
@@ -42,10 +58,27 @@ public class CacheProperties {
      */
     private Map<String, Policy> policies = new HashMap<>();
 
+    /**
+     * 기동 시 캐시 워밍업 설정
+     */
+    private Warmup warmup = new Warmup();
+
     /**
      * 캐시 저장소 모드 정의
      */
-    public enum Mode { LOCAL, REDIS }
+    public enum Mode {
+        LOCAL, REDIS, TIERED;
+
+        /** Redis를 저장소(또는 L2)로 사용하는 모드인지 여부 */
+        public boolean usesRedis() {
+            return this != LOCAL;
+        }
+    }
+
+    /**
+     * Redis 값 직렬화 방식 정의
+     */
+    public enum Serializer { JSON, BINARY, JSON_COMPRESSED }
 
     @Getter
     @Setter
@@ -55,5 +88,49 @@ public class CacheProperties {
 
         /** 최대 항목 수 (기본값: 1000) */
         private long maxSize = 1000;
+
+        /**
+         * 비동기 갱신 시점 (기본값: 미사용)
+         * 이 시간이 지난 항목이 조회되면 기존 값을 반환하면서 백그라운드에서 다시 로딩합니다.
+         * {@code @Cacheable(sync = true)} 또는 {@code cache.get(key, loader)} 경로에만 적용되며, ttl보다 짧아야 합니다.
+         */
+        private Duration refreshAfterWrite;
+
+        /**
+         * [TIERED 전용] L1(Caffeine) 만료 시간 (기본값: 1분)
+         * 무효화 메시지 유실 시, 그리고 L2 TTL 만료(무효화를 발행하지 않음) 이후 L1 값이 남을 수 있는 최대 시간입니다.
+         * ttl보다 길게 설정하면 기동 시 경고 후 ttl로 제한됩니다.
+         */
+        private Duration localTtl = Duration.ofMinutes(1);
+
+        /** [TIERED 전용] L1(Caffeine) 최대 항목 수 (기본값: 500) */
+        private long localMaxSize = 500;
+    }
+
+    /**
+     * <h3>[기동 시 캐시 워밍업]</h3>
+     * 배포 직후 각 노드가 빈 캐시로 시작하여 첫 요청들이 DB로 몰리는 현상을 줄이기 위해,
+     * 준비(Ready) 상태가 되기 전에 테넌트 메타데이터/메뉴/다국어 메시지를 일괄 적재합니다.
+     */
+    @Getter
+    @Setter
+    public static class Warmup {
+        /** 워밍업 사용 여부 (기본값: false) */
+        private boolean enabled = false;
+
+        /** 전체 워밍업 제한 시간. 초과 시 남은 작업을 취소하고 기동을 계속합니다. (기본값: 30초) */
+        private Duration timeout = Duration.ofSeconds(30);
+
+        /** 동시에 실행할 적재 작업 수 (DB 커넥션 풀 크기보다 작게 유지, 기본값: 4) */
+        private int concurrency = 4;
+
+        /** 한 번의 IN 쿼리로 조회할 사이트 수 (기본값: 200) */
+        private int batchSize = 200;
+
+        /** 최근 트래픽 상위 N개 테넌트만 적재 (0이면 전체, 기본값: 0) */
+        private int topTenants = 0;
+
+        /** 상위 테넌트 선정 시 집계할 최근 트래픽 기간 (기본값: 24시간) */
+        private Duration trafficWindow = Duration.ofHours(24);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,80 @@
+package com.mingchico.cms.core.config;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * <h3>[임계치 기반 압축 직렬화기]</h3>
+ * <p>
+ * 내부 직렬화기의 결과가 임계치 이상이고 압축이 실제로 이득일 때만 GZIP으로 저장합니다.
+ * 작은 값(대부분의 i18n 메시지, 단일 테넌트 정보)은 압축/해제 CPU를 쓰지 않습니다.
+ * </p>
+ * <p>
+ * 읽기 시에는 GZIP 매직 넘버(0x1f8b)로 압축 여부를 판별하므로 별도 헤더가 없고,
+ * 압축되지 않은 기존 값도 그대로 읽을 수 있습니다.
+ * </p>
+ */
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte GZIP_MAGIC_FIRST = (byte) 0x1f;
+    private static final byte GZIP_MAGIC_SECOND = (byte) 0x8b;
+
+    private final RedisSerializer<Object> delegate;
+    private final int thresholdBytes;
+
+    public CompressingRedisSerializer(RedisSerializer<Object> delegate, int thresholdBytes) {
+        this.delegate = delegate;
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    @Nullable
+    public byte[] serialize(@Nullable Object value) throws SerializationException {
+        byte[] raw = delegate.serialize(value);
+        if (raw == null || raw.length < thresholdBytes) {
+            return raw;
+        }
+
+        byte[] compressed = gzip(raw);
+        return (compressed.length < raw.length) ? compressed : raw;
+    }
+
+    @Override
+    @Nullable
+    public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+        if (isGzip(bytes)) {
+            return delegate.deserialize(gunzip(bytes));
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    private static boolean isGzip(@Nullable byte[] bytes) {
+        return bytes != null && bytes.length > 2
+                && bytes[0] == GZIP_MAGIC_FIRST && bytes[1] == GZIP_MAGIC_SECOND;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot compress cache value", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot decompress cache value", e);
+        }
+    }
+}
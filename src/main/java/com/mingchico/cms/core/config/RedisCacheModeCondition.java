@@ -0,0 +1,26 @@
+package com.mingchico.cms.core.config;
+
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.lang.NonNull;
+
+/**
+ * <h3>[Redis 사용 캐시 모드 조건]</h3>
+ * <p>
+ * {@code cms.cache.mode}가 Redis를 사용하는 모드(REDIS, TIERED)일 때만 매칭됩니다.
+ * {@code @ConditionalOnProperty}는 단일 값만 비교할 수 있으므로 별도 조건으로 분리했습니다.
+ * </p>
+ */
+public class RedisCacheModeCondition implements Condition {
+
+    @Override
+    public boolean matches(@NonNull ConditionContext context, @NonNull AnnotatedTypeMetadata metadata) {
+        String mode = context.getEnvironment().getProperty("cms.cache.mode", CacheProperties.Mode.LOCAL.name());
+        try {
+            return CacheProperties.Mode.valueOf(mode.trim().toUpperCase()).usesRedis();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
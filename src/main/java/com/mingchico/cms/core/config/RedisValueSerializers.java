@@ -0,0 +1,60 @@
+package com.mingchico.cms.core.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * <h3>[Redis 캐시 값 직렬화기 팩토리]</h3>
+ * <p>
+ * {@link CacheProperties.Serializer} 설정에 맞는 값 직렬화기를 생성합니다.
+ * </p>
+ * <ul>
+ * <li><b>JSON:</b> 기존 방식. 사람이 읽을 수 있어 디버깅이 쉬움.</li>
+ * <li><b>BINARY:</b> Jackson Smile. 같은 타입 정보(@class)를 유지하면서 반복되는 필드명/문자열을
+ * 백 레퍼런스로 압축하고, 숫자/불리언을 바이너리로 저장하여 크기와 디코딩 비용을 줄입니다.</li>
+ * <li><b>JSON_COMPRESSED:</b> JSON을 그대로 쓰되 임계치 이상인 값만 GZIP으로 압축합니다.</li>
+ * </ul>
+ * <p>
+ * 세 형식 모두 선두 바이트(JSON: '{' 등, Smile: ":)\n", GZIP: 0x1f8b)로 구분되므로,
+ * JSON ↔ JSON_COMPRESSED 간 전환 시 기존 캐시를 비우지 않아도 됩니다. (BINARY 전환 시에는 비우기 권장)
+ * </p>
+ */
+public final class RedisValueSerializers {
+
+    private RedisValueSerializers() {
+    }
+
+    public static RedisSerializer<Object> create(CacheProperties.Serializer type, int compressionThresholdBytes) {
+        return switch (type) {
+            case JSON -> new GenericJackson2JsonRedisSerializer();
+            case JSON_COMPRESSED -> new CompressingRedisSerializer(
+                    new GenericJackson2JsonRedisSerializer(), compressionThresholdBytes);
+            case BINARY -> binary();
+        };
+    }
+
+    /**
+     * Smile 기반 바이너리 직렬화기.
+     * 타입 힌트 방식은 JSON 직렬화기와 동일하게 유지하여, 어떤 캐시 값이든 별도 설정 없이 저장/복원됩니다.
+     */
+    static RedisSerializer<Object> binary() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                // 반복되는 짧은 문자열 값(테마명, 역할명 등)도 백 레퍼런스로 공유
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+
+        ObjectMapper mapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        return GenericJackson2JsonRedisSerializer.builder()
+                .objectMapper(mapper)
+                .defaultTyping(true)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.mingchico.cms.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * <h3>[스케줄링 설정]</h3>
+ * <p>
+ * {@code @Scheduled}가 붙은 주기 작업(테넌트 라우팅 안전망 점검 등)을 활성화합니다.
+ * </p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -178,6 +178,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers("/static/**", "/error", "/health", "/favicon.ico").permitAll()
+                        // 운영 엔드포인트: 헬스 체크만 공개, 나머지(메트릭 등)는 관리자 전용
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/login", "/register", "/find-password").permitAll()
                         .requestMatchers("/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
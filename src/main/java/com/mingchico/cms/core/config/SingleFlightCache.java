@@ -0,0 +1,324 @@
+package com.mingchico.cms.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * <h3>[Single-Flight + Refresh-Ahead 캐시 데코레이터]</h3>
+ * <p>
+ * 모든 캐시 구현체(Caffeine, Redis, Tiered)를 감싸 {@link #get(Object, Callable)} 경로에 두 가지 보호 장치를 추가합니다.
+ * </p>
+ * <ul>
+ * <li><b>Single-Flight:</b> 같은 키에 대한 동시 미스는 한 스레드만 원본을 조회하고 나머지는 그 결과를 기다립니다.
+ * (RedisCache 기본 구현은 캐시 전체에 하나의 락을 걸기 때문에 키가 달라도 직렬화되는 문제도 해소)</li>
+ * <li><b>Refresh-Ahead:</b> 정책의 {@code refresh-after-write}가 지난 항목이 조회되면 기존 값을 즉시 반환하고,
+ * 백그라운드에서 원본을 다시 읽어 교체합니다. 핫 키가 만료되어 DB로 몰리는 상황 자체를 줄입니다.</li>
+ * </ul>
+ * <p>
+ * <b>[적용 범위]</b> 로더를 알 수 있는 경로에서만 동작합니다.
+ * 즉, {@code @Cacheable(sync = true)} 또는 {@code cache.get(key, loader)} 호출이 대상입니다.
+ * Single-Flight는 노드 단위이므로 클러스터 전체 동시 로딩은 최대 노드 수만큼으로 제한됩니다.
+ * </p>
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    // 진행 중인 로딩 (키별 Single-Flight 조정 지점)
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // 이 노드가 마지막으로 값을 적재/확인한 시각 (refresh-after-write 미설정 시 null)
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Long> loadedAt;
+    private final long refreshAfterNanos;
+
+    // [통계] 원본 로딩 횟수/실패/소요 시간 (저장소 종류와 무관하게 동일 기준으로 측정)
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    // flight 획득 후 재확인 중 저장소 통계에 기록된 조회 수 (통계 수집 시 미스에서 차감)
+    private final LongAdder recheckCount = new LongAdder();
+
+    public SingleFlightCache(Cache delegate, CacheProperties.Policy policy, Executor refreshExecutor) {
+        this(delegate, policy, refreshExecutor, System::nanoTime);
+    }
+
+    SingleFlightCache(Cache delegate, CacheProperties.Policy policy, Executor refreshExecutor, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+
+        Duration refreshAfterWrite = policy.getRefreshAfterWrite();
+        if (refreshAfterWrite != null && !refreshAfterWrite.isNegative() && !refreshAfterWrite.isZero()) {
+            this.refreshAfterNanos = refreshAfterWrite.toNanos();
+            this.loadedAt = Caffeine.newBuilder()
+                    .maximumSize(policy.getMaxSize())
+                    .expireAfterWrite(policy.getTtl())
+                    .build();
+        } else {
+            this.refreshAfterNanos = 0;
+            this.loadedAt = null;
+        }
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    public LoadStats getLoadStats() {
+        return new LoadStats(loadCount.sum(), loadFailureCount.sum(), totalLoadNanos.sum(), recheckCount.sum());
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    @Nullable
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper hit = delegate.get(key);
+        if (hit != null) {
+            refreshIfStale(key, valueLoader);
+            return (T) hit.get();
+        }
+        return (T) loadSingleFlight(key, valueLoader);
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        // 진행 중인 (이전 시점의) 로딩 결과가 새 값을 덮어쓰지 않도록 먼저 끊어냄
+        inFlight.remove(key);
+        delegate.put(key, value);
+        markLoaded(key);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        inFlight.remove(key);
+        forget(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(@NonNull Object key) {
+        inFlight.remove(key);
+        forget(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.clear();
+        if (loadedAt != null) {
+            loadedAt.invalidateAll();
+        }
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        inFlight.clear();
+        if (loadedAt != null) {
+            loadedAt.invalidateAll();
+        }
+        return delegate.invalidate();
+    }
+
+    // --- [Single-Flight] ---
+
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(key, valueLoader, existing);
+        }
+
+        try {
+            // 직전 flight가 막 끝나 값이 채워졌을 수 있으므로 한 번 더 확인 (같은 값을 원본에서 다시 읽지 않도록)
+            ValueWrapper again = recheck(key);
+            Object value = (again != null) ? again.get() : loadAndStore(key, valueLoader, flight);
+            flight.complete(value);
+            return value;
+        } catch (Throwable ex) {
+            flight.completeExceptionally(ex);
+            throw (ex instanceof ValueRetrievalException vre) ? vre : new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * flight 획득 직후의 재확인 조회입니다. 요청 하나가 미스 두 번으로 집계되지 않도록,
+     * 이 노드의 Caffeine(LOCAL 또는 TIERED의 L1)은 통계를 남기지 않는 조회를 사용합니다.
+     * (직전 flight는 같은 노드에서 끝났으므로 TIERED에서도 L1에 값이 있음)
+     * 조용한 조회가 없는 저장소(REDIS)는 그대로 조회하고, 통계 수집 시 {@link LoadStats#recheckCount()}만큼 미스를 차감합니다.
+     */
+    @Nullable
+    private ValueWrapper recheck(Object key) {
+        Cache target = (delegate instanceof TieredCache tiered) ? tiered.getLocal() : delegate;
+        if (target instanceof CaffeineCache caffeine) {
+            Object stored = caffeine.getNativeCache().policy().getIfPresentQuietly(key);
+            if (stored == null) {
+                return null;
+            }
+            return new SimpleValueWrapper(stored == NullValue.INSTANCE ? null : stored);
+        }
+        recheckCount.increment();
+        return target.get(key);
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            Throwable cause = (ex.getCause() != null) ? ex.getCause() : ex;
+            throw (cause instanceof ValueRetrievalException vre) ? vre : new ValueRetrievalException(key, valueLoader, cause);
+        }
+    }
+
+    /**
+     * 원본을 조회하여 캐시에 적재합니다.
+     * 적재는 해당 키의 flight가 여전히 유효할 때만 수행되어, 조회 도중 발생한 evict/put 결과를 되돌리지 않습니다.
+     * <p>
+     * 저장소 쓰기(REDIS/TIERED는 네트워크 왕복 + 무효화 발행)는 {@code inFlight}의 버킷 락 밖에서 수행합니다.
+     * 확인과 쓰기 사이에 evict/put이 끼어들면(둘 다 flight를 먼저 제거함) 쓰기 후 재확인에서 감지하여
+     * 방금 쓴 값을 제거합니다. 이 경우 최신 값까지 지워질 수 있으나, 다음 조회에서 다시 로딩될 뿐 오래된 값이 남지는 않습니다.
+     * </p>
+     */
+    private Object loadAndStore(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) throws Exception {
+        long start = nanoClock.getAsLong();
+        Object value;
+        try {
+            value = valueLoader.call();
+            loadCount.increment();
+        } catch (Exception ex) {
+            loadFailureCount.increment();
+            throw ex;
+        } finally {
+            totalLoadNanos.add(nanoClock.getAsLong() - start);
+        }
+
+        if (inFlight.get(key) != flight) {
+            return value; // 조회 도중 evict/put 발생: 이전 시점의 값으로 덮어쓰지 않음
+        }
+        delegate.put(key, value);
+        markLoaded(key);
+
+        if (inFlight.get(key) != flight) {
+            // 쓰기 직전에 evict/put이 끼어든 경우: 이전 시점의 값이 남지 않도록 제거
+            forget(key);
+            delegate.evict(key);
+        }
+        return value;
+    }
+
+    // --- [Refresh-Ahead] ---
+
+    private void refreshIfStale(Object key, Callable<?> valueLoader) {
+        if (loadedAt == null) {
+            return;
+        }
+
+        long now = nanoClock.getAsLong();
+        Long loaded = loadedAt.getIfPresent(key);
+        if (loaded == null) {
+            // 다른 노드가 적재한 값(REDIS) 등 적재 시각을 모르는 경우: 지금부터 계산
+            loadedAt.put(key, now);
+            return;
+        }
+        if (now - loaded < refreshAfterNanos) {
+            return;
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return; // 이미 갱신(또는 로딩) 중
+        }
+
+        try {
+            refreshExecutor.execute(() -> refresh(key, valueLoader, flight));
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(key, flight);
+            flight.cancel(false);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            flight.complete(loadAndStore(key, valueLoader, flight));
+        } catch (Throwable ex) {
+            // [Fail-Safe] 갱신 실패 시 기존 값을 계속 사용하고, 다음 주기에 다시 시도
+            markLoaded(key);
+            flight.completeExceptionally(ex);
+            log.warn("⚠️ Cache refresh failed [{}:{}]: {}", getName(), key, ex.getMessage());
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void markLoaded(Object key) {
+        if (loadedAt != null) {
+            loadedAt.put(key, nanoClock.getAsLong());
+        }
+    }
+
+    private void forget(Object key) {
+        if (loadedAt != null) {
+            loadedAt.invalidate(key);
+        }
+    }
+
+    /**
+     * 원본 로딩 통계 스냅샷
+     *
+     * @param recheckCount 저장소 통계에 기록된 재확인 조회 수. 재확인이 히트든 미스든 요청당 미스가 하나 더 집계되므로,
+     *                     저장소의 미스 수에서 이 값을 빼면 실제 미스 수가 됩니다.
+     */
+    public record LoadStats(long loadCount, long loadFailureCount, long totalLoadNanos, long recheckCount) {
+
+        public double averageLoadMillis() {
+            long total = loadCount + loadFailureCount;
+            return total == 0 ? 0.0 : totalLoadNanos / (double) total / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.mingchico.cms.core.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * <h3>[Single-Flight 캐시 매니저]</h3>
+ * <p>
+ * 모드별 캐시 매니저(LOCAL/REDIS/TIERED)를 감싸, 반환하는 모든 캐시에
+ * {@link SingleFlightCache}(키별 단일 로딩 + refresh-after-write)를 적용합니다.
+ * 캐시별 정책은 {@link CacheProperties#getPolicies()}를 따르며, 없으면 기본 정책을 사용합니다.
+ * </p>
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheProperties cacheProperties;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentMap<String, SingleFlightCache> caches = new ConcurrentHashMap<>();
+
+    public SingleFlightCacheManager(CacheManager delegate, CacheProperties cacheProperties, Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.cacheProperties = cacheProperties;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * 모드별 실제 캐시 매니저 (TIERED 무효화 구독 등에서 사용)
+     */
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        SingleFlightCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+
+        CacheProperties.Policy policy = cacheProperties.getPolicies()
+                .getOrDefault(name, cacheProperties.getDefaultPolicy());
+        return caches.computeIfAbsent(name, n -> new SingleFlightCache(target, policy, refreshExecutor));
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
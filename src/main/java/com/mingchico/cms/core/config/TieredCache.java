@@ -0,0 +1,145 @@
+package com.mingchico.cms.core.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.util.concurrent.Callable;
+
+/**
+ * <h3>[2계층 캐시 (Near Cache)]</h3>
+ * <p>
+ * 노드 로컬 Caffeine(L1) 뒤에 Redis(L2)를 두는 {@link Cache} 구현체입니다.
+ * 조회는 L1 → L2 순서로 진행되어, L1 히트 시에는 네트워크 왕복과 JSON 역직렬화가 발생하지 않습니다.
+ * </p>
+ *
+ * <h3>[일관성 전략]</h3>
+ * <ul>
+ * <li><b>쓰기/삭제:</b> L2를 먼저 갱신한 뒤 L1을 갱신하고, 다른 노드의 L1 무효화를 요청합니다.</li>
+ * <li><b>L1 TTL:</b> 무효화 메시지가 유실되더라도 짧은 TTL로 오래된 값이 남는 시간을 제한합니다.</li>
+ * </ul>
+ */
+public class TieredCache implements Cache {
+
+    /**
+     * 다른 노드의 L1 무효화를 요청하는 발행자
+     */
+    public interface InvalidationPublisher {
+        /**
+         * @param cacheName 캐시 이름
+         * @param key       무효화할 키 (null이면 캐시 전체 비우기)
+         */
+        void publish(String cacheName, @Nullable Object key);
+    }
+
+    private final CaffeineCache local;
+    private final Cache remote;
+    private final InvalidationPublisher publisher;
+
+    public TieredCache(CaffeineCache local, Cache remote, InvalidationPublisher publisher) {
+        this.local = local;
+        this.remote = remote;
+        this.publisher = publisher;
+    }
+
+    public CaffeineCache getLocal() {
+        return local;
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        ValueWrapper hit = local.get(key);
+        if (hit != null) {
+            return hit;
+        }
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null && loaded.get() != null) {
+            local.put(key, loaded.get());
+        }
+        return loaded;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null) ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper hit = local.get(key);
+        if (hit != null) {
+            return (T) hit.get();
+        }
+
+        // L2 조회 또는 로딩 (L2가 없으면 valueLoader로 원본 조회 후 L2 적재)
+        T value = remote.get(key, valueLoader);
+        if (value != null) {
+            local.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(key, value);
+        } else {
+            local.evict(key);
+        }
+        publisher.publish(getName(), key);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        remote.evict(key);
+        local.evict(key);
+        publisher.publish(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        publisher.publish(getName(), null);
+    }
+
+    // --- [원격 무효화 수신용: L1만 정리하고 재전파하지 않음] ---
+
+    public void evictLocal(Object key) {
+        local.evict(key);
+    }
+
+    public void clearLocal() {
+        local.clear();
+    }
+}
@@ -0,0 +1,155 @@
+package com.mingchico.cms.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <h3>[2계층 캐시 매니저]</h3>
+ * <p>
+ * {@link RedisCacheManager}가 만든 각 캐시 앞에 캐시별 정책({@code local-ttl}, {@code local-max-size})을 따르는
+ * Caffeine L1을 붙여 {@link TieredCache}로 제공합니다.
+ * </p>
+ *
+ * <h3>[노드 간 L1 무효화]</h3>
+ * <p>
+ * L2 항목이 변경/삭제되면 Redis 채널({@value #CHANNEL})로 {@code nodeId|cacheName|op|key} 메시지를 발행하고,
+ * 다른 노드는 이를 수신하여 자신의 L1에서 해당 항목을 제거합니다.
+ * 문자열이 아닌 키는 원격에서 동일하게 복원할 수 없으므로 해당 캐시의 L1 전체를 비웁니다.
+ * </p>
+ *
+ * <h3>[L1 만료 상한]</h3>
+ * <p>
+ * L2의 TTL 만료는 무효화 메시지를 발행하지 않으므로, L1 항목은 L2 사본이 사라진 뒤에도 최대 {@code local-ttl}만큼 남을 수 있습니다.
+ * 이 지연이 L2 TTL보다 길어지지 않도록 {@code local-ttl > ttl}인 정책은 기동 시 경고 후 {@code ttl}로 제한합니다.
+ * </p>
+ */
+@Slf4j
+public class TieredCacheManager implements CacheManager, MessageListener, TieredCache.InvalidationPublisher {
+
+    public static final String CHANNEL = "cms:cache:invalidate";
+
+    private static final String SEPARATOR = "|";
+    private static final String OP_EVICT = "E";
+    private static final String OP_CLEAR = "C";
+
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties cacheProperties;
+
+    private final ConcurrentMap<String, TieredCache> caches = new ConcurrentHashMap<>();
+
+    // 노드(인스턴스) 식별자: 자신이 발행한 무효화 메시지를 무시하기 위해 사용
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public TieredCacheManager(RedisCacheManager remoteCacheManager,
+                              StringRedisTemplate redisTemplate,
+                              CacheProperties cacheProperties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.cacheProperties = cacheProperties;
+
+        cacheProperties.getPolicies().forEach(TieredCacheManager::warnIfLocalTtlExceedsTtl);
+        warnIfLocalTtlExceedsTtl("default-policy", cacheProperties.getDefaultPolicy());
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        TieredCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TieredCache(createLocalCache(n), remote, this));
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private CaffeineCache createLocalCache(String name) {
+        CacheProperties.Policy policy = cacheProperties.getPolicies()
+                .getOrDefault(name, cacheProperties.getDefaultPolicy());
+
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(localTtl(policy))
+                .maximumSize(policy.getLocalMaxSize())
+                .recordStats()
+                .build(), false);
+    }
+
+    /**
+     * L1 만료 시간. L2 TTL을 넘지 않도록 제한합니다.
+     */
+    private static Duration localTtl(CacheProperties.Policy policy) {
+        return (policy.getLocalTtl().compareTo(policy.getTtl()) > 0) ? policy.getTtl() : policy.getLocalTtl();
+    }
+
+    private static void warnIfLocalTtlExceedsTtl(String name, CacheProperties.Policy policy) {
+        if (policy.getLocalTtl().compareTo(policy.getTtl()) > 0) {
+            log.warn("⚠️ Cache [{}]: local-ttl({}) > ttl({}), L1 expiry is capped at ttl.",
+                    name, policy.getLocalTtl(), policy.getTtl());
+        }
+    }
+
+    // --- [발행] ---
+
+    @Override
+    public void publish(String cacheName, @Nullable Object key) {
+        String message = (key instanceof String stringKey)
+                ? nodeId + SEPARATOR + cacheName + SEPARATOR + OP_EVICT + SEPARATOR + stringKey
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + OP_CLEAR + SEPARATOR;
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // [Fail-Safe] 전파 실패 시에도 다른 노드의 L1은 local-ttl 이후 자연 만료됨
+            log.warn("⚠️ Failed to publish L1 invalidation for cache [{}]: {}", cacheName, e.getMessage());
+        }
+    }
+
+    // --- [수신] ---
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        // 키 자체에 구분자('|')가 포함될 수 있으므로 최대 4조각으로만 분리 (예: i18n "code|ko-KR")
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TieredCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return; // 이 노드에서 아직 사용하지 않은 캐시는 L1도 비어 있음
+        }
+
+        if (OP_EVICT.equals(parts[2])) {
+            cache.evictLocal(parts[3]);
+        } else {
+            cache.clearLocal();
+        }
+        log.trace("♻️ L1 Invalidated by remote node: {}", body);
+    }
+}
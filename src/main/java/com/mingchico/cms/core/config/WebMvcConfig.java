@@ -3,6 +3,7 @@ package com.mingchico.cms.core.config;
 import com.mingchico.cms.core.menu.interceptor.MenuAccessInterceptor;
 import com.mingchico.cms.core.menu.interceptor.MenuAclInterceptor;
 import com.mingchico.cms.core.menu.interceptor.MenuResolutionInterceptor;
+import com.mingchico.cms.core.menu.interceptor.NavigationInterceptor;
 import com.mingchico.cms.core.tenant.TenantProperties;
 import com.mingchico.cms.core.theme.ThemeViewInterceptor;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
     private final MenuAclInterceptor aclInterceptor;
     private final TenantProperties tenantProperties;
     private final ThemeViewInterceptor themeViewInterceptor;
+    private final NavigationInterceptor navigationInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -33,6 +35,13 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(aclInterceptor).addPathPatterns("/**").order(3)
                 .excludePathPatterns(tenantProperties.getExcludedPaths());
 
+        registry.addInterceptor(navigationInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns(tenantProperties.getExcludedPaths())
+                // postHandle은 order의 역순으로 실행되므로, 테마 인터셉터(100)보다 큰 값을 주어
+                // 컨트롤러가 반환한 원래 뷰 이름 기준으로(테마 경로로 바뀌기 전에) 네비게이션 모델을 추가
+                .order(101);
+
         registry.addInterceptor(themeViewInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns(tenantProperties.getExcludedPaths()) // 정적 리소스 등 제외
@@ -12,6 +12,7 @@ import org.thymeleaf.spring6.view.ThymeleafViewResolver;
 public class ContextConfig implements WebMvcConfigurer {
 
     private final MessageSource messageSource;
+    private final ContextProperties contextProperties;
     private final ThymeleafViewResolver viewResolver;
 
     @PostConstruct
@@ -20,6 +21,8 @@ public class ContextConfig implements WebMvcConfigurer {
         // 스프링 빈이 아닌 일반 유틸리티 클래스나 POJO에서도
         // MessageSource 기능을 사용할 수 있도록 정적 필드에 주입합니다.
         MessageUtils.setMessageSource(messageSource);
+        // 채널 식별(getChannel)에 사용할 경로 프리픽스 설정
+        ContextHolder.setProperties(contextProperties);
 
         // [Global View Variables]
         // Thymeleaf 템플릿 어디서든 {@code ${@ctx.getUser()}} 형태로 접근 가능하도록 설정
@@ -2,6 +2,7 @@ package com.mingchico.cms.core.context;
 
 import com.mingchico.cms.core.mdc.MdcLoggingFilter;
 import com.mingchico.cms.core.security.CustomUserDetails;
+import com.mingchico.cms.core.security.RoleRegistry;
 import com.mingchico.cms.core.tenant.TenantContext;
 import com.mingchico.cms.core.tenant.dto.TenantInfo;
 import jakarta.servlet.http.HttpServletRequest;
@@ -65,20 +66,26 @@ public class ContextHolder {
      * 현재 요청 URL을 기반으로 진입 채널(ADMIN, API, WEB)을 식별합니다.
      */
     public static ChannelType getChannel() {
-        return getRequest().map(req -> {
-            String uri = req.getRequestURI();
-            if (properties == null) return ChannelType.UNKNOWN;
+        return getRequest().map(ContextHolder::getChannel).orElse(ChannelType.UNKNOWN);
+    }
+
+    /**
+     * 주어진 요청의 진입 채널을 식별합니다.
+     * RequestContextHolder가 채워지기 전에 실행되는 서블릿 필터에서 사용합니다.
+     */
+    public static ChannelType getChannel(HttpServletRequest req) {
+        String uri = req.getRequestURI();
+        if (properties == null) return ChannelType.UNKNOWN;
 
-            var channelCfg = properties.getChannel();
+        var channelCfg = properties.getChannel();
 
-            // [우선순위] 구체적인 경로(Admin API)부터 체크해야 오탐지를 방지함
-            if (uri.startsWith(channelCfg.getAdminApiPrefix())) return ChannelType.ADMIN_API;
-            if (uri.startsWith(channelCfg.getApiPrefix())) return ChannelType.API;
-            if (uri.startsWith(channelCfg.getAdminPrefix())) return ChannelType.ADMIN;
+        // [우선순위] 구체적인 경로(Admin API)부터 체크해야 오탐지를 방지함
+        if (uri.startsWith(channelCfg.getAdminApiPrefix())) return ChannelType.ADMIN_API;
+        if (uri.startsWith(channelCfg.getApiPrefix())) return ChannelType.API;
+        if (uri.startsWith(channelCfg.getAdminPrefix())) return ChannelType.ADMIN;
 
-            // 위 조건에 해당하지 않으면 일반 사용자 웹(Front)으로 간주
-            return ChannelType.WEB;
-        }).orElse(ChannelType.UNKNOWN);
+        // 위 조건에 해당하지 않으면 일반 사용자 웹(Front)으로 간주
+        return ChannelType.WEB;
     }
 
     // --- [2] Site & Tenant Context (사이트 정보) ---
@@ -136,6 +143,15 @@ public class ContextHolder {
         ).orElse(false);
     }
 
+    /**
+     * 현재 사용자 권한의 비트마스크를 반환합니다. (비로그인 시 0)
+     * 여러 역할을 반복 비교해야 하는 경로(메뉴 ACL 등)에서 {@link #hasRole} 대신 사용합니다.
+     */
+    public static long getRoleMask() {
+        CustomUserDetails user = getUser().orElse(null);
+        return (user != null) ? RoleRegistry.authorityMask(user.getAuthorities()) : 0L;
+    }
+
     public static boolean isAdmin() {
         return hasRole("ADMIN");
     }
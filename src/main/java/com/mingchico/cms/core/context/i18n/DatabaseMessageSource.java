@@ -7,6 +7,7 @@ import org.springframework.context.support.AbstractMessageSource;
 import org.springframework.lang.NonNull;
 
 import java.text.MessageFormat;
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -77,6 +78,20 @@ public class DatabaseMessageSource extends AbstractMessageSource {
         return new MessageFormat(cached, locale);
     }
 
+    /**
+     * <h3>[캐시 워밍업]</h3>
+     * 전체 메시지를 한 번의 쿼리로 읽어 캐시에 적재합니다. 이미 캐시에 있는 키는 건드리지 않습니다.
+     *
+     * @return 조회한 메시지 수
+     */
+    public int preloadAll() {
+        List<I18nMessage> messages = messageRepository.findAll();
+        for (I18nMessage message : messages) {
+            messageCache.putIfAbsent(message.getCode() + KEY_SEPARATOR + message.getLocale(), message.getMessage());
+        }
+        return messages.size();
+    }
+
     /**
      * 관리자 화면에서 메시지 수정 시 호출하여 캐시를 갱신합니다.
      */
@@ -4,6 +4,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,8 @@ import java.util.*;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+// 캐시 워밍업(CacheWarmupRunner)보다 먼저 초기 데이터를 적재
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class MessageDataInitializer implements ApplicationRunner {
 
     private final I18nMessageRepository repository;
@@ -1,6 +1,6 @@
 package com.mingchico.cms.core.menu;
 
-import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.dto.MenuNode;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Optional;
@@ -13,21 +13,22 @@ import java.util.Optional;
  * <br>
  * 컨트롤러나 뷰(View)에서 "현재 메뉴 이름", "현재 메뉴의 핸들러" 등을
  * 파라미터 전달 없이 즉시 조회할 수 있게 합니다.
+ * 저장되는 값은 캐시된 불변 스냅샷({@link MenuNode})이므로 뷰에서 자유롭게 읽어도 추가 쿼리가 발생하지 않습니다.
  * </p>
  */
 @Slf4j
 public class MenuContext {
 
-    private static final ThreadLocal<Menu> CURRENT_MENU = new ThreadLocal<>();
+    private static final ThreadLocal<MenuNode> CURRENT_MENU = new ThreadLocal<>();
 
-    public static void set(Menu menu) {
+    public static void set(MenuNode menu) {
         if (menu != null) {
             CURRENT_MENU.set(menu);
-            log.trace("✅ Menu Context Bound: [{}] {}", menu.getId(), menu.getName());
+            log.trace("✅ Menu Context Bound: [{}] {}", menu.id(), menu.name());
         }
     }
 
-    public static Optional<Menu> getCurrentMenu() {
+    public static Optional<MenuNode> getCurrentMenu() {
         return Optional.ofNullable(CURRENT_MENU.get());
     }
 
@@ -1,6 +1,5 @@
 package com.mingchico.cms.core.menu.dto;
 
-import com.mingchico.cms.core.menu.domain.Menu;
 import com.mingchico.cms.core.menu.domain.MenuConfig;
 import com.mingchico.cms.core.menu.domain.MenuTarget;
 import com.mingchico.cms.core.menu.domain.MenuType;
@@ -9,7 +8,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * <h3>[메뉴 관리 DTO]</h3>
@@ -69,25 +67,29 @@ public class MenuDto {
             MenuConfig config,
             List<Response> children // 재귀적 트리 구조
     ) {
-        public static Response from(Menu entity) {
+        /**
+         * 스냅샷의 부모-자식 인덱스를 따라 하위 트리를 구성합니다.
+         * 엔티티 연관관계를 사용하지 않으므로 지연 로딩 쿼리가 발생하지 않고, 노드마다 한 번씩만 방문합니다.
+         */
+        public static Response from(MenuNode node, MenuSnapshot snapshot) {
             return new Response(
-                    entity.getId(),
-                    entity.getParentId(),
-                    entity.getName(),
-                    entity.getUrlPattern(),
-                    entity.getType(),
-                    entity.getHandler(),
-                    entity.getTarget(),
-                    entity.getIcon(),
-                    entity.getDisplayOrder(),
-                    entity.isVisible(),
-                    entity.isAccessible(),
-                    entity.getReadRoleSet().stream().toList(),
-                    entity.getWriteRoleSet().stream().toList(),
-                    entity.getConfig() != null ? entity.getConfig() : new MenuConfig(),
-                    entity.getChildren().stream()
-                            .map(Response::from)
-                            .collect(Collectors.toList())
+                    node.id(),
+                    node.parentId(),
+                    node.name(),
+                    node.urlPattern(),
+                    node.type(),
+                    node.handler(),
+                    node.target(),
+                    node.icon(),
+                    node.displayOrder(),
+                    node.visible(),
+                    node.accessible(),
+                    List.copyOf(node.readRoles()),
+                    List.copyOf(node.writeRoles()),
+                    node.config(),
+                    snapshot.childrenOf(node).stream()
+                            .map(child -> from(child, snapshot))
+                            .toList()
             );
         }
     }
@@ -0,0 +1,108 @@
+package com.mingchico.cms.core.menu.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuConfig;
+import com.mingchico.cms.core.menu.domain.MenuTarget;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.security.RoleRegistry;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h3>[메뉴 노드 (캐시/요청 컨텍스트용 불변 스냅샷)]</h3>
+ * <p>
+ * JPA {@link Menu} 엔티티에서 라우팅/ACL/렌더링에 필요한 값만 떼어낸 평면(Flat) 레코드입니다.
+ * 영속성 컨텍스트와 분리되어 있으므로 지연 로딩 예외나 숨은 쿼리가 발생하지 않고,
+ * 여러 요청 스레드가 안전하게 공유하며 Redis에도 그대로 직렬화됩니다.
+ * </p>
+ * <ul>
+ * <li><b>권한:</b> CSV를 미리 파싱한 Set과, ACL 검사용 비트마스크({@link RoleRegistry})로 보관
+ * (요청마다 split 하지 않음)</li>
+ * <li><b>계층:</b> 엔티티의 지연 연관관계 대신 {@code parentId}/{@code childIds} 인덱스로 표현
+ * (실제 노드 조회는 {@link MenuSnapshot} 사용)</li>
+ * <li><b>설정:</b> 엔티티와 분리된 복사본이며 읽기 전용으로만 사용합니다.</li>
+ * </ul>
+ */
+public record MenuNode(
+        Long id,
+        String siteCode,
+        Long parentId,
+        String name,
+        String icon,
+        int displayOrder,
+        String urlPattern,
+        MenuType type,
+        MenuTarget target,
+        String handler,
+        boolean visible,
+        boolean accessible,
+        Set<String> readRoles,
+        Set<String> writeRoles,
+        long readRoleMask,
+        long writeRoleMask,
+        String accessPolicy,
+        MenuConfig config,
+        List<Long> childIds
+) implements Serializable {
+
+    public MenuNode {
+        readRoles = Collections.unmodifiableSet(new LinkedHashSet<>(readRoles));
+        writeRoles = Collections.unmodifiableSet(new LinkedHashSet<>(writeRoles));
+        // 역할 ID는 JVM 로컬 값이므로 전달된 값(예: Redis에서 역직렬화된 값)은 무시하고 항상 다시 계산
+        readRoleMask = RoleRegistry.maskOf(readRoles);
+        writeRoleMask = RoleRegistry.maskOf(writeRoles);
+        childIds = Collections.unmodifiableList(new ArrayList<>(childIds));
+    }
+
+    /**
+     * 엔티티를 스냅샷으로 변환합니다. 하위 메뉴 목록은 지연 로딩을 피하기 위해 호출자가 계산해 전달합니다.
+     */
+    public static MenuNode of(Menu menu, List<Long> childIds) {
+        return new MenuNode(
+                menu.getId(),
+                menu.getSiteCode(),
+                menu.getParentId(),
+                menu.getName(),
+                menu.getIcon(),
+                menu.getDisplayOrder(),
+                menu.getUrlPattern(),
+                menu.getType(),
+                menu.getTarget(),
+                menu.getHandler(),
+                menu.isVisible(),
+                menu.isAccessible(),
+                menu.getReadRoleSet(),
+                menu.getWriteRoleSet(),
+                0L,
+                0L,
+                menu.getAccessPolicy(),
+                copyOf(menu.getConfig()),
+                childIds
+        );
+    }
+
+    @JsonIgnore // 파생 값이므로 캐시 직렬화 대상에서 제외
+    public boolean isRoot() {
+        return parentId == null;
+    }
+
+    private static MenuConfig copyOf(MenuConfig source) {
+        MenuConfig copy = new MenuConfig();
+        if (source == null) {
+            return copy;
+        }
+        copy.setCommentEnabled(source.isCommentEnabled());
+        copy.setFileUploadEnabled(source.isFileUploadEnabled());
+        copy.setSecretEnabled(source.isSecretEnabled());
+        copy.setPageSize(source.getPageSize());
+        copy.setShowSidebar(source.isShowSidebar());
+        copy.setHeaderImage(source.getHeaderImage());
+        return copy;
+    }
+}
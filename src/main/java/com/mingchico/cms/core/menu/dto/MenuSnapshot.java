@@ -0,0 +1,92 @@
+package com.mingchico.cms.core.menu.dto;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <h3>[사이트 메뉴 스냅샷]</h3>
+ * <p>
+ * 'menu_list' 캐시에 저장되는 사이트 단위의 불변 메뉴 구조입니다.
+ * 메뉴 노드 목록과 함께 ID → 위치 인덱스를 미리 계산해 두어,
+ * 부모/자식 탐색이 DB나 지연 로딩 없이 메모리 조회만으로 끝납니다.
+ * </p>
+ *
+ * @param version 메뉴 구성(id, 수정 시각) 지문. 캐시에서 다시 읽은 스냅샷이 같은 내용인지 판별하는 데 사용합니다.
+ */
+public record MenuSnapshot(
+        String siteCode,
+        long version,
+        List<MenuNode> menus,
+        Map<Long, Integer> indexById
+) implements Serializable {
+
+    public MenuSnapshot {
+        menus = Collections.unmodifiableList(new ArrayList<>(menus));
+        indexById = Collections.unmodifiableMap(new HashMap<>(indexById));
+    }
+
+    public static MenuSnapshot empty(String siteCode) {
+        return of(siteCode, List.of());
+    }
+
+    /**
+     * <h3>[스냅샷 생성]</h3>
+     * 조회된 엔티티 목록(부모 ID, 출력 순서 정렬)을 그대로 유지하면서 자식 인덱스를 계산합니다.
+     * 엔티티의 {@code children} 연관관계는 건드리지 않으므로 추가 쿼리가 발생하지 않습니다.
+     */
+    public static MenuSnapshot of(String siteCode, List<Menu> entities) {
+        // 1. 부모 ID별 자식 ID 목록 (조회 순서 = 출력 순서 유지)
+        Map<Long, List<Long>> childIds = new LinkedHashMap<>();
+        for (Menu menu : entities) {
+            if (menu.getParentId() != null && menu.getId() != null) {
+                childIds.computeIfAbsent(menu.getParentId(), k -> new ArrayList<>()).add(menu.getId());
+            }
+        }
+
+        // 2. 노드 변환 및 위치 인덱스 구성
+        List<MenuNode> nodes = new ArrayList<>(entities.size());
+        Map<Long, Integer> indexById = new HashMap<>();
+        long version = entities.size();
+        for (Menu menu : entities) {
+            if (menu.getId() != null) {
+                indexById.put(menu.getId(), nodes.size());
+            }
+            nodes.add(MenuNode.of(menu, childIds.getOrDefault(menu.getId(), List.of())));
+            version = 31 * version + Objects.hash(menu.getId(), menu.getUpdatedAt());
+        }
+
+        return new MenuSnapshot(siteCode, version, nodes, indexById);
+    }
+
+    public Optional<MenuNode> find(Long id) {
+        Integer index = indexById.get(id);
+        return (index != null) ? Optional.of(menus.get(index)) : Optional.empty();
+    }
+
+    /**
+     * 하위 메뉴를 출력 순서대로 반환합니다.
+     */
+    public List<MenuNode> childrenOf(MenuNode parent) {
+        List<MenuNode> children = new ArrayList<>(parent.childIds().size());
+        for (Long childId : parent.childIds()) {
+            find(childId).ifPresent(children::add);
+        }
+        return children;
+    }
+
+    /**
+     * 최상위 메뉴를 출력 순서대로 반환합니다.
+     */
+    public List<MenuNode> roots() {
+        return menus.stream().filter(MenuNode::isRoot).toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mingchico.cms.core.menu.dto;
+
+import com.mingchico.cms.core.menu.domain.MenuTarget;
+
+import java.util.List;
+
+/**
+ * <h3>[네비게이션 뷰 모델]</h3>
+ * <p>
+ * 헤더/사이드 메뉴 렌더링에 필요한 값만 담은 불변 트리입니다.
+ * 이미 노출 여부와 권한으로 걸러진 상태이므로 뷰에서는 그대로 순회만 하면 됩니다.
+ * 같은 (사이트, 테마, 언어, 권한, 메뉴 버전) 조합의 요청은 동일한 인스턴스를 공유합니다.
+ * </p>
+ */
+public record NavigationView(
+        String siteCode,
+        long menuVersion,
+        List<Item> items
+) {
+
+    public NavigationView {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * @param url 링크 주소. URL 패턴의 와일드카드 세그먼트를 제거한 값입니다. (예: /board/notice/** → /board/notice)
+     */
+    public record Item(
+            Long id,
+            String name,
+            String url,
+            String icon,
+            MenuTarget target,
+            List<Item> children
+    ) {
+        public Item {
+            children = List.copyOf(children);
+        }
+    }
+}
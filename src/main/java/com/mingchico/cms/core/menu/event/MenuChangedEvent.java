@@ -0,0 +1,11 @@
+package com.mingchico.cms.core.menu.event;
+
+/**
+ * <h3>[메뉴 변경 이벤트]</h3>
+ * <p>
+ * 메뉴 생성/수정/삭제/순서 변경 시 발행됩니다.
+ * 메뉴 목록에서 파생된 캐시(네비게이션 등)를 비우는 데 사용합니다.
+ * </p>
+ */
+public record MenuChangedEvent(String siteCode) {
+}
@@ -1,8 +1,9 @@
 package com.mingchico.cms.core.menu.interceptor;
 
 import com.mingchico.cms.core.menu.MenuContext;
-import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.dto.MenuNode;
 import com.mingchico.cms.core.security.AccessContext;
+import com.mingchico.cms.core.security.RoleRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -10,8 +11,6 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.util.Set;
-
 @Component
 @RequiredArgsConstructor
 public class MenuAclInterceptor implements HandlerInterceptor {
@@ -21,26 +20,35 @@ public class MenuAclInterceptor implements HandlerInterceptor {
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        Menu menu = MenuContext.getCurrentMenu().orElse(null);
+        MenuNode menu = MenuContext.getCurrentMenu().orElse(null);
         if (menu == null) return true;
 
-        Set<String> requiredRoles = menu.getReadRoleSet();
+        // [성능] 스냅샷 생성 시 미리 계산된 마스크 사용 (요청마다 CSV 파싱/Set 생성 없음)
+        long requiredMask = menu.readRoleMask();
 
         // 1. 비회원 허용 메뉴라면 통과
-        if (requiredRoles.contains("ANONYMOUS")) return true;
+        if (RoleRegistry.allowsAnonymous(requiredMask)) return true;
 
         // 2. 권한 체크 (AccessContext 활용)
-        if (!accessContext.isAuthenticated() ||
-                requiredRoles.stream().noneMatch(accessContext::hasRole)) {
+        if (!accessContext.isAuthenticated() || !hasAnyReadRole(menu, requiredMask)) {
             throw new AccessDeniedException("해당 메뉴에 접근할 권한이 없습니다.");
         }
 
         return true;
     }
 
+    private boolean hasAnyReadRole(MenuNode menu, long requiredMask) {
+        if (RoleRegistry.hasAny(requiredMask, accessContext.getRoleMask())) {
+            return true;
+        }
+        // 레지스트리 용량을 넘는 역할이 섞인 경우에만 이름 비교로 대체
+        return RoleRegistry.isOverflowed(requiredMask)
+                && menu.readRoles().stream().anyMatch(accessContext::hasRole);
+    }
+
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         // [피드백 반영] ThreadLocal 자원 해제 보장
         MenuContext.clear();
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,6 @@ package com.mingchico.cms.core.menu.interceptor;
 
 import com.mingchico.cms.core.context.ContextHolder;
 import com.mingchico.cms.core.menu.MenuContext;
-import com.mingchico.cms.core.menu.domain.Menu;
 import com.mingchico.cms.core.menu.service.MenuResolver;
 import com.mingchico.cms.core.tenant.TenantContext;
 import jakarta.servlet.http.HttpServletRequest;
@@ -49,7 +48,7 @@ public class MenuResolutionInterceptor implements HandlerInterceptor {
                     // 2. 뷰 렌더링 및 테스트 검증용 (Request Attribute)
                     request.setAttribute("currentMenu", menu);
 
-                    log.trace("✅ Menu Resolved: {}", menu.getName());
+                    log.trace("✅ Menu Resolved: {}", menu.name());
                 });
 
         return true;
@@ -0,0 +1,53 @@
+package com.mingchico.cms.core.menu.interceptor;
+
+import com.mingchico.cms.core.context.ContextHolder;
+import com.mingchico.cms.core.menu.service.NavigationCache;
+import com.mingchico.cms.core.security.AccessContext;
+import com.mingchico.cms.core.tenant.TenantContext;
+import com.mingchico.cms.core.tenant.dto.TenantInfo;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * <h3>[네비게이션 모델 인터셉터]</h3>
+ * <p>
+ * 뷰를 렌더링하는 요청에 한해, 캐시된 네비게이션({@code navigation})을 모델에 추가합니다.
+ * 리다이렉트나 REST 응답처럼 뷰가 없는 요청에서는 아무 작업도 하지 않습니다.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NavigationInterceptor implements HandlerInterceptor {
+
+    public static final String MODEL_ATTRIBUTE = "navigation";
+
+    private final NavigationCache navigationCache;
+    private final AccessContext accessContext;
+
+    @Override
+    public void postHandle(@NonNull HttpServletRequest request,
+                           @NonNull HttpServletResponse response,
+                           @NonNull Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || !modelAndView.hasView()) {
+            return;
+        }
+        String viewName = modelAndView.getViewName();
+        if (viewName != null && (viewName.startsWith("redirect:") || viewName.startsWith("forward:"))) {
+            return;
+        }
+
+        TenantInfo tenant = TenantContext.getTenant();
+        if (tenant == null) {
+            return;
+        }
+
+        modelAndView.addObject(MODEL_ATTRIBUTE, navigationCache.get(
+                tenant.siteCode(), tenant.themeName(), ContextHolder.getLocale(), accessContext.getRoleMask()));
+    }
+}
@@ -3,9 +3,10 @@ package com.mingchico.cms.core.menu.repository;
 import com.mingchico.cms.core.menu.domain.Menu;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface MenuRepository extends JpaRepository<Menu, Long> {
+public interface MenuRepository extends JpaRepository<Menu, Long>, MenuRepositoryCustom {
 
     /**
      * [전체 메뉴 조회 - 캐싱용]
@@ -26,4 +27,15 @@ public interface MenuRepository extends JpaRepository<Menu, Long> {
      * [관리자용] 최상위 루트 메뉴만 조회 (트리 관리 화면 진입점)
      */
     List<Menu> findBySiteCodeAndParentIdIsNullOrderByDisplayOrderAsc(String siteCode);
-}
\ No newline at end of file
+
+    /**
+     * [캐시 워밍업용] 여러 사이트의 메뉴를 한 번의 IN 쿼리로 조회
+     * 사이트별로 묶었을 때 {@link #findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc}와 같은 순서가 되도록 정렬합니다.
+     */
+    List<Menu> findAllBySiteCodeInOrderBySiteCodeAscParentIdAscDisplayOrderAsc(Collection<String> siteCodes);
+
+    /**
+     * [순서 변경 검증용] 주어진 ID 중 해당 사이트에 속한 메뉴 수
+     */
+    long countBySiteCodeAndIdIn(String siteCode, Collection<Long> ids);
+}
@@ -0,0 +1,20 @@
+package com.mingchico.cms.core.menu.repository;
+
+import java.util.List;
+
+/**
+ * <h3>[메뉴 저장소 확장 (JDBC 일괄 처리)]</h3>
+ * <p>
+ * 엔티티를 하나씩 읽어 수정하는 대신, JDBC 배치로 한 번에 처리해야 하는 쓰기 작업을 정의합니다.
+ * </p>
+ */
+public interface MenuRepositoryCustom {
+
+    /**
+     * 주어진 순서대로 출력 순서(1부터)를 일괄 갱신합니다.
+     * 해당 사이트의 메뉴만 갱신되며, 이미 같은 순서인 행은 건드리지 않습니다.
+     *
+     * @return 실제로 값이 바뀐 행 수
+     */
+    int updateDisplayOrders(String siteCode, List<Long> orderedIds);
+}
@@ -0,0 +1,50 @@
+package com.mingchico.cms.core.menu.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <h3>[메뉴 저장소 확장 구현체]</h3>
+ * <p>
+ * Spring Data의 Fragment 규칙(인터페이스명 + Impl)에 따라 {@link MenuRepository}에 자동 결합됩니다.
+ * {@link JdbcTemplate}은 JPA와 같은 트랜잭션(커넥션)에 참여합니다.
+ * </p>
+ */
+@RequiredArgsConstructor
+public class MenuRepositoryCustomImpl implements MenuRepositoryCustom {
+
+    // 값이 같은 행은 WHERE 조건에서 제외하여 불필요한 쓰기와 수정 시각 갱신을 막음
+    private static final String UPDATE_DISPLAY_ORDER_SQL =
+            "UPDATE menus SET display_order = ?, updated_at = ? " +
+            "WHERE id = ? AND site_code = ? AND display_order <> ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int updateDisplayOrders(String siteCode, List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) return 0;
+
+        // 수정 시각을 갱신해야 캐시 스냅샷 버전도 바뀜 (MenuSnapshot.version)
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> args = new ArrayList<>(orderedIds.size());
+        for (int i = 0; i < orderedIds.size(); i++) {
+            int order = i + 1;
+            args.add(new Object[]{order, now, orderedIds.get(i), siteCode, order});
+        }
+
+        int changed = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_DISPLAY_ORDER_SQL, args)) {
+            // 일부 드라이버(MySQL rewriteBatchedStatements 등)는 행 수 대신 SUCCESS_NO_INFO를 반환
+            if (count > 0) changed += count;
+            else if (count == Statement.SUCCESS_NO_INFO) changed++;
+        }
+        return changed;
+    }
+}
@@ -2,21 +2,25 @@ package com.mingchico.cms.core.menu.service;
 
 import com.mingchico.cms.core.menu.domain.Menu;
 import com.mingchico.cms.core.menu.dto.MenuDto;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.event.MenuChangedEvent;
 import com.mingchico.cms.core.menu.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * <h3>[메뉴 관리자 서비스]</h3>
  * <p>
  * 사이트의 메뉴 구조와 보안 정책(ACL)을 관리합니다.
- * 메뉴 변경 시 <b>'menu_list'</b> 캐시를 무효화하여 실시간 반영을 보장합니다.
+ * 메뉴 변경 시 <b>'menu_list'</b> 캐시를 무효화하고 {@link MenuChangedEvent}를 발행하여 실시간 반영을 보장합니다.
  * </p>
  */
 @Slf4j
@@ -26,16 +30,22 @@ import java.util.stream.Collectors;
 public class MenuAdminService {
 
     private final MenuRepository menuRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * [조회] 특정 사이트의 전체 메뉴 트리를 조회합니다.
+     * <p>
+     * 사이트 메뉴 전체를 <b>단일 쿼리</b>로 평면 조회한 뒤, 부모-자식 인덱스로 메모리에서 트리를 조립합니다. (O(n))
+     * 트리의 깊이나 너비와 무관하게 쿼리 수가 일정하며, 권한 CSV도 노드당 한 번만 파싱됩니다.
+     * </p>
      */
     public List<MenuDto.Response> getMenuTree(String siteCode) {
-        // 루트 메뉴만 조회하면 @BatchSize에 의해 자식들이 효율적으로 로딩됨
-        return menuRepository.findBySiteCodeAndParentIdIsNullOrderByDisplayOrderAsc(siteCode)
-                .stream()
-                .map(MenuDto.Response::from)
-                .collect(Collectors.toList());
+        MenuSnapshot snapshot = MenuSnapshot.of(siteCode,
+                menuRepository.findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc(siteCode));
+
+        return snapshot.roots().stream()
+                .map(root -> MenuDto.Response.from(root, snapshot))
+                .toList();
     }
 
     /**
@@ -63,7 +73,9 @@ public class MenuAdminService {
                 .config(request.config())
                 .build();
 
-        return menuRepository.save(menu).getId();
+        Long id = menuRepository.save(menu).getId();
+        eventPublisher.publishEvent(new MenuChangedEvent(request.siteCode()));
+        return id;
     }
 
     /**
@@ -95,6 +107,7 @@ public class MenuAdminService {
         // DTO의 config가 null일 경우를 대비해 처리 필요하다면 여기서 체크
         menu.updateConfig(request.config());
 
+        eventPublisher.publishEvent(new MenuChangedEvent(request.siteCode()));
         log.info("✅ Menu Updated: [{}] (ID: {})", menu.getName(), id);
     }
 
@@ -114,22 +127,39 @@ public class MenuAdminService {
         }
 
         menuRepository.delete(menu);
+        eventPublisher.publishEvent(new MenuChangedEvent(siteCode));
         log.info("🗑️ Menu and its children deleted. ID: {}", id);
     }
 
     /**
      * [순서 변경] 여러 메뉴의 정렬 순서를 일괄 조정합니다. (Drag & Drop 대응)
+     * <p>
+     * 전달된 ID 순서대로 출력 순서를 1부터 다시 매기며, 단일 JDBC 배치로 저장합니다.
+     * 캐시는 호출당 한 번만 무효화됩니다.
+     * </p>
+     *
+     * @return 실제로 순서가 바뀐 메뉴 수
      */
     @Transactional
     @CacheEvict(value = "menu_list", key = "#siteCode")
-    public void reorderMenus(String siteCode, List<Long> orderedIds) {
-        for (int i = 0; i < orderedIds.size(); i++) {
-            Long id = orderedIds.get(i);
-            int order = i + 1;
-            menuRepository.findById(id).ifPresent(m -> {
-                // 이 메서드는 엔티티에 별도로 구현하거나 직접 필드 수정
-                // 예: m.updateOrder(order);
-            });
+    public int reorderMenus(String siteCode, List<Long> orderedIds) {
+        if (orderedIds.isEmpty()) return 0;
+
+        Set<Long> distinctIds = new HashSet<>(orderedIds);
+        if (distinctIds.size() != orderedIds.size()) {
+            throw new IllegalArgumentException("중복된 메뉴 ID가 포함되어 있습니다.");
+        }
+
+        // 테넌트 격리 검증 (보안상 필수): 모든 ID가 해당 사이트 소속이어야 함
+        if (menuRepository.countBySiteCodeAndIdIn(siteCode, distinctIds) != distinctIds.size()) {
+            throw new IllegalStateException("해당 사이트의 메뉴가 아닙니다.");
+        }
+
+        int changed = menuRepository.updateDisplayOrders(siteCode, orderedIds);
+        if (changed > 0) {
+            eventPublisher.publishEvent(new MenuChangedEvent(siteCode));
         }
+        log.info("🔀 Menus reordered for site: {} ({} of {} changed)", siteCode, changed, orderedIds.size());
+        return changed;
     }
-}
\ No newline at end of file
+}
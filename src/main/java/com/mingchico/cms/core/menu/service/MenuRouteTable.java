@@ -0,0 +1,248 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.dto.MenuNode;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <h3>[사이트별 메뉴 라우팅 테이블 (Path-Segment Trie)]</h3>
+ * <p>
+ * 한 사이트의 메뉴 URL 패턴을 경로 세그먼트({@code /}) 단위 트라이로 <b>한 번만 컴파일</b>해 두고,
+ * 요청 URI를 <b>O(경로 깊이)</b>로 매칭합니다. (기존: 메뉴 수만큼 AntPathMatcher 순차 호출)
+ * 생성 이후에는 상태가 바뀌지 않으므로 여러 요청 스레드가 락 없이 공유합니다.
+ * </p>
+ *
+ * <h3>[트라이 노드]</h3>
+ * <ul>
+ * <li><b>리터럴:</b> {@code board}처럼 와일드카드가 없는 세그먼트 (해시 조회)</li>
+ * <li><b>{@code *}:</b> 정확히 한 세그먼트와 매칭</li>
+ * <li><b>{@code **}:</b> 0개 이상의 세그먼트와 매칭</li>
+ * <li><b>세그먼트 패턴:</b> {@code *.do}, {@code {id}}처럼 세그먼트 일부에만 와일드카드/변수가 있는 경우
+ * 해당 세그먼트만 AntPathMatcher로 대조</li>
+ * </ul>
+ * <p>
+ * 트라이는 후보를 좁히는 역할만 하며, 채택 직전 {@link AntPathMatcher#match}로 최종 확인하므로
+ * 선행/후행 슬래시 등 세부 규칙까지 기존 매칭 결과와 동일합니다.
+ * </p>
+ *
+ * <h3>[우선순위 (Specificity)]</h3>
+ * <p>
+ * 여러 패턴이 매칭되면 아래 기준을 순서대로 비교하여 가장 구체적인 메뉴를 선택합니다.
+ * Spring {@code AntPatternComparator}의 가중치를 따르되, 요청 경로에 따라 결과가 달라지는
+ * 접두 패턴 특례를 제외하여 컴파일 시점에 전체 순서를 확정할 수 있게 했습니다.
+ * </p>
+ * <ol>
+ * <li>와일드카드 가중치가 작은 패턴 ({@code {var}}·{@code *} = 1, {@code **} = 2)</li>
+ * <li>패턴 길이가 긴 패턴 ({@code {var}}는 한 글자로 계산)</li>
+ * <li>{@code *} 개수가 적은 패턴</li>
+ * <li>원본 목록에서 먼저 나온 메뉴</li>
+ * </ol>
+ * <p>
+ * 예: {@code /{category}/list}보다 {@code /board/list}가, {@code /board/**}보다 {@code /board/notice/**}가 우선합니다.
+ * </p>
+ */
+public final class MenuRouteTable {
+
+    /** 메뉴가 하나도 없는 빈 테이블 */
+    public static final MenuRouteTable EMPTY = new MenuRouteTable(null, new Node());
+
+    private static final String PATH_SEPARATOR = "/";
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    /** 구체적인 패턴이 앞에 오도록 정렬하는 비교 기준 (원본 순서는 안정 정렬로 유지) */
+    static final Comparator<String> SPECIFICITY = Comparator
+            .comparingInt(MenuRouteTable::wildcardWeight)
+            .thenComparing(MenuRouteTable::normalizedLength, Comparator.reverseOrder())
+            .thenComparingInt(MenuRouteTable::singleWildcards);
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    // 컴파일 원본 스냅샷 (동일 인스턴스 또는 같은 버전이면 재컴파일 불필요)
+    private final MenuSnapshot source;
+
+    private final Node root;
+
+    private MenuRouteTable(MenuSnapshot source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    /**
+     * <h3>[컴파일]</h3>
+     * 스냅샷의 메뉴를 우선순위 순으로 정렬한 뒤, 그 순서(rank)를 그대로 트라이에 적재합니다.
+     * URL 패턴이 없는 메뉴는 라우팅 대상이 아니므로 제외합니다.
+     */
+    public static MenuRouteTable compile(MenuSnapshot snapshot) {
+        List<MenuNode> ranked = new ArrayList<>(snapshot.menus().size());
+        for (MenuNode menu : snapshot.menus()) {
+            if (menu.urlPattern() != null) {
+                ranked.add(menu);
+            }
+        }
+        // List.sort는 안정 정렬이므로 우선순위가 같으면 원본 순서를 유지
+        ranked.sort(Comparator.comparing(MenuNode::urlPattern, SPECIFICITY));
+
+        Node root = new Node();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            MenuNode menu = ranked.get(rank);
+
+            Node node = root;
+            for (String segment : tokenize(menu.urlPattern())) {
+                node = node.child(segment);
+            }
+            // rank 오름차순으로 적재되므로 노드별 목록도 자연히 우선순위 순
+            node.routes.add(new Route(menu, menu.urlPattern(), rank));
+        }
+
+        return new MenuRouteTable(snapshot, root);
+    }
+
+    /**
+     * 요청 URI에 매칭되는 가장 구체적인 메뉴를 찾습니다.
+     */
+    public Optional<MenuNode> resolve(String requestUri) {
+        String[] segments = tokenize(requestUri);
+        Route best = walk(root, segments, 0, requestUri, null);
+        return (best != null) ? Optional.of(best.menu()) : Optional.empty();
+    }
+
+    /**
+     * 주어진 스냅샷이 이 테이블의 컴파일 원본과 같은 내용인지 확인합니다.
+     * 같은 인스턴스면 즉시 true, 아니면 (Redis처럼 매번 새로 역직렬화되는 경우) 버전을 비교합니다.
+     */
+    public boolean isCompiledFrom(MenuSnapshot snapshot) {
+        if (source == snapshot) return true;
+        return source != null && source.version() == snapshot.version()
+                && Objects.equals(source.siteCode(), snapshot.siteCode());
+    }
+
+    /**
+     * 세그먼트를 따라 트라이를 탐색하며 매칭된 경로 중 rank가 가장 낮은(우선순위 높은) 경로를 고릅니다.
+     *
+     * @param index 다음에 소비할 세그먼트 위치 (segments.length면 모두 소비)
+     */
+    private static Route walk(Node node, String[] segments, int index, String requestUri, Route best) {
+        if (node.multi != null) {
+            // '**'는 0개 이상의 세그먼트를 소비할 수 있음 (모두 소비한 뒤에도 매칭 가능)
+            for (int next = index; next <= segments.length; next++) {
+                best = walk(node.multi, segments, next, requestUri, best);
+            }
+        }
+
+        if (index == segments.length) {
+            best = accept(node, requestUri, best);
+            // AntPathMatcher 규칙: '/a/*'는 '/a/'와도 매칭
+            if (node.single != null && requestUri.endsWith(PATH_SEPARATOR)) {
+                best = accept(node.single, requestUri, best);
+            }
+            return best;
+        }
+
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+            best = walk(literal, segments, index + 1, requestUri, best);
+        }
+        if (node.single != null) {
+            best = walk(node.single, segments, index + 1, requestUri, best);
+        }
+        for (Map.Entry<String, Node> entry : node.patterns.entrySet()) {
+            if (PATH_MATCHER.match(entry.getKey(), segment)) {
+                best = walk(entry.getValue(), segments, index + 1, requestUri, best);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 노드에 등록된 경로 중 현재 최선보다 우선순위가 높은 경로를 전체 패턴으로 최종 확인합니다.
+     * (같은 세그먼트 구성이라도 선행/후행 슬래시 차이로 매칭 여부가 갈릴 수 있음)
+     */
+    private static Route accept(Node node, String requestUri, Route best) {
+        for (Route route : node.routes) {
+            if (best != null && route.rank() >= best.rank()) {
+                break;
+            }
+            if (PATH_MATCHER.match(route.pattern(), requestUri)) {
+                return route;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * AntPathMatcher와 동일한 방식으로 세그먼트를 분리합니다. (빈 세그먼트 무시, 공백 유지)
+     */
+    private static String[] tokenize(String path) {
+        return StringUtils.tokenizeToStringArray(path, PATH_SEPARATOR, false, true);
+    }
+
+    private static int wildcardWeight(String pattern) {
+        return uriVariables(pattern) + singleWildcards(pattern) + 2 * multiWildcards(pattern);
+    }
+
+    private static int normalizedLength(String pattern) {
+        // {id}, {slug:[a-z]+} 등 변수는 이름/정규식 길이와 무관하게 한 글자로 취급
+        return pattern.replaceAll("\\{[^}]*}", "#").length();
+    }
+
+    private static int uriVariables(String pattern) {
+        return countOf(pattern, "{");
+    }
+
+    private static int singleWildcards(String pattern) {
+        return countOf(pattern, SINGLE_WILDCARD) - 2 * multiWildcards(pattern);
+    }
+
+    private static int multiWildcards(String pattern) {
+        return countOf(pattern, MULTI_WILDCARD);
+    }
+
+    private static int countOf(String pattern, String token) {
+        return StringUtils.countOccurrencesOf(pattern, token);
+    }
+
+    private record Route(MenuNode menu, String pattern, int rank) {
+    }
+
+    /**
+     * 트라이 노드. {@link #compile} 내부에서만 구성되며 이후에는 읽기 전용으로만 사용됩니다.
+     */
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Node> patterns = new LinkedHashMap<>();
+        private final List<Route> routes = new ArrayList<>(1);
+        private Node single;
+        private Node multi;
+
+        private Node child(String segment) {
+            if (SINGLE_WILDCARD.equals(segment)) {
+                if (single == null) single = new Node();
+                return single;
+            }
+            if (MULTI_WILDCARD.equals(segment)) {
+                if (multi == null) multi = new Node();
+                return multi;
+            }
+            if (isSegmentPattern(segment)) {
+                return patterns.computeIfAbsent(segment, k -> new Node());
+            }
+            return literals.computeIfAbsent(segment, k -> new Node());
+        }
+
+        private static boolean isSegmentPattern(String segment) {
+            return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.repository.MenuRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * <h3>[메뉴 라우팅 테이블 제공자]</h3>
+ * <p>
+ * 사이트별 메뉴 스냅샷('menu_list' 캐시)과, 그 스냅샷으로 컴파일한 {@link MenuRouteTable}을 관리합니다.
+ * </p>
+ *
+ * <h3>[설계 포인트]</h3>
+ * <ul>
+ * <li><b>프록시 우회 방지:</b> 'menu_list'를 {@link CacheManager}로 직접 조회하므로,
+ * 같은 클래스 내부 호출로 {@code @Cacheable}이 무시되어 매 요청 DB를 조회하던 문제가 없습니다.</li>
+ * <li><b>무효화 연동:</b> 라우팅 테이블은 'menu_list' 값으로부터 파생되므로 별도 무효화가 필요 없습니다.
+ * {@code MenuAdminService}가 'menu_list'를 비우면(다른 노드는 Redis/L1 무효화로) 다음 조회 시
+ * 원본이 바뀐 것을 감지하여 한 번만 다시 컴파일합니다.</li>
+ * <li><b>엔티티 분리:</b> 캐시에는 JPA 엔티티 대신 불변 {@link MenuSnapshot}을 저장하여
+ * 스레드 간 공유, Redis 직렬화, 지연 로딩 예외 문제를 없앱니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MenuRouteTableProvider implements CacheStatsContributor {
+
+    private static final String MENU_LIST_CACHE = "menu_list";
+
+    private final MenuRepository menuRepository;
+    private final Cache menuListCache;
+
+    // 사이트별 컴파일 결과 (원본 스냅샷이 바뀌면 덮어씀)
+    private final com.github.benmanes.caffeine.cache.Cache<String, MenuRouteTable> routeTables = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .recordStats()
+            .build();
+
+    public MenuRouteTableProvider(MenuRepository menuRepository, CacheManager cacheManager) {
+        this.menuRepository = menuRepository;
+
+        // [Fail-Fast] 캐시 설정 누락은 런타임에 치명적이므로 기동 시점에 차단
+        Cache cache = cacheManager.getCache(MENU_LIST_CACHE);
+        if (cache == null) {
+            throw new IllegalStateException("❌ Cache Config Error: '" + MENU_LIST_CACHE + "' cache is not found.");
+        }
+        this.menuListCache = cache;
+    }
+
+    /**
+     * 사이트의 라우팅 테이블을 반환합니다. 원본 스냅샷이 그대로면 기존 테이블을 재사용합니다.
+     */
+    public MenuRouteTable getRouteTable(String siteCode) {
+        MenuSnapshot snapshot = getSnapshot(siteCode);
+
+        MenuRouteTable cached = routeTables.getIfPresent(siteCode);
+        if (cached != null && cached.isCompiledFrom(snapshot)) {
+            return cached;
+        }
+
+        MenuRouteTable compiled = MenuRouteTable.compile(snapshot);
+        routeTables.put(siteCode, compiled);
+        log.debug("🧭 Menu route table compiled for site: {} ({} menus)", siteCode, snapshot.menus().size());
+        return compiled;
+    }
+
+    /**
+     * [캐시 계층] 사이트별 메뉴 스냅샷
+     * 'menu_list' 캐시는 메뉴 추가/수정/삭제 시에만 갱신(Evict)되며, 미스 시에만 DB를 조회합니다.
+     */
+    public MenuSnapshot getSnapshot(String siteCode) {
+        MenuSnapshot snapshot = menuListCache.get(siteCode, () -> {
+            log.debug("⚡ Loading menus from DB for site: {}", siteCode);
+            return MenuSnapshot.of(siteCode, menuRepository.findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc(siteCode));
+        });
+        return (snapshot != null) ? snapshot : MenuSnapshot.empty(siteCode);
+    }
+
+    @Override
+    public Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> getStatsCaches() {
+        return Map.of("menu.route_tables", routeTables);
+    }
+}
@@ -0,0 +1,145 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import com.mingchico.cms.core.menu.dto.MenuNode;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.dto.NavigationView;
+import com.mingchico.cms.core.menu.event.MenuChangedEvent;
+import com.mingchico.cms.core.security.RoleRegistry;
+import com.mingchico.cms.core.tenant.event.TenantMetadataChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <h3>[네비게이션 렌더링 캐시]</h3>
+ * <p>
+ * 헤더/사이드 메뉴는 사이트, 테마, 언어, 사용자 권한 조합에 따라서만 달라지므로,
+ * 조합별로 한 번 만든 {@link NavigationView}를 재사용하여 페이지마다 트리를 다시 만들지 않습니다.
+ * </p>
+ *
+ * <h3>[캐시 키와 무효화]</h3>
+ * <ul>
+ * <li><b>키:</b> (siteCode, themeName, locale, roleMask, menuVersion)</li>
+ * <li><b>메뉴 변경:</b> 키에 스냅샷 버전이 포함되므로 변경 즉시 새 키로 조회됩니다.
+ * 남은 이전 항목은 {@link MenuChangedEvent} 수신 시 사이트 단위로 정리합니다.</li>
+ * <li><b>테마 변경:</b> 테넌트 메타데이터의 테마명이 키에 포함되며,
+ * {@link TenantMetadataChangedEvent} 수신 시 해당 사이트 항목을 정리합니다.</li>
+ * </ul>
+ * <p>
+ * 다른 노드에서 발생한 변경도 공유 캐시(menu_list, tenant_meta)를 통해 키가 바뀌므로 별도 전파가 필요 없습니다.
+ * 적중률은 {@link CacheStatsContributor}로 관리자 캐시 통계 API에 노출됩니다.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NavigationCache implements CacheStatsContributor {
+
+    private final MenuRouteTableProvider menuRouteTableProvider;
+
+    private final com.github.benmanes.caffeine.cache.Cache<Key, NavigationView> views = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .recordStats()
+            .build();
+
+    public NavigationCache(MenuRouteTableProvider menuRouteTableProvider) {
+        this.menuRouteTableProvider = menuRouteTableProvider;
+    }
+
+    /**
+     * 현재 조합에 맞는 네비게이션을 반환합니다. 캐시 미스 시에만 트리를 구성합니다.
+     *
+     * @param roleMask 사용자 권한 비트마스크 (비로그인 시 0)
+     */
+    public NavigationView get(String siteCode, String themeName, Locale locale, long roleMask) {
+        MenuSnapshot snapshot = menuRouteTableProvider.getSnapshot(siteCode);
+        Key key = new Key(siteCode, themeName, locale, roleMask, snapshot.version());
+        return views.get(key, k -> build(snapshot, roleMask));
+    }
+
+    /**
+     * 사이트의 모든 조합을 비웁니다.
+     */
+    public void evictSite(String siteCode) {
+        views.asMap().keySet().removeIf(key -> key.siteCode().equals(siteCode));
+        log.debug("🧹 Navigation cache evicted for site: {}", siteCode);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        evictSite(event.siteCode());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTenantChanged(TenantMetadataChangedEvent event) {
+        evictSite(event.siteCode());
+    }
+
+    @Override
+    public Map<String, com.github.benmanes.caffeine.cache.Cache<?, ?>> getStatsCaches() {
+        return Map.of("menu.navigation", views);
+    }
+
+    private NavigationView build(MenuSnapshot snapshot, long roleMask) {
+        return new NavigationView(snapshot.siteCode(), snapshot.version(),
+                buildItems(snapshot, snapshot.roots(), roleMask));
+    }
+
+    private List<NavigationView.Item> buildItems(MenuSnapshot snapshot, List<MenuNode> nodes, long roleMask) {
+        List<NavigationView.Item> items = new ArrayList<>(nodes.size());
+        for (MenuNode node : nodes) {
+            if (!isDisplayable(node, roleMask)) {
+                continue; // 숨김/접근 불가/권한 없는 메뉴는 하위까지 제외
+            }
+            items.add(new NavigationView.Item(
+                    node.id(),
+                    node.name(),
+                    linkOf(node.urlPattern()),
+                    node.icon(),
+                    node.target(),
+                    buildItems(snapshot, snapshot.childrenOf(node), roleMask)
+            ));
+        }
+        return items;
+    }
+
+    private boolean isDisplayable(MenuNode node, long roleMask) {
+        if (!node.visible() || !node.accessible()) return false;
+
+        long required = node.readRoleMask();
+        if (RoleRegistry.allowsAnonymous(required)) return true;
+        // 레지스트리 용량 초과 역할은 비트로 비교할 수 없으므로 노출하지 않음 (접근 자체는 ACL 인터셉터가 판단)
+        return RoleRegistry.hasAny(required, roleMask);
+    }
+
+    /**
+     * URL 패턴에서 첫 와일드카드 세그먼트 이전까지를 링크 주소로 사용합니다.
+     */
+    private static String linkOf(String urlPattern) {
+        if (urlPattern == null) return null;
+
+        int wildcard = urlPattern.length();
+        for (char c : new char[]{'*', '?', '{'}) {
+            int index = urlPattern.indexOf(c);
+            if (index >= 0) wildcard = Math.min(wildcard, index);
+        }
+        String prefix = urlPattern.substring(0, wildcard);
+        int lastSlash = prefix.lastIndexOf('/');
+        if (wildcard < urlPattern.length() && lastSlash >= 0) {
+            prefix = prefix.substring(0, lastSlash);
+        }
+        return prefix.isEmpty() ? "/" : prefix;
+    }
+
+    private record Key(String siteCode, String themeName, Locale locale, long roleMask, long menuVersion) {
+    }
+}
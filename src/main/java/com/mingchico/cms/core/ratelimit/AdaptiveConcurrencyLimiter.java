@@ -0,0 +1,260 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.mingchico.cms.core.context.ChannelType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h3>[적응형 동시 처리 한도 (Adaptive Concurrency Limiter)]</h3>
+ * <p>
+ * 처리 중(in-flight)인 요청 수를 전체/테넌트별로 세고, 한도를 넘는 요청은 즉시 거절합니다.
+ * 한도는 고정값이 아니라 완료된 요청의 지연 시간(RTT)을 관측하여 자동으로 조절됩니다.
+ * (백엔드가 느려지면 줄이고, 여유가 생기면 늘림)
+ * </p>
+ *
+ * <h3>[진입 판정]</h3>
+ * <ul>
+ * <li><b>우선순위 레인:</b> 채널별 비율만큼만 전체 한도를 채울 수 있습니다. 예: WEB 80%, ADMIN 100%이면
+ * 혼잡 시 WEB이 먼저 거절되고 남은 20%는 관리자 요청이 사용합니다.</li>
+ * <li><b>테넌트 격리:</b> 한 테넌트는 전체 한도의 일정 비율까지만 동시에 점유할 수 있습니다.</li>
+ * </ul>
+ *
+ * <h3>[한도 조절]</h3>
+ * <ul>
+ * <li><b>GRADIENT:</b> 완료된 요청을 {@code window-size}개씩 모아 창(window)마다 한 번만 갱신합니다.
+ * 창의 <b>최소 RTT</b>를 현재 RTT로 보고 {@code gradient = clamp(0.5, 1, tolerance × 장기 평균 RTT / 현재 RTT)},
+ * {@code 새 한도 = 한도 × gradient + √한도}를 {@code smoothing} 비율로 반영합니다.
+ * 지연이 평소 수준이면 √한도만큼 늘어나고, 지연이 커질수록 최대 절반까지 줄어듭니다.
+ * 최소값을 쓰므로 느린 엔드포인트(리포트 페이지 등)가 섞여도 창 전체가 느려지지 않는 한(= 실제 포화) 한도를 줄이지 않습니다.</li>
+ * <li><b>AIMD:</b> 지연 임계치 초과 또는 서버 오류 시 {@code backoffRatio}를 곱하고, 그 외에는 1씩 늘립니다.</li>
+ * </ul>
+ * <p>
+ * 처리 중 요청이 한도의 절반에도 못 미치면(트래픽이 적어 한도를 시험해 보지 못한 상태) 한도를 늘리지 않습니다.
+ * 표본 집계와 한도 갱신은 {@link ReentrantLock#tryLock()}으로 직렬화하며, 다른 스레드가 집계 중이면 해당 표본은 건너뜁니다.
+ * (요청 스레드가 갱신 때문에 대기하지 않음)
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter implements MeterBinder {
+
+    private static final String ANONYMOUS_TENANT = "anonymous";
+
+    private final ConcurrencyLimitProperties properties;
+    private final ConcurrencyLimitProperties.Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Map<String, AtomicInteger> tenantInflight = new ConcurrentHashMap<>();
+
+    private final Map<ChannelType, Integer> laneShares = new EnumMap<>(ChannelType.class);
+    private final Map<ChannelType, LongAdder> rejections = new EnumMap<>(ChannelType.class);
+    private final LongAdder tenantRejections = new LongAdder();
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    // updateLock으로 보호 (갱신 스레드만 접근)
+    private double estimatedLimit;
+    private double longRttNanos;
+    // [GRADIENT] 현재 창의 집계 (표본 수, 최소 RTT, 시작 시점 최대 처리 중 요청 수)
+    private int windowSamples;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowMaxInflight;
+
+    // 요청 스레드가 읽는 현재 한도 (estimatedLimit을 반올림하여 게시)
+    private volatile int limit;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        if (properties.getMinLimit() > properties.getMaxLimit()) {
+            throw new IllegalStateException("Concurrency limit min-limit must not exceed max-limit.");
+        }
+        this.properties = properties;
+        this.algorithm = properties.getAlgorithm();
+        this.minLimit = properties.getMinLimit();
+        this.maxLimit = properties.getMaxLimit();
+        this.estimatedLimit = Math.clamp(properties.getInitialLimit(), minLimit, maxLimit);
+        this.limit = (int) estimatedLimit;
+
+        for (ChannelType channel : ChannelType.values()) {
+            laneShares.put(channel, properties.getLaneSharePercents().getOrDefault(channel, 100));
+            rejections.put(channel, new LongAdder());
+        }
+    }
+
+    /**
+     * 처리 슬롯을 하나 점유합니다.
+     *
+     * @return 점유에 성공하면 허가증(완료 시 반드시 {@link Permit#release} 호출), 한도 초과면 null
+     */
+    public Permit tryAcquire(ChannelType channel, String siteCode) {
+        int current = limit;
+        int laneLimit = Math.max(1, current * laneShares.get(channel) / 100);
+        int tenantLimit = Math.max(1, current * properties.getTenantSharePercent() / 100);
+
+        int started = inflight.incrementAndGet();
+        if (started > laneLimit) {
+            inflight.decrementAndGet();
+            rejections.get(channel).increment();
+            return null;
+        }
+
+        String tenant = (siteCode != null) ? siteCode : ANONYMOUS_TENANT;
+        AtomicInteger tenantCounter = tenantInflight.computeIfAbsent(tenant, k -> new AtomicInteger());
+        if (tenantCounter.incrementAndGet() > tenantLimit) {
+            tenantCounter.decrementAndGet();
+            inflight.decrementAndGet();
+            tenantRejections.increment();
+            return null;
+        }
+        return new Permit(tenantCounter, started);
+    }
+
+    /** 현재 동시 처리 한도 */
+    public int getLimit() {
+        return limit;
+    }
+
+    /** 현재 처리 중인 요청 수 */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    long rejectedCount(ChannelType channel) {
+        return rejections.get(channel).sum();
+    }
+
+    long tenantRejectedCount() {
+        return tenantRejections.sum();
+    }
+
+    /**
+     * 완료된 요청의 관측값으로 한도를 갱신합니다.
+     */
+    private void onSample(long rttNanos, int inflightAtStart, boolean dropped) {
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            double next = switch (algorithm) {
+                case GRADIENT -> {
+                    if (!collect(rttNanos, inflightAtStart)) {
+                        yield estimatedLimit;
+                    }
+                    double updated = gradient(windowMinRttNanos, windowMaxInflight);
+                    resetWindow();
+                    yield updated;
+                }
+                case AIMD -> aimd(rttNanos, inflightAtStart, dropped);
+            };
+            estimatedLimit = Math.clamp(next, minLimit, maxLimit);
+            limit = (int) Math.round(estimatedLimit);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 표본을 현재 창에 더하고, 창이 가득 찼는지 반환합니다.
+     */
+    private boolean collect(long rttNanos, int inflightAtStart) {
+        windowSamples++;
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtStart);
+        return windowSamples >= properties.getGradient().getWindowSize();
+    }
+
+    private void resetWindow() {
+        windowSamples = 0;
+        windowMinRttNanos = Long.MAX_VALUE;
+        windowMaxInflight = 0;
+    }
+
+    private double gradient(long rttNanos, int inflightAtStart) {
+        ConcurrencyLimitProperties.Gradient cfg = properties.getGradient();
+        double shortRtt = Math.max(1, rttNanos);
+
+        // 장기 평균 RTT (창 단위 지수 이동 평균, 첫 창으로 초기화)
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            double alpha = 2.0 / (cfg.getLongWindow() + 1);
+            longRttNanos += (shortRtt - longRttNanos) * alpha;
+        }
+        // 부하가 끝난 뒤 장기 평균이 높게 남아 있으면 빠르게 끌어내려 회복을 앞당김
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // 한도를 시험해 볼 만큼 트래픽이 없었다면 판단 보류
+        if (inflightAtStart < estimatedLimit / 2) {
+            return estimatedLimit;
+        }
+
+        double gradient = Math.clamp(cfg.getRttTolerance() * longRttNanos / shortRtt, 0.5, 1.0);
+        double queueSize = Math.sqrt(estimatedLimit);
+        double target = estimatedLimit * gradient + queueSize;
+        return estimatedLimit * (1 - cfg.getSmoothing()) + target * cfg.getSmoothing();
+    }
+
+    private double aimd(long rttNanos, int inflightAtStart, boolean dropped) {
+        ConcurrencyLimitProperties.Aimd cfg = properties.getAimd();
+        if (dropped || rttNanos > cfg.getLatencyThreshold().toNanos()) {
+            return estimatedLimit * cfg.getBackoffRatio();
+        }
+        if (inflightAtStart * 2 >= estimatedLimit) {
+            return estimatedLimit + 1;
+        }
+        return estimatedLimit;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cms.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .register(registry);
+        Gauge.builder("cms.concurrency.inflight", this, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Requests currently in flight")
+                .register(registry);
+        rejections.forEach((channel, counter) ->
+                FunctionCounter.builder("cms.concurrency.rejected", counter, LongAdder::sum)
+                        .tag("reason", "lane")
+                        .tag("channel", channel.name())
+                        .register(registry));
+        FunctionCounter.builder("cms.concurrency.rejected", tenantRejections, LongAdder::sum)
+                .tag("reason", "tenant")
+                .tag("channel", "ALL")
+                .register(registry);
+    }
+
+    /**
+     * <h3>[처리 슬롯 허가증]</h3>
+     * 요청 처리가 끝나면 (성공/실패와 무관하게) 정확히 한 번 {@link #release}를 호출해야 합니다.
+     */
+    public final class Permit {
+
+        private final AtomicInteger tenantCounter;
+        private final int inflightAtStart;
+
+        private Permit(AtomicInteger tenantCounter, int inflightAtStart) {
+            this.tenantCounter = tenantCounter;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        /**
+         * @param rttNanos 요청 처리에 걸린 시간
+         * @param dropped  서버 측 실패(5xx, 예외) 여부
+         */
+        public void release(long rttNanos, boolean dropped) {
+            tenantCounter.decrementAndGet();
+            inflight.decrementAndGet();
+            onSample(rttNanos, inflightAtStart, dropped);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.mingchico.cms.core.ratelimit;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * <h3>[대소문자 무시 접두/접미 트라이]</h3>
+ * <p>
+ * 기동 시점에 제외 경로(접두사) 또는 제외 확장자(접미사) 목록을 문자 트라이로 컴파일하여,
+ * 요청마다 {@code toLowerCase()}로 새 문자열을 만들거나 목록 전체를 순회하지 않고
+ * URI를 한 번 훑는 것으로 판별합니다. (조회 시 객체 할당 없음, 비용은 목록 크기와 무관)
+ * </p>
+ * <p>
+ * 판별 결과는 기존 {@code uri.toLowerCase().startsWith(entry)} / {@code endsWith(entry)}와 같으며,
+ * 등록 항목도 소문자로 정규화합니다.
+ * </p>
+ */
+final class AffixTrie {
+
+    private final Node root = new Node();
+    private final boolean suffix;
+
+    private AffixTrie(Collection<String> entries, boolean suffix) {
+        this.suffix = suffix;
+        for (String entry : entries) {
+            insert(entry.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /** 접두사 목록 (예: 제외 경로 "/actuator") */
+    static AffixTrie prefixes(Collection<String> entries) {
+        return new AffixTrie(entries, false);
+    }
+
+    /** 접미사 목록 (예: 제외 확장자 ".css") */
+    static AffixTrie suffixes(Collection<String> entries) {
+        return new AffixTrie(entries, true);
+    }
+
+    /**
+     * 등록된 항목 중 하나로 시작(접두 트라이) 또는 끝나는지(접미 트라이) 확인합니다.
+     */
+    boolean matches(CharSequence value) {
+        Node node = root;
+        if (node.terminal) return true; // 빈 문자열 항목은 모든 값과 매칭
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = Character.toLowerCase(value.charAt(suffix ? length - 1 - i : i));
+            node = node.child(c);
+            if (node == null) return false;
+            if (node.terminal) return true;
+        }
+        return false;
+    }
+
+    private void insert(String entry) {
+        Node node = root;
+        int length = entry.length();
+        for (int i = 0; i < length; i++) {
+            node = node.childOrCreate(entry.charAt(suffix ? length - 1 - i : i));
+        }
+        node.terminal = true;
+    }
+
+    /**
+     * 트라이 노드. 분기 수가 적으므로 맵 대신 나란한 배열을 선형 탐색합니다.
+     */
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        private Node child(char c) {
+            char[] labels = this.labels;
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) return children[i];
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node existing = child(c);
+            if (existing != null) return existing;
+
+            Node created = new Node();
+            labels = Arrays.copyOf(labels, labels.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            labels[labels.length - 1] = c;
+            children[children.length - 1] = created;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.mingchico.cms.core.ratelimit;
+
+import java.util.Collection;
+
+/**
+ * <h3>[CIDR 이진 기수 트리 (Radix Tree)]</h3>
+ * <p>
+ * 신뢰 프록시 목록(예: {@code 10.0.0.0/8}, {@code ::1})을 기동 시점에 주소 비트 단위 트리로 컴파일합니다.
+ * 요청마다 모든 {@code IpAddressMatcher}를 순회하며 {@code InetAddress}를 만드는 대신,
+ * 원격 주소 문자열을 직접 파싱하여 트리를 최대 32(IPv4)/128(IPv6)단계만 내려갑니다.
+ * (조회 시 객체 할당 없음, 비용은 목록 크기와 무관)
+ * </p>
+ * <ul>
+ * <li>IPv4와 IPv6는 별도 트리로 관리하며, 주소 체계가 다르면 매칭되지 않습니다. ({@code IpAddressMatcher}와 동일)</li>
+ * <li>IPv4-mapped IPv6({@code ::ffff:a.b.c.d})는 IPv4로 취급합니다. ({@code InetAddress} 해석 규칙과 동일)</li>
+ * <li>IPv6 영역 ID({@code %eth0})는 무시합니다.</li>
+ * <li>등록 시에도 같은 파서를 사용하므로, IP 리터럴이 아닌 값(호스트명 등)은 DNS 조회 없이 거부됩니다.</li>
+ * </ul>
+ */
+final class CidrRadixTree {
+
+    // walk()의 prefix 인자: 조회 / 프리픽스 없이 등록된 단일 주소(주소 체계의 전체 비트)
+    private static final int LOOKUP = -1;
+    private static final int HOST = Integer.MAX_VALUE;
+
+    private final Node ipv4 = new Node();
+    private final Node ipv6 = new Node();
+
+    /**
+     * @param cidrs "주소" 또는 "주소/프리픽스 길이" 목록
+     * @throws IllegalArgumentException 주소나 프리픽스 길이가 올바르지 않은 경우
+     */
+    CidrRadixTree(Collection<String> cidrs) {
+        for (String cidr : cidrs) {
+            insert(cidr.trim());
+        }
+    }
+
+    /**
+     * 주소 문자열이 등록된 대역 중 하나에 속하는지 확인합니다. 해석할 수 없는 주소는 false입니다.
+     */
+    boolean matches(String address) {
+        if (address == null || address.isEmpty()) return false;
+        return walk(address, LOOKUP);
+    }
+
+    /**
+     * 주소 문자열을 직접 파싱하여 조회({@link #LOOKUP}) 또는 등록(프리픽스 길이)을 수행합니다.
+     *
+     * @return 조회: 매칭 여부 / 등록: 주소와 프리픽스 길이가 올바른지 여부
+     */
+    private boolean walk(String address, int prefix) {
+        int end = address.indexOf('%');
+        if (end < 0) end = address.length();
+
+        if (address.indexOf(':') < 0) {
+            long v4 = parseIpv4(address, 0, end);
+            return v4 >= 0 && apply(ipv4, v4 << 32, 0, 32, prefix);
+        }
+
+        // --- IPv6: '::' 앞부분(head)과 뒷부분(tail)을 각각 128비트(hi, lo)로 누적 ---
+        long headHi = 0, headLo = 0, tailHi = 0, tailLo = 0;
+        int headGroups = 0, tailGroups = 0;
+        boolean compressed = false;
+        int i = 0;
+
+        if (address.startsWith("::")) {
+            compressed = true;
+            i = 2;
+        } else if (address.charAt(0) == ':') {
+            return false;
+        }
+
+        while (i < end) {
+            int start = i;
+            int value = 0;
+            int digits = 0;
+            boolean embeddedIpv4 = false;
+            while (i < end && address.charAt(i) != ':') {
+                char c = address.charAt(i);
+                if (c == '.') {
+                    embeddedIpv4 = true;
+                    break;
+                }
+                int digit = Character.digit(c, 16);
+                if (digit < 0 || ++digits > 4) return false;
+                value = (value << 4) | digit;
+                i++;
+            }
+
+            int bits;
+            long chunk;
+            if (embeddedIpv4) {
+                // 마지막 32비트를 a.b.c.d 형식으로 표기한 경우 (예: ::ffff:10.0.0.1)
+                long v4 = parseIpv4(address, start, end);
+                if (v4 < 0) return false;
+                chunk = v4;
+                bits = 32;
+                i = end;
+            } else {
+                if (digits == 0) return false;
+                chunk = value;
+                bits = 16;
+            }
+
+            if (compressed) {
+                tailHi = (tailHi << bits) | (tailLo >>> (64 - bits));
+                tailLo = (tailLo << bits) | chunk;
+                tailGroups += bits / 16;
+            } else {
+                headHi = (headHi << bits) | (headLo >>> (64 - bits));
+                headLo = (headLo << bits) | chunk;
+                headGroups += bits / 16;
+            }
+
+            if (i < end) {
+                i++; // ':'
+                if (i < end && address.charAt(i) == ':') {
+                    if (compressed) return false; // '::'는 한 번만 허용
+                    compressed = true;
+                    i++;
+                } else if (i == end) {
+                    return false; // 끝에 ':' 하나만 있는 경우
+                }
+            }
+        }
+
+        int groups = headGroups + tailGroups;
+        if (compressed ? groups > 7 : groups != 8) return false;
+
+        // head를 상위 비트로 올리고 tail과 합침 ('::' 자리는 0으로 채워짐)
+        int shift = (8 - headGroups) * 16;
+        long hi, lo;
+        if (shift >= 128) {
+            hi = 0;
+            lo = 0;
+        } else if (shift >= 64) {
+            hi = headLo << (shift - 64);
+            lo = 0;
+        } else if (shift > 0) {
+            hi = (headHi << shift) | (headLo >>> (64 - shift));
+            lo = headLo << shift;
+        } else {
+            hi = headHi;
+            lo = headLo;
+        }
+        hi |= tailHi;
+        lo |= tailLo;
+
+        if (hi == 0 && (lo >>> 32) == 0xFFFFL) {
+            return apply(ipv4, lo << 32, 0, 32, prefix); // IPv4-mapped
+        }
+        return apply(ipv6, hi, lo, 128, prefix);
+    }
+
+    private static boolean apply(Node root, long hi, long lo, int bits, int prefix) {
+        if (prefix == LOOKUP) {
+            return contains(root, hi, lo, bits);
+        }
+        int length = (prefix == HOST) ? bits : prefix;
+        if (length > bits) {
+            return false;
+        }
+        add(root, hi, lo, length);
+        return true;
+    }
+
+    /**
+     * "a.b.c.d"를 부호 없는 32비트 값으로 파싱합니다. 형식이 틀리면 -1.
+     */
+    private static long parseIpv4(String s, int from, int to) {
+        long result = 0;
+        int octets = 0;
+        int value = 0;
+        int digits = 0;
+        for (int i = from; i <= to; i++) {
+            if (i == to || s.charAt(i) == '.') {
+                if (digits == 0 || value > 255 || ++octets > 4) return -1;
+                result = (result << 8) | value;
+                value = 0;
+                digits = 0;
+                continue;
+            }
+            char c = s.charAt(i);
+            if (c < '0' || c > '9' || ++digits > 3) return -1;
+            value = value * 10 + (c - '0');
+        }
+        return (octets == 4) ? result : -1;
+    }
+
+    private static boolean contains(Node root, long hi, long lo, int bits) {
+        Node node = root;
+        if (node.terminal) return true; // /0
+        for (int i = 0; i < bits; i++) {
+            long bit = (i < 64) ? (hi >>> (63 - i)) & 1 : (lo >>> (127 - i)) & 1;
+            node = (bit == 0) ? node.zero : node.one;
+            if (node == null) return false;
+            if (node.terminal) return true;
+        }
+        return false;
+    }
+
+    private void insert(String cidr) {
+        int slash = cidr.indexOf('/');
+        String host = (slash < 0) ? cidr : cidr.substring(0, slash);
+
+        int prefix = HOST;
+        if (slash >= 0) {
+            String length = cidr.substring(slash + 1);
+            if (length.isEmpty() || length.length() > 3 || !length.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                throw new IllegalArgumentException("Invalid trusted proxy prefix length: " + cidr);
+            }
+            prefix = Integer.parseInt(length);
+        }
+
+        // InetAddress.getByName()은 리터럴이 아니면 DNS를 조회하므로, 조회용 파서로 IP 리터럴만 받아들임
+        if (host.isEmpty() || !walk(host, prefix)) {
+            throw new IllegalArgumentException("Invalid trusted proxy address or prefix length: " + cidr);
+        }
+    }
+
+    private static void add(Node root, long hi, long lo, int bits) {
+        Node node = root;
+        for (int i = 0; i < bits; i++) {
+            long bit = (i < 64) ? (hi >>> (63 - i)) & 1 : (lo >>> (127 - i)) & 1;
+            if (bit == 0) {
+                if (node.zero == null) node.zero = new Node();
+                node = node.zero;
+            } else {
+                if (node.one == null) node.one = new Node();
+                node = node.one;
+            }
+        }
+        node.terminal = true;
+    }
+
+    private static final class Node {
+        private Node zero;
+        private Node one;
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.mingchico.cms.core.common.ErrorResponseWriter;
+import com.mingchico.cms.core.context.ChannelType;
+import com.mingchico.cms.core.context.ContextHolder;
+import com.mingchico.cms.core.tenant.TenantContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * [적응형 동시 처리 한도 필터 (Load Shedding)]
+ * <p>
+ * {@link GlobalRateLimitFilter}가 클라이언트별 요청 <b>속도</b>를 제한한다면, 이 필터는 서버 전체의
+ * <b>동시 처리량</b>을 제한합니다. DB 커넥션 풀 고갈이나 GC 정지로 백엔드가 포화되면 지연 시간이 늘어나고,
+ * {@link AdaptiveConcurrencyLimiter}가 이를 감지해 한도를 낮춰 초과 요청을 대기열에 쌓지 않고 즉시 거절합니다.
+ * </p>
+ *
+ * <h3>핵심 기능</h3>
+ * <ul>
+ * <li><b>조기 거절:</b> 한도 초과 시 비즈니스 로직에 진입하기 전에 503 + {@code Retry-After}로 응답합니다.</li>
+ * <li><b>우선순위 레인:</b> {@link ContextHolder#getChannel(HttpServletRequest)} 채널별 비율로 관리자/API 요청의 슬롯을 보장합니다.</li>
+ * <li><b>테넌트 격리:</b> 한 사이트가 전체 처리 슬롯을 독점하지 못하게 합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+// [순서 설정] TenantFilter(+2)가 사이트를 식별하고 GlobalRateLimitFilter(+3)가 남용 클라이언트를 걸러낸 뒤,
+// 실제 처리 구간 전체(보안 필터 ~ 컨트롤러)의 지연을 측정할 수 있도록 그 직후에 실행됩니다.
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@ConditionalOnProperty(name = "cms.security.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final ErrorResponseWriter OVERLOADED = ErrorResponseWriter.withRetryAfter(
+            HttpStatus.SERVICE_UNAVAILABLE,
+            "요청이 많아 처리할 수 없습니다. " + ErrorResponseWriter.SECONDS + "초 후에 다시 시도해주세요.");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AffixTrie excludedPaths;
+    private final AffixTrie excludedExtensions;
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties) {
+        this.limiter = new AdaptiveConcurrencyLimiter(properties);
+        this.excludedPaths = AffixTrie.prefixes(properties.getExcludedPaths());
+        this.excludedExtensions = AffixTrie.suffixes(properties.getExcludedExtensions());
+        this.retryAfterSeconds = Math.max(1, properties.getRetryAfter().toSeconds());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI();
+        if (excludedPaths.matches(path) || excludedExtensions.matches(path)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ChannelType channel = ContextHolder.getChannel(request);
+        String siteCode = TenantContext.getSiteCode();
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(channel, siteCode);
+        if (permit == null) {
+            // 과부하 중 요청마다 동기 로그를 남기지 않음 (거절 수는 cms.concurrency.rejected 메트릭으로 집계)
+            log.debug("Concurrency Limit Exceeded: Channel={}, Tenant={}, Limit={}",
+                    channel, siteCode, limiter.getLimit());
+            handleOverloaded(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            permit.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    AdaptiveConcurrencyLimiter limiter() {
+        return limiter;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        limiter.bindTo(registry);
+    }
+
+    /**
+     * [차단 응답 처리 (503 Service Unavailable)]
+     */
+    private void handleOverloaded(HttpServletResponse response) throws IOException {
+        OVERLOADED.write(response, retryAfterSeconds);
+    }
+}
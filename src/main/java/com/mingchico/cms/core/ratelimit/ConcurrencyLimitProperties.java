@@ -0,0 +1,151 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.mingchico.cms.core.context.ChannelType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h3>[동시 처리 한도 (Load Shedding) 설정 프로퍼티]</h3>
+ * <p>
+ * {@code cms.security.concurrency-limit} 접두사를 사용하는 설정값들을 매핑합니다.
+ * Rate Limit이 <b>클라이언트별 요청 속도</b>를 제한한다면, 이 설정은 서버 전체의 <b>동시 처리 중인 요청 수</b>를
+ * 관측 지연 시간에 맞춰 자동 조절하여 백엔드 포화(DB 풀 고갈, GC 정지 등) 시 초과 요청을 조기에 거절합니다.
+ * </p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "cms.security.concurrency-limit")
+@Validated
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 동시 처리 한도 기능 활성화 여부 (기본값: true)
+     * - false로 설정 시 필터가 등록되지 않음
+     */
+    private boolean enabled = true;
+
+    /** 한도 조절 알고리즘 */
+    private Algorithm algorithm = Algorithm.GRADIENT;
+
+    /** 기동 직후 한도 (관측값이 쌓이면 자동 조절) */
+    @Min(1)
+    private int initialLimit = 200;
+
+    /** 한도 하한 (지연이 아무리 커져도 이 이상은 처리) */
+    @Min(1)
+    private int minLimit = 20;
+
+    /** 한도 상한 */
+    @Min(1)
+    private int maxLimit = 1000;
+
+    /**
+     * [테넌트별 점유 한도 (%)]
+     * 한 테넌트가 전체 한도 중 동시에 점유할 수 있는 비율입니다.
+     * 특정 사이트의 트래픽 폭주가 다른 사이트의 처리 슬롯까지 잠식하지 않도록 합니다.
+     */
+    @Min(1)
+    @Max(100)
+    private int tenantSharePercent = 50;
+
+    /**
+     * [채널별 우선순위 레인 (%)]
+     * 채널별로 진입 가능한 전체 한도의 비율입니다. 비율이 낮은 채널이 먼저 거절되어,
+     * 혼잡 시에도 나머지 슬롯은 우선순위가 높은 채널(관리자 등) 몫으로 남습니다.
+     * 설정되지 않은 채널은 100%입니다.
+     */
+    private Map<ChannelType, Integer> laneSharePercents = new EnumMap<>(Map.of(
+            ChannelType.ADMIN_API, 100,
+            ChannelType.ADMIN, 100,
+            ChannelType.API, 90,
+            ChannelType.WEB, 80,
+            ChannelType.UNKNOWN, 80
+    ));
+
+    /** 거절 응답의 Retry-After 값 */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /** 한도 적용 제외 경로 (헬스 체크 등, 접두사 일치) */
+    private Set<String> excludedPaths = Set.of("/actuator", "/health");
+
+    /**
+     * [한도 적용 제외 확장자 목록]
+     * 정적 리소스는 슬롯을 점유하지 않고, 매우 짧은 RTT로 장기 평균 지연을 끌어내려 동적 페이지가 혼잡해 보이는 것을 막습니다.
+     */
+    private Set<String> excludedExtensions = Set.of(
+            ".css", ".js", ".png", ".jpg", ".jpeg", ".gif", ".ico", ".svg", ".woff", ".woff2", ".ttf", ".webp"
+    );
+
+    @Valid
+    private Gradient gradient = new Gradient();
+
+    @Valid
+    private Aimd aimd = new Aimd();
+
+    /**
+     * [한도 조절 알고리즘]
+     * - GRADIENT: 장기 평균 지연 대비 현재 지연의 비율(gradient)로 한도를 연속적으로 조절 (기본값)
+     * - AIMD: 지연 임계치 초과/서버 오류 시 비율 감소, 그 외에는 1씩 증가
+     */
+    public enum Algorithm {
+        GRADIENT, AIMD
+    }
+
+    /**
+     * [GRADIENT 전용]
+     */
+    @Getter
+    @Setter
+    public static class Gradient {
+
+        /** 장기 평균 대비 허용 지연 배율 (1.5면 평소보다 50% 느려질 때까지는 한도를 줄이지 않음) */
+        @DecimalMin("1.0")
+        private double rttTolerance = 1.5;
+
+        /** 새 한도 반영 비율 (0~1, 작을수록 완만하게 변화) */
+        @DecimalMin("0.01")
+        @DecimalMax("1.0")
+        private double smoothing = 0.2;
+
+        /**
+         * 한도를 한 번 갱신하기 위해 모으는 완료 요청 수
+         * 창의 최소 RTT로 판단하므로, 요청 하나하나의 지연(엔드포인트 구성)이 아닌 창 전체의 포화 여부에 반응합니다.
+         */
+        @Min(1)
+        private int windowSize = 100;
+
+        /** 장기 평균 지연에 반영하는 창 개수 (창 단위 지수 이동 평균) */
+        @Min(2)
+        private int longWindow = 60;
+    }
+
+    /**
+     * [AIMD 전용]
+     */
+    @Getter
+    @Setter
+    public static class Aimd {
+
+        /** 이 시간보다 오래 걸린 요청은 혼잡 신호로 간주 */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /** 혼잡 시 한도에 곱하는 비율 */
+        @DecimalMin("0.5")
+        @DecimalMax("0.99")
+        private double backoffRatio = 0.9;
+    }
+}
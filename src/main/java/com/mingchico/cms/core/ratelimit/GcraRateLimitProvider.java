@@ -0,0 +1,81 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h3>[GCRA 기반 로컬 Rate Limit 구현체]</h3>
+ * <p>
+ * Generic Cell Rate Algorithm으로 판정합니다. 키마다 <b>이론상 다음 도착 시각(TAT, Theoretical Arrival Time)</b>
+ * 하나만 {@link AtomicLong}으로 보관하므로, 버킷 설정/상태 객체를 만드는 Bucket4j보다 키당 메모리가 작습니다.
+ * 판정은 CAS 루프로 수행하여 락이 없습니다.
+ * </p>
+ *
+ * <h3>[판정 규칙]</h3>
+ * <ul>
+ * <li>토큰 간격 {@code T = refillPeriod / capacity}, 허용 폭 {@code span = T x capacity}</li>
+ * <li>새 TAT = max(TAT, now) + T. 새 TAT - now가 span 이하면 허용하고 TAT를 갱신, 초과하면 거절(TAT 유지)</li>
+ * <li>남은 토큰 = (now + span - 새 TAT) / T. 처음 보는 키는 capacity개까지 연속 허용 (Greedy 토큰 버킷과 동일)</li>
+ * </ul>
+ * <p>
+ * {@link RedisRateLimitProvider}의 GCRA 스크립트({@link RedisGcraClient})와 같은 규칙이며,
+ * {@link LocalRateLimitProvider}/{@link StripedRateLimitProvider}가 GCRA 정책을 받으면 이 구현으로 위임합니다.
+ * </p>
+ */
+public class GcraRateLimitProvider implements RateLimitProvider, CacheStatsContributor {
+
+    // TAT가 없는 키 (max(TAT, now) = now)
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private final Cache<String, AtomicLong> cache;
+
+    public GcraRateLimitProvider() {
+        // LocalRateLimitProvider와 같은 상한/만료 (OOM 방지)
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+        return tryConsume(key, policy, System.nanoTime());
+    }
+
+    ConsumptionProbe tryConsume(String key, RateLimitPolicy policy, long nowNanos) {
+        AtomicLong tat = cache.get(key, k -> new AtomicLong(EMPTY));
+        // 정책 검증으로 간격은 1ns 이상이지만, RedisGcraClient와 같이 0 나눗셈을 방어
+        long interval = Math.max(1, policy.nanosPerToken());
+        long span = interval * policy.capacity();
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, nowNanos) + interval;
+            long ahead = next - nowNanos;
+
+            if (ahead > span) {
+                // 거절: 허용 폭 안으로 들어올 때까지 기다려야 하는 시간 / TAT가 현재 시각에 도달(가득 참)할 때까지의 시간
+                return ConsumptionProbe.rejected(0, ahead - span, current - nowNanos);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return ConsumptionProbe.consumed((span - ahead) / interval, ahead);
+            }
+        }
+    }
+
+    Cache<String, AtomicLong> cache() {
+        return cache;
+    }
+
+    @Override
+    public Map<String, Cache<?, ?>> getStatsCaches() {
+        return Map.of("ratelimit.local_gcra", cache);
+    }
+}
@@ -1,6 +1,6 @@
 package com.mingchico.cms.core.ratelimit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mingchico.cms.core.common.ErrorResponseWriter;
 import com.mingchico.cms.core.tenant.TenantContext;
 import io.github.bucket4j.ConsumptionProbe;
 import jakarta.servlet.FilterChain;
@@ -12,18 +12,12 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
-import org.springframework.security.web.util.matcher.IpAddressMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * [글로벌 Rate Limit 필터]
@@ -51,14 +45,27 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitProvider rateLimitProvider;
     private final RateLimitProperties properties;
-    private final ObjectMapper objectMapper;
 
     /**
-     * [신뢰할 수 있는 IP 매처 목록]
-     * 매 요청마다 CIDR(예: 192.168.0.0/16)을 파싱하면 성능이 떨어지므로,
-     * 필터 생성 시점에 미리 컴파일(Compile)하여 메모리에 올려둡니다.
+     * [신뢰할 수 있는 프록시 대역]
+     * 매 요청마다 CIDR(예: 192.168.0.0/16)을 파싱하거나 목록을 순회하면 성능이 떨어지므로,
+     * 필터 생성 시점에 주소 비트 단위 트리로 미리 컴파일(Compile)하여 메모리에 올려둡니다.
      */
-    private final List<IpAddressMatcher> trustedIpMatchers;
+    private final CidrRadixTree trustedProxies;
+
+    /**
+     * [제외 경로/확장자]
+     * 제외 경로는 접두 트라이, 제외 확장자는 접미 트라이로 미리 컴파일하여
+     * 요청마다 URI를 소문자로 복사하거나 목록을 순회하지 않습니다.
+     */
+    private final AffixTrie excludedPaths;
+    private final AffixTrie excludedExtensions;
+
+    /**
+     * [라우트 그룹 테이블]
+     * 설정된 URL 패턴을 필터 생성 시점에 미리 컴파일해 둡니다.
+     */
+    private final RateLimitRouteGroups routeGroups;
 
     /**
      * [클라이언트 IP 헤더 목록]
@@ -69,18 +76,26 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
             "HTTP_CLIENT_IP", "HTTP_X_FORWARDED_FOR"
     };
 
+    /**
+     * [차단 응답 본문]
+     * 고정 문구는 기동 시 UTF-8 바이트로 미리 인코딩해 두고, 요청마다 대기 초만 채워 넣습니다.
+     */
+    private static final ErrorResponseWriter TOO_MANY_REQUESTS = ErrorResponseWriter.withRetryAfter(
+            HttpStatus.TOO_MANY_REQUESTS,
+            "요청이 너무 많습니다. " + ErrorResponseWriter.SECONDS + "초 후에 다시 시도해주세요.");
+
     public GlobalRateLimitFilter(RateLimitProvider rateLimitProvider,
-                                 RateLimitProperties properties,
-                                 ObjectMapper objectMapper) {
+                                 RateLimitProperties properties) {
         this.rateLimitProvider = rateLimitProvider;
         this.properties = properties;
-        this.objectMapper = objectMapper;
 
-        // properties에서 문자열로 된 IP 목록을 가져와서, 검증 가능한 Matcher 객체로 변환합니다.
-        // 예: "127.0.0.1" -> IpAddressMatcher 객체
-        this.trustedIpMatchers = properties.getTrustedProxies().stream()
-                .map(IpAddressMatcher::new)
-                .collect(Collectors.toList());
+        // properties에서 문자열로 된 IP 목록을 가져와서, 조회용 트리로 컴파일합니다.
+        // 예: "10.0.0.0/8" -> 상위 8비트 경로에 종단 표시
+        this.trustedProxies = new CidrRadixTree(properties.getTrustedProxies());
+        this.excludedPaths = AffixTrie.prefixes(properties.getExcludedPaths());
+        this.excludedExtensions = AffixTrie.suffixes(properties.getExcludedExtensions());
+
+        this.routeGroups = new RateLimitRouteGroups(properties);
     }
 
     /**
@@ -111,18 +126,19 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
 
         String clientIp = resolveClientIp(request);
 
-        // [Key 구조] siteCode:clientIp:uri
-        // 예: "shop_a:127.0.0.1:/api/login"
-        String rateLimitKey = siteCode + ":" + clientIp + ":" + request.getRequestURI();
+        // [Key 구조] siteCode:clientIp:routeGroup
+        // URI 대신 라우트 그룹명을 사용하여 키 개수(카디널리티)를 제한합니다.
+        // 예: "shop_a:127.0.0.1:auth", "shop_a:127.0.0.1:default"
+        RateLimitRouteGroups.CompiledGroup group = routeGroups.match(request.getRequestURI());
+        String rateLimitKey = siteCode + ":" + clientIp + ":" + group.name();
 
-        // 2. 용량 결정 (Dynamic Capacity)
-        // 설정 맵에서 siteCode로 조회해보고, 없으면 기본 capacity(100) 사용
-        int capacity = properties.getPerTenantCapacities()
-                .getOrDefault(siteCode, properties.getCapacity());
+        // 2. 정책 결정 (Dynamic Capacity)
+        // 그룹의 테넌트별 용량 -> 그룹 용량 -> 사이트 용량(perTenantCapacities) -> 기본 capacity(100) 순
+        RateLimitPolicy policy = routeGroups.policyOf(group, siteCode);
 
         try {
             // 3. 토큰 소모 시도
-            ConsumptionProbe probe = rateLimitProvider.tryConsume(rateLimitKey, capacity);
+            ConsumptionProbe probe = rateLimitProvider.tryConsume(rateLimitKey, policy);
 
             if (probe.isConsumed()) {
                 response.addHeader("X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
@@ -148,14 +164,10 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
         if ("OPTIONS".equalsIgnoreCase(request.getMethod())) {
             return true;
         }
-        String path = request.getRequestURI().toLowerCase();
+        String path = request.getRequestURI();
 
-        if (properties.getExcludedPaths().stream().anyMatch(path::startsWith)) {
-            return true;
-        }
-
-        // 설정 파일(properties)에 정의된 확장자로 끝나는지 확인
-        return properties.getExcludedExtensions().stream().anyMatch(path::endsWith);
+        // 설정 파일(properties)에 정의된 경로로 시작하거나 확장자로 끝나는지 확인 (대소문자 무시)
+        return excludedPaths.matches(path) || excludedExtensions.matches(path);
     }
 
     /**
@@ -169,8 +181,7 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
         String remoteAddr = request.getRemoteAddr(); // 실제 TCP 연결 IP
 
         // 1. 요청을 보낸 직전 서버(remoteAddr)가 우리 내부망/로드밸런서(Trusted Proxy)인지 확인
-        boolean isTrusted = trustedIpMatchers.stream()
-                .anyMatch(matcher -> matcher.matches(request));
+        boolean isTrusted = trustedProxies.matches(remoteAddr);
 
         // 2. 신뢰할 수 없는 소스(해커가 직접 요청 등)라면, 헤더는 조작되었을 가능성이 높으므로 무시
         if (!isTrusted) {
@@ -182,8 +193,9 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
             String ip = request.getHeader(header);
             if (StringUtils.hasText(ip) && !"unknown".equalsIgnoreCase(ip)) {
                 // "client, proxy1, proxy2" 형식일 경우 맨 앞이 원본 클라이언트
-                if (ip.contains(",")) {
-                    ip = ip.split(",")[0];
+                int comma = ip.indexOf(',');
+                if (comma >= 0) {
+                    ip = ip.substring(0, comma);
                 }
                 return ip.trim();
             }
@@ -194,20 +206,10 @@ public class GlobalRateLimitFilter extends OncePerRequestFilter {
     /**
      * [차단 응답 처리 (429 Too Many Requests)]
      * 단순히 에러만 뱉는 게 아니라, JSON 포맷으로 "왜 차단됐는지", "언제 풀리는지" 친절하게 알려줍니다.
+     * 공격 트래픽에서 가장 많이 호출되는 경로이므로, 미리 인코딩한 본문에 대기 초만 끼워 씁니다.
      */
     private void handleRateLimitExceeded(HttpServletResponse response, long waitForRefill) throws IOException {
-        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         // 표준 헤더: Retry-After (초 단위)
-        response.setHeader("Retry-After", String.valueOf(waitForRefill));
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
-        body.put("error", "Too Many Requests");
-        body.put("message", String.format("요청이 너무 많습니다. %d초 후에 다시 시도해주세요.", waitForRefill));
-        body.put("wait_seconds", waitForRefill);
-
-        response.getWriter().write(objectMapper.writeValueAsString(body));
+        TOO_MANY_REQUESTS.write(response, waitForRefill);
     }
 }
\ No newline at end of file
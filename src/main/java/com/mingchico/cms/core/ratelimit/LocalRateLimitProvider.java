@@ -2,6 +2,7 @@ package com.mingchico.cms.core.ratelimit;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.ConsumptionProbe;
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * <h3>[로컬 기반 Rate Limit 구현체]</h3>
@@ -27,6 +29,7 @@ import java.time.Duration;
  * <li><b>효율적인 메모리 관리:</b> {@code 100,000}개의 최대 저장 용량과 {@code 1시간}의 유효 시간을 설정하여
  * OOM(Out Of Memory) 장애를 방지합니다.</li>
  * <li><b>부드러운 리필(Refill):</b> Greedy 알고리즘을 사용하여 토큰이 시간에 비례하여 일정하게 채워지도록 관리합니다.</li>
+ * <li><b>알고리즘 선택:</b> GCRA 정책은 {@link GcraRateLimitProvider}로 위임합니다.</li>
  * </ul>
  *
  * @see <a href="https://github.com/ben-manes/caffeine">Caffeine Cache Library</a>
@@ -34,10 +37,11 @@ import java.time.Duration;
 
 @Slf4j
 @RequiredArgsConstructor
-public class LocalRateLimitProvider implements RateLimitProvider {
+public class LocalRateLimitProvider implements RateLimitProvider, CacheStatsContributor {
 
     private final RateLimitProperties properties;
     private Cache<String, Bucket> cache;
+    private GcraRateLimitProvider gcra;
 
     @PostConstruct
     public void init() {
@@ -48,28 +52,40 @@ public class LocalRateLimitProvider implements RateLimitProvider {
                 .maximumSize(100_000)
                 // 마지막 접근 후 1시간이 지나면 메모리에서 삭제 (불필요한 데이터 정리)
                 .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
                 .build();
+        this.gcra = new GcraRateLimitProvider();
 
         log.info("RateLimit: Local Mode Activated. (Limit: {} requests/min per instance)",
                 properties.getCapacity());
     }
 
     @Override
-    public ConsumptionProbe tryConsume(String key, int capacity) {
+    public ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+        if (policy.algorithm() == RateLimitAlgorithm.GCRA) {
+            return gcra.tryConsume(key, policy);
+        }
         // Cache에서 해당 IP의 버킷을 가져오거나, 없으면 새로 생성(createNewBucket)하여 토큰 소모 시도
-        return cache.get(key, k -> createNewBucket(capacity))
+        return cache.get(key, k -> createNewBucket(policy))
                 .tryConsumeAndReturnRemaining(1);
     }
 
-    private Bucket createNewBucket(int capacity) {
+    @Override
+    public Map<String, Cache<?, ?>> getStatsCaches() {
+        return Map.of(
+                "ratelimit.local_buckets", cache,
+                "ratelimit.local_gcra", gcra.cache());
+    }
+
+    private Bucket createNewBucket(RateLimitPolicy policy) {
         // [알고리즘 설명: Token Bucket]
         // - Capacity: 버킷의 최대 크기 (최대 토큰 수)
         // - Refill: 토큰이 충전되는 속도
         // Greedy 방식: 1분마다 한 번에 채우는 게 아니라, 시간에 비례해서 부드럽게 채워짐 (사용자 경험에 유리)
 
         Bandwidth limit = Bandwidth.builder()
-                .capacity(capacity)
-                .refillGreedy(capacity, Duration.ofMinutes(1))
+                .capacity(policy.capacity())
+                .refillGreedy(policy.capacity(), policy.refillPeriod())
                 .build();
 
         return Bucket.builder()
@@ -0,0 +1,20 @@
+package com.mingchico.cms.core.ratelimit;
+
+/**
+ * <h3>[Rate Limit 알고리즘]</h3>
+ * <p>
+ * 라우트 그룹/테넌트별로 선택할 수 있는 버킷 알고리즘입니다. 두 알고리즘 모두 {@code refillPeriod} 동안
+ * {@code capacity}개를 고르게 허용하며, 순간 최대 허용량도 {@code capacity}개로 같습니다.
+ * 차이는 키당 상태의 크기와 분산 저장소(Redis) 연산 방식입니다.
+ * </p>
+ * <ul>
+ * <li><b>TOKEN_BUCKET:</b> Bucket4j 토큰 버킷 (기본값). 키마다 버킷 설정과 상태를 직렬화하여 보관하며,
+ * Redis에서는 조회 후 CAS 스크립트로 갱신합니다.</li>
+ * <li><b>GCRA:</b> Generic Cell Rate Algorithm. 키마다 "이론상 다음 도착 시각(TAT)" 하나만 보관하며,
+ * Redis에서는 스크립트 한 번(EVALSHA)으로 판정과 갱신을 원자적으로 수행합니다.</li>
+ * </ul>
+ */
+public enum RateLimitAlgorithm {
+    TOKEN_BUCKET,
+    GCRA
+}
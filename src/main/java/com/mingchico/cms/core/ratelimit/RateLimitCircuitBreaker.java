@@ -0,0 +1,76 @@
+package com.mingchico.cms.core.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h3>[Redis Rate Limit 서킷 브레이커]</h3>
+ * <p>
+ * Redis 호출이 연속으로 {@code failureThreshold}번 실패(시간 초과 포함)하면 회로를 열어(OPEN),
+ * 이후 요청은 Redis를 호출하지 않고 곧바로 로컬 제한으로 처리되게 합니다.
+ * 회로가 열린 동안에는 요청 스레드가 아닌 백그라운드 점검({@link RedisRateLimitProvider})이
+ * 복구를 확인하고 회로를 닫습니다. (요청이 느린 Redis를 대신 시험하지 않음)
+ * </p>
+ */
+@Slf4j
+final class RateLimitCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN
+    }
+
+    private final int failureThreshold;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedCount = new AtomicLong();
+    private volatile State state = State.CLOSED;
+
+    RateLimitCircuitBreaker(int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    State state() {
+        return state;
+    }
+
+    /** 회로가 열린 누적 횟수 */
+    long openedCount() {
+        return openedCount.get();
+    }
+
+    void recordSuccess() {
+        if (consecutiveFailures.get() != 0) {
+            consecutiveFailures.set(0);
+        }
+    }
+
+    void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open();
+        }
+    }
+
+    /** 백그라운드 점검이 복구를 확인했을 때 호출 */
+    void close() {
+        consecutiveFailures.set(0);
+        if (state == State.OPEN) {
+            state = State.CLOSED;
+            log.info("✅ Rate Limit Redis circuit CLOSED. Resuming distributed rate limiting.");
+        }
+    }
+
+    private synchronized void open() {
+        if (state == State.OPEN) {
+            return;
+        }
+        state = State.OPEN;
+        openedCount.incrementAndGet();
+        log.warn("⚠️ Rate Limit Redis circuit OPEN after {} consecutive failures. Falling back to local rate limiting.",
+                failureThreshold);
+    }
+}
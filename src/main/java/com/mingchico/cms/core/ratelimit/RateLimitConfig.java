@@ -1,8 +1,10 @@
 package com.mingchico.cms.core.ratelimit;
 
 import com.mingchico.cms.core.config.CacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,7 +13,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 /**
  * <h3>[Rate Limit 구성 설정]</h3>
  * <p>
- * 중앙 캐시 설정({@link CacheProperties})의 모드(LOCAL/REDIS)에 따라
+ * 중앙 캐시 설정({@link CacheProperties})의 모드(LOCAL/REDIS/TIERED)에 따라
  * 적절한 {@link RateLimitProvider} 구현체를 선택하여 빈으로 등록합니다.
  * </p>
  */
@@ -29,18 +31,27 @@ public class RateLimitConfig {
             // Redis 모드일 때만 주입되도록 ObjectProvider 등을 쓸 수도 있지만,
             // 보통 Spring Data Redis가 있으면 Factory는 자동 구성되므로 required=false 처리
             @org.springframework.beans.factory.annotation.Autowired(required = false) 
-            RedisConnectionFactory redisConnectionFactory
+            RedisConnectionFactory redisConnectionFactory,
+            ObjectProvider<MeterRegistry> meterRegistry
     ) {
         CacheProperties.Mode mode = cacheProperties.getMode();
 
-        if (mode == CacheProperties.Mode.REDIS) {
+        // TIERED 모드도 Redis를 공유 저장소로 사용하므로 분산 Rate Limit 적용
+        if (mode.usesRedis()) {
             if (redisConnectionFactory == null) {
                 throw new IllegalStateException("Redis Mode is enabled but RedisConnectionFactory is missing.");
             }
             log.info("🚀 Rate Limit Provider: REDIS (Centralized Config)");
-            return new RedisRateLimitProvider(rateLimitProperties, redisConnectionFactory);
+            RedisRateLimitProvider provider = new RedisRateLimitProvider(rateLimitProperties, redisConnectionFactory);
+            // 서킷 상태/대체 처리 메트릭 등록 (Actuator가 없으면 생략)
+            meterRegistry.ifAvailable(provider::bindTo);
+            return provider;
         }
 
+        if (rateLimitProperties.getLocalEngine() == RateLimitProperties.LocalEngine.STRIPED) {
+            log.info("🏠 Rate Limit Provider: LOCAL / STRIPED (Centralized Config)");
+            return new StripedRateLimitProvider(rateLimitProperties);
+        }
         log.info("🏠 Rate Limit Provider: LOCAL (Centralized Config)");
         return new LocalRateLimitProvider(rateLimitProperties);
     }
@@ -0,0 +1,80 @@
+package com.mingchico.cms.core.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * <h3>[버킷 정책]</h3>
+ * <p>
+ * 하나의 버킷에 적용할 용량, 리필 주기와 알고리즘입니다. {@code refillPeriod} 동안 {@code capacity}개가
+ * Greedy 방식으로 고르게 채워집니다. (예: 100개/1분 -> 0.6초에 1개)
+ * </p>
+ * <p>
+ * 로컬 엔진({@link StripedRateLimitProvider})은 토큰을 {@code capacity x refillPeriod(ns)} 단위의 long으로 보관하므로,
+ * 이 곱이 {@link #MAX_TOKEN_UNITS}를 넘는 정책은 만들 수 없습니다. (예: 리필 주기 1시간이면 용량 약 128만 개까지)
+ * GCRA는 토큰 간격({@link #nanosPerToken()})을 정수 ns로 다루므로, 간격이 0이 되는 {@code capacity > refillPeriod(ns)} 정책도 거부합니다.
+ * </p>
+ *
+ * @param capacity     버킷의 최대 토큰 수 (1 이상)
+ * @param refillPeriod 버킷이 가득 차는 데 걸리는 시간
+ * @param algorithm    판정 알고리즘 (null이면 {@link RateLimitAlgorithm#TOKEN_BUCKET})
+ */
+public record RateLimitPolicy(int capacity, Duration refillPeriod, RateLimitAlgorithm algorithm) {
+
+    /** 별도 설정이 없을 때의 리필 주기 */
+    public static final Duration DEFAULT_REFILL_PERIOD = Duration.ofMinutes(1);
+
+    /** {@code capacity x refillPeriod(ns)}의 상한 (리필 중 잔량 + 추가분의 합도 long 범위 안에 들도록 절반) */
+    public static final long MAX_TOKEN_UNITS = Long.MAX_VALUE / 2;
+
+    public RateLimitPolicy {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Rate limit capacity must be positive: " + capacity);
+        }
+        if (refillPeriod == null || refillPeriod.isZero() || refillPeriod.isNegative()) {
+            throw new IllegalArgumentException("Rate limit refill period must be positive: " + refillPeriod);
+        }
+        if (algorithm == null) {
+            algorithm = RateLimitAlgorithm.TOKEN_BUCKET;
+        }
+        if (capacity > maxCapacity(refillPeriod, algorithm)) {
+            throw new IllegalArgumentException("Rate limit capacity " + capacity + " is too large for refill period "
+                    + refillPeriod + " (max " + maxCapacity(refillPeriod, algorithm) + ")");
+        }
+    }
+
+    public RateLimitPolicy(int capacity, Duration refillPeriod) {
+        this(capacity, refillPeriod, RateLimitAlgorithm.TOKEN_BUCKET);
+    }
+
+    public static RateLimitPolicy perMinute(int capacity) {
+        return new RateLimitPolicy(capacity, DEFAULT_REFILL_PERIOD);
+    }
+
+    /**
+     * 주어진 리필 주기에서 허용되는 최대 용량
+     */
+    public static int maxCapacity(Duration refillPeriod) {
+        if (refillPeriod.compareTo(Duration.ofNanos(MAX_TOKEN_UNITS)) > 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, MAX_TOKEN_UNITS / refillPeriod.toNanos());
+    }
+
+    /**
+     * 주어진 리필 주기와 알고리즘에서 허용되는 최대 용량 (GCRA는 토큰 간격이 1ns 이상이어야 함)
+     */
+    public static int maxCapacity(Duration refillPeriod, RateLimitAlgorithm algorithm) {
+        int max = maxCapacity(refillPeriod);
+        if (algorithm == RateLimitAlgorithm.GCRA) {
+            return (int) Math.min(max, refillPeriod.toNanos());
+        }
+        return max;
+    }
+
+    /**
+     * 토큰 1개가 다시 채워지는 데 걸리는 시간(ns)
+     */
+    public long nanosPerToken() {
+        return refillPeriod.toNanos() / capacity;
+    }
+}
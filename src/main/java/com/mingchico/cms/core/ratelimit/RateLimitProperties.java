@@ -5,9 +5,12 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,6 +60,24 @@ public class RateLimitProperties {
     // 예: "vip-shop": 1000, "bad-shop": 10
     private Map<String, Integer> perTenantCapacities = new HashMap<>();
 
+    /**
+     * [기본 알고리즘]
+     * 라우트 그룹이나 테넌트에 별도 지정이 없을 때 사용할 알고리즘입니다. ({@link RateLimitAlgorithm} 참고)
+     */
+    private RateLimitAlgorithm algorithm = RateLimitAlgorithm.TOKEN_BUCKET;
+
+    // 테넌트별 알고리즘 (Key: siteCode), 라우트 그룹에 지정된 알고리즘이 우선
+    private Map<String, RateLimitAlgorithm> perTenantAlgorithms = new HashMap<>();
+
+    /**
+     * [라우트 그룹 목록]
+     * URL 패턴별로 버킷을 묶어 키 개수(카디널리티)를 제한합니다. 선언 순서대로 검사하여 처음 매칭된 그룹을 사용하며,
+     * 어떤 그룹에도 속하지 않는 요청은 {@code default} 그룹(기본 용량/테넌트별 용량)으로 집계됩니다.
+     * 예: 로그인 API는 분당 10회, 나머지는 사이트 기본값
+     */
+    @Valid
+    private List<RouteGroup> routeGroups = new ArrayList<>();
+
     /**
      * [신뢰할 수 있는 프록시 IP 목록]
      * 이 IP 대역(CIDR)에서 온 요청일 경우에만 X-Forwarded-For 헤더를 신뢰합니다.
@@ -78,4 +99,134 @@ public class RateLimitProperties {
             "/health",
             "/metrics"
     );
+
+    /**
+     * <h3>[라우트 그룹]</h3>
+     * <p>
+     * 같은 그룹에 속한 URL은 하나의 버킷({@code siteCode:IP:name})을 공유합니다.
+     * 용량은 그룹의 테넌트별 용량 -> 그룹 용량 -> 사이트 용량(perTenantCapacities/capacity) 순으로 결정됩니다.
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class RouteGroup {
+
+        /** 그룹명 (Rate Limit 키에 포함) */
+        @NotEmpty
+        private String name;
+
+        /** URL 패턴 목록 (예: "/api/auth/**", "/login"). PathPattern 문법이므로 {@code **}는 마지막 세그먼트에만 허용 */
+        @NotEmpty
+        private List<String> patterns = new ArrayList<>();
+
+        /** 그룹 용량 (미설정 시 사이트 용량을 따름) */
+        @Min(1)
+        private Integer capacity;
+
+        /** 용량이 가득 차는 데 걸리는 시간 (기본 1분) */
+        private Duration refillPeriod = RateLimitPolicy.DEFAULT_REFILL_PERIOD;
+
+        /** 그룹 내 테넌트별 용량 (Key: siteCode) */
+        private Map<String, Integer> perTenantCapacities = new HashMap<>();
+
+        /** 그룹 알고리즘 (미설정 시 테넌트별/기본 알고리즘을 따름) */
+        private RateLimitAlgorithm algorithm;
+    }
+
+    /**
+     * [로컬 엔진 선택]
+     * LOCAL 모드에서 사용할 버킷 구현입니다.
+     * - BUCKET4J: 키마다 Bucket4j 버킷 객체를 Caffeine에 보관 (기본값, 캐시 통계 제공)
+     * - STRIPED: 고정 크기 기본형 배열에 보관 (키당 메모리 고정, 대량 키/고동시성용)
+     */
+    private LocalEngine localEngine = LocalEngine.BUCKET4J;
+
+    @Valid
+    private Striped striped = new Striped();
+
+    public enum LocalEngine {
+        BUCKET4J, STRIPED
+    }
+
+    /**
+     * <h3>[STRIPED 엔진 설정]</h3>
+     * <p>
+     * 메모리는 기동 시 {@code maxKeys x 37바이트}로 한 번에 확보되며, 가득 차면 CLOCK 방식으로 오래 안 쓰인 키를 교체합니다.
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class Striped {
+
+        /** 보관할 최대 키 수 (2의 거듭제곱으로 올림) */
+        @Min(8)
+        private int maxKeys = 131_072;
+
+        /** 락 스트라이프 수 (동시 요청 스레드 수 이상 권장) */
+        @Min(1)
+        private int shards = 64;
+    }
+
+    /**
+     * [Redis 장애 대응 설정]
+     * REDIS/TIERED 모드에서만 사용됩니다.
+     */
+    @Valid
+    private Redis redis = new Redis();
+
+    /**
+     * <h3>[Redis 지연 예산 및 서킷 브레이커]</h3>
+     * <p>
+     * Redis 응답이 {@code timeout}을 넘기면 해당 요청은 로컬 버킷으로 판단하고,
+     * 연속 {@code failureThreshold}회 실패하면 복구가 확인될 때까지 Redis 호출을 중단합니다.
+     * </p>
+     */
+    @Getter
+    @Setter
+    public static class Redis {
+
+        /** 요청당 Redis 응답 대기 한도 */
+        private Duration timeout = Duration.ofMillis(50);
+
+        /** 회로를 여는 연속 실패 횟수 */
+        @Min(1)
+        private int failureThreshold = 5;
+
+        /** 회로가 열린 동안 복구를 확인하는 주기 */
+        private Duration probeInterval = Duration.ofSeconds(5);
+    }
+
+    /**
+     * [Redis 토큰 임대 설정]
+     * REDIS/TIERED 모드에서만 사용됩니다.
+     */
+    @Valid
+    private Lease lease = new Lease();
+
+    /**
+     * <h3>[토큰 임대 (Lease)]</h3>
+     * <p>
+     * 각 노드가 Redis 버킷에서 토큰을 {@code size}개씩 빌려와 로컬에서 차감합니다.
+     * 정확도와 지연 시간의 절충은 아래 두 값으로 조절합니다.
+     * </p>
+     * <ul>
+     * <li><b>size:</b> 클수록 Redis 왕복이 줄지만(요청 size개당 1회), 다른 노드에 묶여 쓰이지 않는 토큰이 늘어납니다.
+     * 전역 제한을 넘지는 않으며, 최대 (노드 수 - 1) x size만큼 덜 허용될 수 있습니다.</li>
+     * <li><b>ttl:</b> 빌린 토큰을 쓸 수 있는 기간. 짧을수록 묶인 토큰이 빨리 풀립니다.</li>
+     * </ul>
+     */
+    @Getter
+    @Setter
+    public static class Lease {
+
+        /** 임대 모드 활성화 여부 (기본값: false = 요청마다 Redis 조회) */
+        private boolean enabled = false;
+
+        /** 한 번에 빌려올 토큰 수 (버킷 용량보다 크면 용량으로 제한) */
+        @Min(1)
+        private int size = 10;
+
+        /** 임대 유효 기간 (만료 시 남은 토큰은 반납하지 않고 버림) */
+        private Duration ttl = Duration.ofSeconds(1);
+    }
 }
@@ -0,0 +1,139 @@
+package com.mingchico.cms.core.ratelimit;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <h3>[컴파일된 라우트 그룹 테이블]</h3>
+ * <p>
+ * 설정된 라우트 그룹의 URL 패턴을 기동 시점에 {@link PathPattern}으로 한 번만 파싱해 두고,
+ * 요청 URI가 속한 그룹과 적용할 버킷 정책을 결정합니다.
+ * Rate Limit 키가 URI 대신 그룹명으로 만들어지므로, ID/슬러그가 섞인 URL이 아무리 많아도
+ * 키 개수는 (사이트 x IP x 그룹 수)를 넘지 않습니다.
+ * </p>
+ */
+final class RateLimitRouteGroups {
+
+    /** 어떤 그룹에도 속하지 않는 요청의 그룹명 */
+    static final String DEFAULT_GROUP = "default";
+
+    private final RateLimitProperties properties;
+    private final List<CompiledGroup> groups;
+    private final CompiledGroup defaultGroup;
+
+    RateLimitRouteGroups(RateLimitProperties properties) {
+        this.properties = properties;
+        this.defaultGroup = new CompiledGroup(DEFAULT_GROUP, List.of(), null,
+                RateLimitPolicy.DEFAULT_REFILL_PERIOD, Map.of(), null);
+
+        PathPatternParser parser = new PathPatternParser();
+        Set<String> names = new HashSet<>();
+        List<CompiledGroup> compiled = new ArrayList<>();
+        for (RateLimitProperties.RouteGroup group : properties.getRouteGroups()) {
+            if (DEFAULT_GROUP.equals(group.getName()) || !names.add(group.getName())) {
+                throw new IllegalStateException("Duplicated or reserved rate limit route group: " + group.getName());
+            }
+            compiled.add(new CompiledGroup(
+                    group.getName(),
+                    group.getPatterns().stream().map(parser::parse).toList(),
+                    group.getCapacity(),
+                    group.getRefillPeriod(),
+                    Map.copyOf(group.getPerTenantCapacities()),
+                    group.getAlgorithm()
+            ));
+        }
+        this.groups = List.copyOf(compiled);
+
+        validateCapacities();
+    }
+
+    /**
+     * 설정된 모든 용량이 각 그룹의 리필 주기에서 허용 범위({@link RateLimitPolicy#maxCapacity})인지 기동 시점에 검증합니다.
+     */
+    private void validateCapacities() {
+        List<CompiledGroup> all = new ArrayList<>(groups);
+        all.add(defaultGroup);
+        for (CompiledGroup group : all) {
+            int max = maxCapacity(group);
+            Set<Integer> capacities = new HashSet<>(group.perTenantCapacities().values());
+            if (group.capacity() != null) {
+                capacities.add(group.capacity());
+            } else {
+                capacities.add(properties.getCapacity());
+                capacities.addAll(properties.getPerTenantCapacities().values());
+            }
+            for (Integer capacity : capacities) {
+                if (capacity != null && capacity > max) {
+                    throw new IllegalStateException("Rate limit capacity " + capacity + " of route group '" + group.name()
+                            + "' is too large for refill period " + group.refillPeriod() + " (max " + max + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * 그룹에 GCRA가 적용될 수 있으면(그룹/기본/사이트별 알고리즘 중 하나라도 GCRA) GCRA 상한으로 검증합니다.
+     */
+    private int maxCapacity(CompiledGroup group) {
+        boolean gcra = (group.algorithm() != null)
+                ? group.algorithm() == RateLimitAlgorithm.GCRA
+                : properties.getAlgorithm() == RateLimitAlgorithm.GCRA
+                || properties.getPerTenantAlgorithms().containsValue(RateLimitAlgorithm.GCRA);
+        return RateLimitPolicy.maxCapacity(group.refillPeriod(),
+                gcra ? RateLimitAlgorithm.GCRA : RateLimitAlgorithm.TOKEN_BUCKET);
+    }
+
+    /**
+     * URI가 속한 그룹을 반환합니다. (선언 순서상 처음 매칭된 그룹, 없으면 default)
+     */
+    CompiledGroup match(String requestUri) {
+        if (groups.isEmpty()) {
+            return defaultGroup;
+        }
+        PathContainer path = PathContainer.parsePath(requestUri);
+        for (CompiledGroup group : groups) {
+            for (PathPattern pattern : group.patterns()) {
+                if (pattern.matches(path)) {
+                    return group;
+                }
+            }
+        }
+        return defaultGroup;
+    }
+
+    /**
+     * 그룹과 사이트에 적용할 버킷 정책을 결정합니다.
+     * 사이트 용량은 실행 중 변경될 수 있으므로 매번 설정에서 읽으며, 리필 주기별 상한을 넘는 값은 상한으로 낮춥니다.
+     * (요청 경로에서 예외를 던지지 않도록)
+     * 알고리즘은 그룹 알고리즘 -> 사이트 알고리즘(perTenantAlgorithms) -> 기본 algorithm 순으로 결정됩니다.
+     */
+    RateLimitPolicy policyOf(CompiledGroup group, String siteCode) {
+        Integer capacity = group.perTenantCapacities().get(siteCode);
+        if (capacity == null) {
+            capacity = group.capacity();
+        }
+        if (capacity == null) {
+            capacity = properties.getPerTenantCapacities().getOrDefault(siteCode, properties.getCapacity());
+        }
+
+        RateLimitAlgorithm algorithm = group.algorithm();
+        if (algorithm == null) {
+            algorithm = properties.getPerTenantAlgorithms().getOrDefault(siteCode, properties.getAlgorithm());
+        }
+        capacity = Math.min(capacity, RateLimitPolicy.maxCapacity(group.refillPeriod(), algorithm));
+        return new RateLimitPolicy(capacity, group.refillPeriod(), algorithm);
+    }
+
+    record CompiledGroup(String name, List<PathPattern> patterns, Integer capacity,
+                         Duration refillPeriod, Map<String, Integer> perTenantCapacities,
+                         RateLimitAlgorithm algorithm) {
+    }
+}
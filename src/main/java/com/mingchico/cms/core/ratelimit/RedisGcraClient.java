@@ -0,0 +1,121 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h3>[Redis GCRA 스크립트 기반 원격 연산]</h3>
+ * <p>
+ * 키마다 TAT(이론상 다음 도착 시각, 마이크로초) 문자열 하나만 저장하고, 판정과 갱신을 Lua 스크립트 한 번으로
+ * 원자적으로 수행합니다. (Bucket4j CAS 방식: 상태 조회 GET + 비교 후 교체 EVAL, 값은 직렬화된 버킷 설정/상태)
+ * 규칙은 {@link GcraRateLimitProvider}와 같습니다.
+ * </p>
+ * <ul>
+ * <li><b>시계:</b> 노드 간 시계 차이를 피하기 위해 Redis {@code TIME}을 기준으로 판정합니다. (Redis 5+ 스크립트 효과 복제 필요)</li>
+ * <li><b>만료:</b> TAT가 현재 시각에 도달하면 "키 없음"과 같은 상태이므로, 그 시점에 만료되도록 PX를 설정합니다.</li>
+ * <li><b>스크립트 캐시:</b> SHA-1은 기동 시 로컬에서 계산하여 EVALSHA로 호출하고, Redis 재시작 등으로
+ * 캐시에 없으면(NOSCRIPT) EVAL로 한 번 다시 보내 캐시에 올립니다.</li>
+ * </ul>
+ */
+final class RedisGcraClient implements RemoteBucketClient {
+
+    private static final String KEY_PREFIX = "ratelimit:gcra:";
+
+    /**
+     * KEYS[1] = 키, ARGV[1] = 토큰 간격(us), ARGV[2] = 허용 폭(us), ARGV[3] = 최대 소모 개수
+     * 반환: {소모 개수, 남은 토큰 수(성공) 또는 다음 토큰까지 대기(us, 거절), TAT 도달까지 대기(us)}
+     */
+    static final String SCRIPT = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000000 + tonumber(t[2])
+            local interval = tonumber(ARGV[1])
+            local span = tonumber(ARGV[2])
+            local want = tonumber(ARGV[3])
+            local tat = tonumber(redis.call('GET', KEYS[1]))
+            if not tat or tat < now then tat = now end
+            local granted = math.min(want, math.floor((now + span - tat) / interval))
+            if granted < 1 then
+              return {0, tat + interval - span - now, tat - now}
+            end
+            tat = tat + granted * interval
+            redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', string.format('%.0f', math.ceil((tat - now) / 1000)))
+            return {granted, math.floor((now + span - tat) / interval), tat - now}
+            """;
+
+    private final StatefulRedisConnection<String, byte[]> connection;
+    private final String digest;
+
+    RedisGcraClient(StatefulRedisConnection<String, byte[]> connection) {
+        this.connection = connection;
+        this.digest = sha1(SCRIPT);
+    }
+
+    @Override
+    public CompletableFuture<ConsumptionProbe> tryConsume(String key, RateLimitPolicy policy) {
+        return execute(key, policy, 1).thenApply(result -> {
+            long granted = result.get(0);
+            if (granted > 0) {
+                return ConsumptionProbe.consumed(result.get(1), micros(result.get(2)));
+            }
+            return ConsumptionProbe.rejected(0, micros(result.get(1)), micros(result.get(2)));
+        });
+    }
+
+    @Override
+    public CompletableFuture<Long> tryConsumeUpTo(String key, RateLimitPolicy policy, long limit) {
+        return execute(key, policy, limit).thenApply(result -> result.get(0));
+    }
+
+    @Override
+    public CompletableFuture<?> ping() {
+        return connection.async().ping().toCompletableFuture();
+    }
+
+    private CompletableFuture<List<Long>> execute(String key, RateLimitPolicy policy, long want) {
+        // 마이크로초 단위로 판정하므로 토큰 간격은 최소 1us
+        long interval = Math.max(1, TimeUnit.NANOSECONDS.toMicros(policy.nanosPerToken()));
+        String[] keys = {KEY_PREFIX + key};
+        byte[][] args = {ascii(interval), ascii(interval * policy.capacity()), ascii(want)};
+
+        return this.<List<Long>>evalsha(keys, args)
+                .exceptionallyCompose(e -> (unwrap(e) instanceof RedisNoScriptException)
+                        ? connection.async().<List<Long>>eval(SCRIPT, ScriptOutputType.MULTI, keys, args).toCompletableFuture()
+                        : CompletableFuture.failedFuture(unwrap(e)));
+    }
+
+    private <T> CompletableFuture<T> evalsha(String[] keys, byte[][] args) {
+        return connection.async().<T>evalsha(digest, ScriptOutputType.MULTI, keys, args).toCompletableFuture();
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
+
+    private static long micros(long value) {
+        return TimeUnit.MICROSECONDS.toNanos(Math.max(0, value));
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String sha1(String script) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not available", e);
+        }
+    }
+}
@@ -1,28 +1,43 @@
 package com.mingchico.cms.core.ratelimit;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
 import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
 import io.github.bucket4j.distributed.proxy.ClientSideConfig;
-import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.RemoteAsyncBucketBuilder;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.BeanInitializationException;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.stereotype.Service;
 
-import jakarta.annotation.PostConstruct;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 /**
@@ -35,13 +50,25 @@ import java.util.function.Supplier;
  * <h3>핵심 원리</h3>
  * <ul>
  * <li><b>Token Bucket 알고리즘:</b> 버킷에 토큰이 일정 속도로 채워지고, 요청이 올 때마다 토큰을 소모합니다.</li>
+ * <li><b>GCRA (선택):</b> GCRA 정책은 키당 타임스탬프 하나만 저장하는 스크립트로 판정합니다. ({@link RedisGcraClient})</li>
  * <li><b>분산 환경 동기화:</b> 로컬 메모리가 아닌 Redis에 남은 토큰 수를 저장하므로, A서버와 B서버가 제한량을 공유합니다.</li>
  * <li><b>CAS (Compare-And-Swap):</b> 동시성 이슈(Race Condition)를 해결하기 위해 Redis의 원자적 연산을 사용합니다.</li>
+ * <li><b>토큰 임대 (선택):</b> {@code lease.enabled=true}이면 토큰을 묶음으로 빌려와 로컬에서 차감하여
+ * Redis 왕복을 임대 크기분의 1로 줄입니다. ({@link TokenLeasePool} 참고)</li>
+ * </ul>
+ *
+ * <h3>장애 대응</h3>
+ * <ul>
+ * <li><b>지연 예산:</b> Redis 호출은 비동기 API로 보내고, 요청 스레드는 {@code redis.timeout}까지만 결과를 기다립니다.</li>
+ * <li><b>서킷 브레이커:</b> 연속 실패가 누적되면 Redis 호출을 멈추고 노드 로컬 버킷({@link LocalRateLimitProvider})으로
+ * 제한합니다. (장애 동안에는 노드별로 제한되므로 전역 허용량은 노드 수만큼 늘어남)</li>
+ * <li><b>복구 감지:</b> 회로가 열려 있는 동안 백그라운드 스레드가 {@code redis.probe-interval}마다 PING을 보내고,
+ * 응답하면 회로를 닫습니다.</li>
+ * <li><b>메트릭:</b> 회로 상태, 대체 처리 수, 실패 수를 Micrometer({@code cms.ratelimit.redis.*})로 노출합니다.</li>
  * </ul>
  */
 @Slf4j
-@RequiredArgsConstructor
-public class RedisRateLimitProvider implements RateLimitProvider {
+public class RedisRateLimitProvider implements RateLimitProvider, CacheStatsContributor, MeterBinder {
 
     private static final String KEY_PREFIX = "ratelimit:";
 
@@ -49,24 +76,52 @@ public class RedisRateLimitProvider implements RateLimitProvider {
     private final RedisConnectionFactory redisConnectionFactory;
     private StatefulRedisConnection<String, byte[]> connection;
 
+    /**
+     * [원격 버킷 연산]
+     * 운영에서는 Bucket4j 비동기 ProxyManager 기반 구현을, 테스트에서는 로컬 대역을 사용합니다.
+     */
+    private RemoteBucketClient client;
 
     /**
-     * [ProxyManager]
-     * Bucket4j 라이브러리와 외부 저장소(Redis) 사이를 연결해주는 중개자입니다.
-     * 역할:
-     * 1. Redis에서 버킷 정보(남은 토큰 수)를 가져옴
-     * 2. 토큰 계산 및 갱신 (트랜잭션 관리)
-     * 3. 변경된 정보를 다시 Redis에 저장
-     *
+     * [GCRA 원격 연산]
+     * GCRA 정책의 키는 Bucket4j 버킷 대신 TAT 하나만 저장하는 스크립트로 처리합니다. ({@link RedisGcraClient})
+     */
+    private RemoteBucketClient gcraClient;
+
+    /**
+     * [토큰 임대 풀]
+     * 임대 모드가 꺼져 있으면 null이며, 이때는 요청마다 Redis에서 직접 토큰을 소모합니다.
      */
-    private ProxyManager<String> proxyManager;
+    private TokenLeasePool leasePool;
 
     /**
-     * [Bucket 설정 Supplier]
-     * 매 요청마다 설정을 새로 만들지 않고 재사용하기 위한 공급자(Supplier)입니다.
-     * 불변 객체(Immutable)이므로 메모리에 하나만 만들어두고 계속 씁니다.
+     * [장애 대응]
+     * Redis 장애 시 사용할 노드 로컬 제한과, 전환 여부를 결정하는 서킷 브레이커입니다.
      */
-    private Supplier<BucketConfiguration> bucketConfigSupplier;
+    private LocalRateLimitProvider fallback;
+    private final RateLimitCircuitBreaker circuitBreaker;
+    private ScheduledExecutorService recoveryProbe;
+    private long timeoutNanos;
+
+    // 메트릭 (요청 경로에서 경합이 적은 LongAdder 사용)
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public RedisRateLimitProvider(RateLimitProperties properties, RedisConnectionFactory redisConnectionFactory) {
+        this.properties = properties;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.circuitBreaker = new RateLimitCircuitBreaker(properties.getRedis().getFailureThreshold());
+    }
+
+    /**
+     * 테스트용 생성자: Redis 연결 없이 원격 연산만 대체합니다. ({@link #init()}은 그대로 호출해야 함)
+     */
+    RedisRateLimitProvider(RateLimitProperties properties, RemoteBucketClient client) {
+        this(properties, (RedisConnectionFactory) null);
+        this.client = client;
+        this.gcraClient = client;
+    }
 
     /**
      * [초기화 메서드]
@@ -74,36 +129,57 @@ public class RedisRateLimitProvider implements RateLimitProvider {
      */
     @PostConstruct
     public void init() {
-        // 1. Spring Data Redis에서 순수 Lettuce Client 추출
-        RedisClient redisClient = getNativeRedisClient();
-
-        // 2. Bucket4j용 전용 커넥션 생성
-        // 성능 최적화를 위해 Key는 String, Value는 byte[]로 직렬화하여 통신합니다.
-        this.connection = redisClient
-                .connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
-
-        // 3. ProxyManager 빌드 (Bucket4j <-> Redis 연결)
-        // ClientSideConfig: Redis 클라이언트 측의 설정을 정의합니다. (구 버전의 withExpirationStrategy 대체)
-        this.proxyManager = LettuceBasedProxyManager.builderFor(connection)
-                .withClientSideConfig(
-                        ClientSideConfig.getDefault()
-                                // 만료 전략: 버킷이 꽉 차서 더 이상 토큰이 필요 없으면 1시간 뒤 Redis에서 자동 삭제
-                                .withExpirationAfterWriteStrategy(
-                                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofHours(1))
-                                )
-                )
-                .build();
-
-        // 4. 버킷 설정 정의 (1분에 N개)
-        this.bucketConfigSupplier = () -> BucketConfiguration.builder()
-                .addLimit(Bandwidth.builder()
-                        .capacity(properties.getCapacity()) // 버킷의 총 크기
-                        // Greedy Refill: 1분마다 한꺼번에 채우지 않고, 물 흐르듯 부드럽게 채움 (예: 60개/1분 -> 1초에 1개씩)
-                        .refillGreedy(properties.getCapacity(), Duration.ofMinutes(1))
-                        .build())
-                .build();
-
-        log.info("RateLimit: Redis Distributed Mode Activated. Capacity: {}/min", properties.getCapacity());
+        if (client == null) {
+            // 1. Spring Data Redis에서 순수 Lettuce Client 추출
+            RedisClient redisClient = getNativeRedisClient();
+
+            // 2. Bucket4j용 전용 커넥션 생성
+            // 성능 최적화를 위해 Key는 String, Value는 byte[]로 직렬화하여 통신합니다.
+            this.connection = redisClient
+                    .connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+
+            // 3. ProxyManager 빌드 (Bucket4j <-> Redis 연결)
+            // ClientSideConfig: Redis 클라이언트 측의 설정을 정의합니다. (구 버전의 withExpirationStrategy 대체)
+            // 요청 스레드를 Lettuce 동기 API에 묶어두지 않도록 비동기 ProxyManager를 사용합니다.
+            AsyncProxyManager<String> proxyManager = LettuceBasedProxyManager.builderFor(connection)
+                    .withClientSideConfig(
+                            ClientSideConfig.getDefault()
+                                    // 만료 전략: 버킷이 꽉 차서 더 이상 토큰이 필요 없으면 1시간 뒤 Redis에서 자동 삭제
+                                    .withExpirationAfterWriteStrategy(
+                                            ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(Duration.ofHours(1))
+                                    )
+                    )
+                    .build()
+                    .asAsync();
+
+            this.client = new ProxyManagerBucketClient(proxyManager, connection);
+            this.gcraClient = new RedisGcraClient(connection);
+        }
+
+        // 4. 장애 대응 (지연 예산 + 서킷 브레이커 + 로컬 대체)
+        RateLimitProperties.Redis redis = properties.getRedis();
+        this.timeoutNanos = redis.getTimeout().toNanos();
+        this.fallback = new LocalRateLimitProvider(properties);
+        this.fallback.init();
+        this.recoveryProbe = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ratelimit-redis-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long probeMillis = redis.getProbeInterval().toMillis();
+        recoveryProbe.scheduleWithFixedDelay(this::probeRecovery, probeMillis, probeMillis, TimeUnit.MILLISECONDS);
+
+        // 5. 토큰 임대 모드 (선택)
+        RateLimitProperties.Lease lease = properties.getLease();
+        if (lease.isEnabled()) {
+            this.leasePool = new TokenLeasePool(
+                    (key, policy, limit) -> call(remote(policy).tryConsumeUpTo(key, policy, limit)),
+                    lease.getSize(), lease.getTtl());
+            log.info("RateLimit: Redis Distributed Mode Activated with token leasing. Capacity: {}/min, Lease: {} tokens / {}",
+                    properties.getCapacity(), lease.getSize(), lease.getTtl());
+        } else {
+            log.info("RateLimit: Redis Distributed Mode Activated. Capacity: {}/min", properties.getCapacity());
+        }
     }
 
     /**
@@ -129,43 +205,213 @@ public class RedisRateLimitProvider implements RateLimitProvider {
         // Jedis 등 호환되지 않는 드라이버를 사용할 경우 명확한 에러를 발생시켜 개발자에게 알립니다.
         throw new BeanInitializationException(
                 "RedisRateLimitProvider requires LettuceConnectionFactory. Current: " +
-                        redisConnectionFactory.getClass().getSimpleName());
+                        (redisConnectionFactory != null ? redisConnectionFactory.getClass().getSimpleName() : "null"));
     }
 
     /**
      * [토큰 소모 요청]
      * 클라이언트 IP(key)를 기준으로 Redis에서 토큰 하나를 가져옵니다.
+     * 임대 모드에서는 로컬 임대분에서 먼저 차감하고, 부족할 때만 Redis에서 새 묶음을 빌려옵니다.
+     * 회로가 열려 있거나 Redis가 지연 예산 안에 응답하지 못하면 로컬 버킷으로 판단합니다.
      *
-     * @param key 클라이언트 식별자 (IP 주소 등)
+     * @param key    클라이언트 식별자 (IP 주소 등)
+     * @param policy 버킷 용량과 리필 주기
      * @return ConsumptionProbe (남은 토큰 수, 대기 시간 등의 결과 정보)
+     *         임대 모드의 남은 토큰 수는 전역 잔량이 아닌 이 노드의 임대 잔량입니다.
      */
     @Override
-    public ConsumptionProbe tryConsume(String key, int capacity) {
-        String redisKey = KEY_PREFIX + key;
-
-        // [동적 설정 공급자]
-        // 요청된 capacity에 맞춰 버킷 설정을 생성합니다.
-        Supplier<BucketConfiguration> configSupplier = () -> BucketConfiguration.builder()
-                .addLimit(Bandwidth.builder()
-                        .capacity(capacity)
-                        .refillGreedy(capacity, Duration.ofMinutes(1))
-                        .build())
-                .build();
-
-        // ProxyManager가 Redis에 키가 없으면 위 설정(supplier)대로 생성하고, 있으면 그대로 사용합니다.
-        // 주의: 이미 키가 존재하면(생성된 지 얼마 안 됨) 파라미터로 넘긴 capacity가 무시되고 기존 설정이 유지됩니다.
-        // 설정 변경을 즉시 반영하려면 Redis Key를 날려야 합니다.
-        return proxyManager.builder()
-                .build(redisKey, configSupplier)
-                .tryConsumeAndReturnRemaining(1);
+    public ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+        if (circuitBreaker.isOpen()) {
+            fallbacks.increment();
+            return fallback.tryConsume(key, policy);
+        }
+
+        try {
+            // 회로 상태는 실제 Redis 호출 결과로만 갱신 (임대분/차단 캐시로 로컬 응답한 요청은 반영하지 않음)
+            return (leasePool != null)
+                    ? leasePool.tryConsume(key, policy)
+                    : call(remote(policy).tryConsume(key, policy));
+        } catch (RemoteCallException e) {
+            circuitBreaker.recordFailure();
+            fallbacks.increment();
+            log.debug("Rate Limit Redis call failed, using local bucket: {}", e.getMessage());
+            return fallback.tryConsume(key, policy);
+        }
+    }
+
+    /**
+     * 정책의 알고리즘에 맞는 원격 연산을 고릅니다.
+     */
+    private RemoteBucketClient remote(RateLimitPolicy policy) {
+        return (policy.algorithm() == RateLimitAlgorithm.GCRA) ? gcraClient : client;
+    }
+
+    /**
+     * [복구 점검]
+     * 회로가 열려 있을 때만 Redis에 PING을 보내고, 지연 예산 안에 응답하면 회로를 닫습니다.
+     */
+    void probeRecovery() {
+        if (!circuitBreaker.isOpen()) {
+            return;
+        }
+        try {
+            await(client.ping());
+            circuitBreaker.close();
+        } catch (RemoteCallException e) {
+            log.debug("Rate Limit Redis still unavailable: {}", e.getMessage());
+        } catch (Exception e) {
+            // 스케줄러 스레드가 예외로 중단되면 이후 점검이 멈추므로 모두 흡수
+            log.warn("⚠️ Rate Limit Redis recovery probe failed unexpectedly: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 요청 경로의 원격 호출을 기다리고, 성공하면 서킷 브레이커의 연속 실패 수를 초기화합니다.
+     * (실패는 {@link #tryConsume}에서 기록)
+     */
+    private <T> T call(CompletableFuture<T> future) {
+        T result = await(future);
+        circuitBreaker.recordSuccess();
+        return result;
+    }
+
+    /**
+     * 원격 호출 결과를 지연 예산만큼만 기다립니다.
+     *
+     * @throws RemoteCallException 시간 초과 또는 Redis 오류
+     */
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            timeouts.increment();
+            throw new RemoteCallException("Redis call exceeded " + properties.getRedis().getTimeout());
+        } catch (ExecutionException e) {
+            errors.increment();
+            throw new RemoteCallException(String.valueOf(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.increment();
+            throw new RemoteCallException("Interrupted while waiting for Redis");
+        }
+    }
+
+    RateLimitCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    long fallbackCount() {
+        return fallbacks.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cms.ratelimit.redis.circuit.open", circuitBreaker, breaker -> breaker.isOpen() ? 1 : 0)
+                .description("1 while the Redis rate limit circuit is open (local fallback active)")
+                .register(registry);
+        FunctionCounter.builder("cms.ratelimit.redis.circuit.opened", circuitBreaker, RateLimitCircuitBreaker::openedCount)
+                .description("Number of times the Redis rate limit circuit has opened")
+                .register(registry);
+        FunctionCounter.builder("cms.ratelimit.redis.fallbacks", fallbacks, LongAdder::sum)
+                .description("Requests rate limited by the local fallback instead of Redis")
+                .register(registry);
+        FunctionCounter.builder("cms.ratelimit.redis.failures", timeouts, LongAdder::sum)
+                .tag("cause", "timeout")
+                .register(registry);
+        FunctionCounter.builder("cms.ratelimit.redis.failures", errors, LongAdder::sum)
+                .tag("cause", "error")
+                .register(registry);
+    }
+
+    @Override
+    public Map<String, Cache<?, ?>> getStatsCaches() {
+        Map<String, Cache<?, ?>> caches = new HashMap<>();
+        caches.put("ratelimit.redis_fallback_buckets", fallback.getStatsCaches().get("ratelimit.local_buckets"));
+        if (leasePool != null) {
+            caches.put("ratelimit.redis_leases", leasePool.cache());
+        }
+        return caches;
     }
 
     @PreDestroy
     public void shutdown() {
+        if (recoveryProbe != null) {
+            recoveryProbe.shutdownNow();
+        }
+        if (connection == null) {
+            return;
+        }
         try {
             connection.close();
         } catch (Exception e) {
             log.warn("Failed to close Redis connection", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 원격 호출 실패 (시간 초과/오류)
+     * <p>
+     * Redis 장애 중에는 요청마다 발생할 수 있으므로 스택 트레이스를 채우지 않습니다. (Stackless)
+     * </p>
+     */
+    private static final class RemoteCallException extends RuntimeException {
+        private RemoteCallException(String message) {
+            super(message, null, false, false);
+        }
+    }
+
+    /**
+     * [Bucket4j 비동기 ProxyManager 기반 원격 연산]
+     * 버킷 빌더와 정책별 설정을 재사용하여, 요청마다 설정 객체를 새로 만들지 않습니다.
+     */
+    private static final class ProxyManagerBucketClient implements RemoteBucketClient {
+
+        private final RemoteAsyncBucketBuilder<String> bucketBuilder;
+        private final StatefulRedisConnection<String, byte[]> connection;
+        private final Map<RateLimitPolicy, Supplier<CompletableFuture<BucketConfiguration>>> configurations =
+                new ConcurrentHashMap<>();
+
+        private ProxyManagerBucketClient(AsyncProxyManager<String> proxyManager,
+                                         StatefulRedisConnection<String, byte[]> connection) {
+            this.bucketBuilder = proxyManager.builder();
+            this.connection = connection;
+        }
+
+        @Override
+        public CompletableFuture<ConsumptionProbe> tryConsume(String key, RateLimitPolicy policy) {
+            return bucket(key, policy).tryConsumeAndReturnRemaining(1);
+        }
+
+        @Override
+        public CompletableFuture<Long> tryConsumeUpTo(String key, RateLimitPolicy policy, long limit) {
+            return bucket(key, policy).tryConsumeAsMuchAsPossible(limit);
+        }
+
+        @Override
+        public CompletableFuture<?> ping() {
+            return connection.async().ping().toCompletableFuture();
+        }
+
+        private AsyncBucketProxy bucket(String key, RateLimitPolicy policy) {
+            // ProxyManager가 Redis에 키가 없으면 설정대로 생성하고, 있으면 그대로 사용합니다.
+            // 주의: 이미 키가 존재하면 파라미터로 넘긴 정책이 무시되고 기존 설정이 유지됩니다.
+            // 설정 변경을 즉시 반영하려면 Redis Key를 날려야 합니다.
+            return bucketBuilder.build(KEY_PREFIX + key,
+                    configurations.computeIfAbsent(policy, ProxyManagerBucketClient::configurationOf));
+        }
+
+        private static Supplier<CompletableFuture<BucketConfiguration>> configurationOf(RateLimitPolicy policy) {
+            // 버킷 설정은 불변 객체이므로 정책별로 하나만 만들어두고 계속 씁니다.
+            BucketConfiguration configuration = BucketConfiguration.builder()
+                    .addLimit(Bandwidth.builder()
+                            .capacity(policy.capacity())
+                            // Greedy Refill: 1분마다 한꺼번에 채우지 않고, 물 흐르듯 부드럽게 채움 (예: 60개/1분 -> 1초에 1개씩)
+                            .refillGreedy(policy.capacity(), policy.refillPeriod())
+                            .build())
+                    .build();
+            CompletableFuture<BucketConfiguration> completed = CompletableFuture.completedFuture(configuration);
+            return () -> completed;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <h3>[원격 버킷 연산 규격 (비동기)]</h3>
+ * <p>
+ * {@link RedisRateLimitProvider}가 공유 저장소의 버킷에 대해 수행하는 연산입니다.
+ * 호출 1회가 Redis 왕복 1회에 해당하며, 호출 스레드를 막지 않고 결과를 Future로 돌려줍니다.
+ * 대기 시간 예산(timeout)은 호출자가 적용합니다. 테스트에서는 로컬 대역(Stand-in)으로 대체합니다.
+ * </p>
+ */
+interface RemoteBucketClient {
+
+    /**
+     * 토큰 1개 소모를 시도합니다.
+     */
+    CompletableFuture<ConsumptionProbe> tryConsume(String key, RateLimitPolicy policy);
+
+    /**
+     * 최대 {@code limit}개까지 가능한 만큼 토큰을 소모하고, 실제 소모한 개수를 반환합니다. (토큰 임대용)
+     */
+    CompletableFuture<Long> tryConsumeUpTo(String key, RateLimitPolicy policy, long limit);
+
+    /**
+     * 저장소 상태 확인용 왕복 (서킷 브레이커 복구 감지용)
+     */
+    CompletableFuture<?> ping();
+}
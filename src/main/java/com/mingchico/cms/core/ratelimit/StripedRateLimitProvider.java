@@ -0,0 +1,227 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h3>[스트라이프 배열 기반 로컬 Rate Limit 엔진]</h3>
+ * <p>
+ * {@link LocalRateLimitProvider}가 키마다 Bucket4j {@code Bucket} 객체와 Caffeine 노드를 만드는 대신,
+ * 고정 개수의 샤드(락 스트라이프) 안에 토큰 버킷 상태를 <b>기본형 배열</b>로 보관합니다.
+ * 키는 64비트 해시로만 식별하므로 키 문자열도 보관하지 않으며, 키당 메모리는 항상 {@value #BYTES_PER_KEY}바이트입니다.
+ * </p>
+ *
+ * <h3>[구조]</h3>
+ * <ul>
+ * <li><b>샤드:</b> 해시 상위 비트로 선택되며, 샤드마다 락 하나로 보호됩니다. (서로 다른 샤드는 경합하지 않음)</li>
+ * <li><b>세트 연관(Set-Associative):</b> 샤드 안에서 해시 하위 비트로 {@value #WAYS}칸짜리 세트를 고르고, 그 안에서만 키를 찾습니다.</li>
+ * <li><b>CLOCK 교체:</b> 세트가 가득 차면 세트별 시계 바늘을 돌려, 최근 참조 비트가 꺼진 칸을 교체합니다.
+ * 교체된 키는 다음 요청 시 가득 찬 버킷으로 다시 시작하므로, 자주 쓰이는 키가 먼저 살아남습니다.</li>
+ * <li><b>정수 연산:</b> 토큰은 {@code 토큰 x 리필 주기(ns)} 단위의 long으로 저장하여, 리필 계산에 나눗셈/부동소수가 없습니다.</li>
+ * </ul>
+ * <p>
+ * 64비트 해시가 충돌한 두 키는 같은 버킷을 공유합니다. (키 100만 개 기준 확률 약 10^-8)
+ * 버킷 정책은 Bucket4j 구현과 마찬가지로 키가 처음 생성될 때의 값으로 고정됩니다.
+ * GCRA 정책은 {@link GcraRateLimitProvider}로 위임합니다.
+ * </p>
+ */
+@Slf4j
+public class StripedRateLimitProvider implements RateLimitProvider {
+
+    /** 세트당 칸 수 (2의 거듭제곱) */
+    static final int WAYS = 8;
+
+    /** 키(8) + 토큰(8) + 마지막 리필 시각(8) + 리필 주기(8) + 용량(4) + 참조 비트(1) */
+    static final int BYTES_PER_KEY = 37;
+
+    /** 남은 토큰 수별로 미리 만들어 둔 성공 결과 (성공 시 결과 객체 할당 제거) */
+    private static final ConsumptionProbe[] CONSUMED_PROBES = new ConsumptionProbe[1024];
+
+    static {
+        for (int i = 0; i < CONSUMED_PROBES.length; i++) {
+            CONSUMED_PROBES[i] = ConsumptionProbe.consumed(i, 0);
+        }
+    }
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final LongAdder evictions = new LongAdder();
+    private final GcraRateLimitProvider gcra = new GcraRateLimitProvider();
+
+    /**
+     * @param maxKeys    보관할 최대 키 수 (샤드/세트 단위로 2의 거듭제곱으로 올림)
+     * @param shardCount 락 스트라이프 수 (2의 거듭제곱으로 올림, 동시 요청 스레드 수 이상 권장)
+     */
+    public StripedRateLimitProvider(int maxKeys, int shardCount) {
+        int shardTotal = ceilPowerOfTwo(Math.max(1, shardCount));
+        int slotsPerShard = ceilPowerOfTwo(Math.max(WAYS, (maxKeys + shardTotal - 1) / shardTotal));
+
+        this.shards = new Shard[shardTotal];
+        for (int i = 0; i < shardTotal; i++) {
+            shards[i] = new Shard(slotsPerShard);
+        }
+        this.shardMask = shardTotal - 1;
+
+        log.info("RateLimit: Local Striped Engine Activated. ({} shards x {} keys, ~{} KB)",
+                shardTotal, slotsPerShard, (long) shardTotal * slotsPerShard * BYTES_PER_KEY / 1024);
+    }
+
+    public StripedRateLimitProvider(RateLimitProperties properties) {
+        this(properties.getStriped().getMaxKeys(), properties.getStriped().getShards());
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+        return tryConsume(key, policy, System.nanoTime());
+    }
+
+    ConsumptionProbe tryConsume(String key, RateLimitPolicy policy, long nowNanos) {
+        if (policy.algorithm() == RateLimitAlgorithm.GCRA) {
+            return gcra.tryConsume(key, policy, nowNanos);
+        }
+        long hash = hash64(key);
+        return shards[(int) (hash >>> 40) & shardMask].tryConsume(hash, policy, nowNanos);
+    }
+
+    /** 보관 가능한 최대 키 수 */
+    int slotCount() {
+        return shards.length * shards[0].keys.length;
+    }
+
+    /** 누적 교체(Eviction) 수 */
+    long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * 문자열 키의 64비트 해시 (FNV-1a + MurmurHash3 fmix64). 0은 빈 칸 표시용이므로 사용하지 않습니다.
+     */
+    static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (h == 0) ? 1 : h;
+    }
+
+    private static int ceilPowerOfTwo(int value) {
+        return (value <= 1) ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * 락 하나로 보호되는 배열 묶음. 같은 인덱스의 원소들이 한 키의 버킷 상태를 이룹니다.
+     */
+    private final class Shard {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] keys;
+        private final long[] tokens;       // 토큰 x 리필 주기(ns)
+        private final long[] refilledAt;   // 마지막 리필 시각 (System.nanoTime 기준)
+        private final long[] periods;      // 리필 주기(ns)
+        private final int[] capacities;
+        private final boolean[] referenced;
+        private final byte[] hands;        // 세트별 CLOCK 바늘 위치
+        private final int setMask;
+
+        private Shard(int slots) {
+            this.keys = new long[slots];
+            this.tokens = new long[slots];
+            this.refilledAt = new long[slots];
+            this.periods = new long[slots];
+            this.capacities = new int[slots];
+            this.referenced = new boolean[slots];
+            this.hands = new byte[slots / WAYS];
+            this.setMask = slots / WAYS - 1;
+        }
+
+        private ConsumptionProbe tryConsume(long hash, RateLimitPolicy policy, long now) {
+            lock.lock();
+            try {
+                int set = (int) hash & setMask;
+                int slot = find(set, hash);
+                if (slot < 0) {
+                    slot = allocate(set);
+                    keys[slot] = hash;
+                    capacities[slot] = policy.capacity();
+                    periods[slot] = policy.refillPeriod().toNanos();
+                    // 가득 찬 상태로 시작 (곱은 RateLimitPolicy가 MAX_TOKEN_UNITS 이하로 보장)
+                    tokens[slot] = capacities[slot] * periods[slot];
+                    refilledAt[slot] = now;
+                } else {
+                    refill(slot, now);
+                }
+                referenced[slot] = true;
+                return consume(slot);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int find(int set, long hash) {
+            int base = set * WAYS;
+            for (int i = base; i < base + WAYS; i++) {
+                if (keys[i] == hash) return i;
+            }
+            return -1;
+        }
+
+        /**
+         * 세트에서 빈 칸을 찾고, 없으면 CLOCK 방식으로 교체할 칸을 고릅니다.
+         * (참조 비트가 켜진 칸은 비트만 끄고 넘어가므로 최대 두 바퀴 안에 결정됨)
+         */
+        private int allocate(int set) {
+            int base = set * WAYS;
+            for (int i = base; i < base + WAYS; i++) {
+                if (keys[i] == 0) return i;
+            }
+            int hand = hands[set];
+            while (true) {
+                int slot = base + hand;
+                hand = (hand + 1) & (WAYS - 1);
+                if (!referenced[slot]) {
+                    hands[set] = (byte) hand;
+                    evictions.increment();
+                    return slot;
+                }
+                referenced[slot] = false;
+            }
+        }
+
+        private void refill(int slot, long now) {
+            long elapsed = now - refilledAt[slot];
+            if (elapsed <= 0) return;
+
+            long period = periods[slot];
+            long capacity = capacities[slot];
+            // 한 주기 이상 지났으면 어차피 가득 차므로 상한 적용
+            // (capacity x period <= MAX_TOKEN_UNITS 이므로 잔량 + 추가분도 long 범위를 넘지 않음)
+            long added = Math.min(elapsed, period) * capacity;
+            tokens[slot] = Math.min(capacity * period, tokens[slot] + added);
+            refilledAt[slot] = now;
+        }
+
+        private ConsumptionProbe consume(int slot) {
+            long period = periods[slot];
+            long capacity = capacities[slot];
+            if (tokens[slot] >= period) {
+                tokens[slot] -= period;
+                long remaining = tokens[slot] / period;
+                return (remaining < CONSUMED_PROBES.length)
+                        ? CONSUMED_PROBES[(int) remaining]
+                        : ConsumptionProbe.consumed(remaining, 0);
+            }
+            // 토큰 1개(= period 단위)가 찰 때까지 필요한 시간: 부족분 / 용량 (ns, 올림)
+            long waitForRefill = (period - tokens[slot] + capacity - 1) / capacity;
+            long waitForReset = (capacity * period - tokens[slot] + capacity - 1) / capacity;
+            return ConsumptionProbe.rejected(0, waitForRefill, waitForReset);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h3>[노드 로컬 토큰 임대 풀]</h3>
+ * <p>
+ * 요청마다 Redis 버킷에서 토큰을 1개씩 꺼내는 대신, 키별로 토큰 묶음(Lease)을 한 번에 빌려와
+ * 로컬 메모리에서 차감합니다. Redis 왕복은 임대분을 다 쓰거나 임대 기간이 끝났을 때만 발생합니다.
+ * </p>
+ *
+ * <h3>[정확도 특성]</h3>
+ * <ul>
+ * <li><b>초과 허용 없음:</b> 로컬에서 소모하는 토큰은 모두 Redis에서 미리 차감된 것이므로 전역 제한을 넘지 않습니다.</li>
+ * <li><b>과소 허용 가능:</b> 다른 노드가 빌려두고 쓰지 않은 토큰(최대 노드 수 x 임대 크기)만큼 일시적으로 덜 허용될 수 있으며,
+ * 쓰지 않은 토큰은 반납하지 않고 임대 기간이 끝나면 버립니다.</li>
+ * <li><b>차단 캐싱:</b> 임대에 실패하면 토큰 1개가 다시 채워질 때까지 로컬에서 바로 거절하여,
+ * 공격 트래픽이 Redis까지 도달하지 않게 합니다.</li>
+ * </ul>
+ */
+final class TokenLeasePool {
+
+    private final TokenSource source;
+    private final int leaseSize;
+    private final long leaseTtlNanos;
+    private final Cache<String, Lease> leases;
+
+    TokenLeasePool(TokenSource source, int leaseSize, Duration leaseTtl) {
+        this.source = source;
+        this.leaseSize = leaseSize;
+        this.leaseTtlNanos = leaseTtl.toNanos();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(1))
+                .recordStats()
+                .build();
+    }
+
+    ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+        return leases.get(key, k -> new Lease()).tryConsume(key, policy);
+    }
+
+    Cache<String, Lease> cache() {
+        return leases;
+    }
+
+    /**
+     * 공유 버킷에서 최대 {@code limit}개의 토큰을 가져와 실제로 가져온 개수를 반환합니다. (Redis 왕복 1회)
+     * 실패 시 예외를 던지며, 이 경우 임대 상태는 바뀌지 않습니다.
+     */
+    @FunctionalInterface
+    interface TokenSource {
+        long acquire(String key, RateLimitPolicy policy, long limit);
+    }
+
+    /**
+     * 키 하나의 임대 상태.
+     * 같은 키의 동시 요청이 각자 Redis에 임대를 요청하지 않도록 임대 갱신 중에는 락을 유지합니다.
+     * (가상 스레드가 캐리어 스레드에 고정되지 않도록 synchronized 대신 ReentrantLock 사용)
+     */
+    final class Lease {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long tokens;
+        private long expiresAt;
+        private long blockedUntil;
+
+        private ConsumptionProbe tryConsume(String key, RateLimitPolicy policy) {
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                if (tokens > 0 && now - expiresAt < 0) {
+                    tokens--;
+                    return ConsumptionProbe.consumed(tokens, 0);
+                }
+                if (now - blockedUntil < 0) {
+                    return ConsumptionProbe.rejected(0, blockedUntil - now, 0);
+                }
+
+                long granted = source.acquire(key, policy, Math.min(leaseSize, policy.capacity()));
+                if (granted > 0) {
+                    tokens = granted - 1;
+                    expiresAt = now + leaseTtlNanos;
+                    return ConsumptionProbe.consumed(tokens, 0);
+                }
+
+                // 전역 버킷 소진: 토큰 1개가 채워질 때까지(Greedy Refill) 로컬에서 거절
+                long waitNanos = policy.nanosPerToken();
+                tokens = 0;
+                blockedUntil = now + waitNanos;
+                return ConsumptionProbe.rejected(0, waitNanos, 0);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -21,6 +21,9 @@ public interface AccessContext {
     /** 특정 권한 보유 여부 확인 */
     boolean hasRole(String role);
 
+    /** 보유 권한 비트마스크 ({@link RoleRegistry} 기준, 비로그인 시 0) */
+    long getRoleMask();
+
     /** 관리자 여부 확인 */
     default boolean isAdmin() {
         return hasRole("ADMIN");
@@ -35,4 +35,9 @@ public class DefaultAccessContext implements AccessContext {
     public boolean hasRole(String role) {
         return ContextHolder.hasRole(role);
     }
+
+    @Override
+    public long getRoleMask() {
+        return ContextHolder.getRoleMask();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.mingchico.cms.core.security;
+
+import com.mingchico.cms.core.user.domain.Role;
+import lombok.experimental.UtilityClass;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h3>[역할 ID 레지스트리 (Role Bitmask)]</h3>
+ * <p>
+ * 역할 이름을 작은 정수 ID로 등록(Intern)하고, 역할 집합을 {@code long} 비트마스크로 표현합니다.
+ * 메뉴의 권한 목록은 스냅샷 생성 시 한 번만 마스크로 변환해 두고,
+ * 요청 시에는 사용자 권한 마스크와 비트 AND 한 번으로 접근 여부를 판단합니다.
+ * </p>
+ *
+ * <h3>[규칙]</h3>
+ * <ul>
+ * <li><b>정규화:</b> {@code ContextHolder.hasRole}과 동일하게 {@code ROLE_} 접두사를 보정합니다.
+ * (예: {@code ADMIN} → {@code ROLE_ADMIN}, 단 {@code ANONYMOUS}는 그대로)</li>
+ * <li><b>ID 범위:</b> 0번은 {@code ANONYMOUS}, 표준 역할({@link Role})은 기동 시 순서대로 선점합니다.
+ * ID는 JVM 로컬 값이므로 노드 간에 공유(직렬화)하지 말고 각 노드에서 다시 계산해야 합니다.</li>
+ * <li><b>용량 초과:</b> 63번째 이후 역할은 {@link #OVERFLOW_MASK}로 표시되며,
+ * 호출자는 이 경우 역할 이름 비교로 대체해야 합니다.</li>
+ * </ul>
+ *
+ * @see com.mingchico.cms.core.context.ContextHolder#hasRole(String)
+ */
+@UtilityClass
+public class RoleRegistry {
+
+    public static final String ANONYMOUS = "ANONYMOUS";
+
+    /** 비회원 허용 비트 (항상 0번) */
+    public static final long ANONYMOUS_MASK = 1L;
+
+    /** 비트마스크로 표현할 수 없는 역할이 포함되었음을 나타내는 비트 */
+    public static final long OVERFLOW_MASK = 1L << 63;
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_ID = 62;
+
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(1);
+
+    static {
+        IDS.put(ANONYMOUS, 0);
+        for (Role role : Role.values()) {
+            intern(role.getKey());
+        }
+    }
+
+    /**
+     * 역할 목록을 마스크로 변환합니다. 처음 보는 역할은 새 ID로 등록됩니다.
+     */
+    public static long maskOf(Collection<String> roles) {
+        long mask = 0L;
+        for (String role : roles) {
+            String key = normalize(role);
+            if (key.isEmpty()) continue;
+
+            Integer id = intern(key);
+            mask |= (id != null) ? (1L << id) : OVERFLOW_MASK;
+        }
+        return mask;
+    }
+
+    /**
+     * 사용자 권한 목록을 마스크로 변환합니다.
+     * 등록되지 않은 권한은 어떤 메뉴에도 요구되지 않으므로 무시합니다. (레지스트리를 오염시키지 않음)
+     */
+    public static long authorityMask(Collection<? extends GrantedAuthority> authorities) {
+        long mask = 0L;
+        for (GrantedAuthority authority : authorities) {
+            Integer id = IDS.get(authority.getAuthority());
+            if (id != null && id > 0) {
+                mask |= 1L << id;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * 요구 역할 중 하나라도 보유하고 있는지 확인합니다. (용량 초과 비트는 비교에서 제외)
+     */
+    public static boolean hasAny(long requiredMask, long grantedMask) {
+        return (requiredMask & grantedMask & ~OVERFLOW_MASK) != 0;
+    }
+
+    public static boolean allowsAnonymous(long requiredMask) {
+        return (requiredMask & ANONYMOUS_MASK) != 0;
+    }
+
+    public static boolean isOverflowed(long requiredMask) {
+        return (requiredMask & OVERFLOW_MASK) != 0;
+    }
+
+    private static Integer intern(String key) {
+        return IDS.computeIfAbsent(key, k -> {
+            int id = NEXT_ID.getAndIncrement();
+            return (id <= MAX_ID) ? id : null; // null이면 등록하지 않음
+        });
+    }
+
+    private static String normalize(String role) {
+        String trimmed = role.trim();
+        if (trimmed.isEmpty() || ANONYMOUS.equals(trimmed) || trimmed.startsWith(ROLE_PREFIX)) {
+            return trimmed;
+        }
+        return ROLE_PREFIX + trimmed;
+    }
+}
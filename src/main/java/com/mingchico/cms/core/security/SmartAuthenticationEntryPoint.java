@@ -1,8 +1,10 @@
 package com.mingchico.cms.core.security;
 
+import com.mingchico.cms.core.common.ErrorResponseWriter;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -21,15 +23,16 @@ import java.io.IOException;
 @Component
 public class SmartAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private static final ErrorResponseWriter UNAUTHORIZED =
+            ErrorResponseWriter.of(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
         if (isAjaxOrApiRequest(request)) {
             // [API/AJAX] 401 Unauthorized JSON 응답
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\": \"Unauthorized\", \"message\": \"로그인이 필요합니다.\"}");
+            UNAUTHORIZED.write(response);
         } else {
             // [Browser] 로그인 페이지로 리다이렉트
             response.sendRedirect("/login");
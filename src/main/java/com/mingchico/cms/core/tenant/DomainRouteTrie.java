@@ -0,0 +1,192 @@
+package com.mingchico.cms.core.tenant;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h3>[도메인 라우팅 트라이 (Reversed-Label Trie)]</h3>
+ * <p>
+ * 와일드카드 도메인 패턴을 <b>역순 라벨</b>(com → shop → *) 기준의 트라이로 컴파일하여,
+ * 캐시 미스 시 비용을 <b>O(테넌트 수)</b>에서 <b>O(라벨 수)</b>로 줄입니다.
+ * </p>
+ *
+ * <h3>[매칭 규칙]</h3>
+ * <ul>
+ * <li><b>{@code *}</b> 라벨: 정확히 한 개의 라벨과 매칭 (AntPathMatcher의 단일 세그먼트 규칙과 동일)</li>
+ * <li><b>{@code **}</b> 라벨: 0개 이상의 라벨과 매칭</li>
+ * <li><b>우선순위:</b> 기존 정렬 규칙과 동일하게 "긴 패턴 우선", 길이가 같으면 등록 순서 우선</li>
+ * <li><b>비정형 패턴:</b> {@code shop-*.com}처럼 라벨 일부에만 와일드카드가 있는 패턴은
+ * 트라이로 표현할 수 없으므로 별도 목록에 보관하고 AntPathMatcher로 대조합니다.</li>
+ * </ul>
+ * <p>
+ * 생성 이후에는 상태가 바뀌지 않는 불변 구조이므로, 여러 요청 스레드가 락 없이 동시에 조회할 수 있습니다.
+ * </p>
+ */
+public final class DomainRouteTrie {
+
+    /** 규칙이 하나도 없는 빈 트라이 */
+    public static final DomainRouteTrie EMPTY = new DomainRouteTrie(new Node(), List.of());
+
+    private static final String SINGLE_WILDCARD = "*";
+    private static final String MULTI_WILDCARD = "**";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher(".");
+
+    private final Node root;
+
+    // 트라이로 표현할 수 없는 패턴 (rank 오름차순 정렬)
+    private final List<Rule> irregularRules;
+
+    private DomainRouteTrie(Node root, List<Rule> irregularRules) {
+        this.root = root;
+        this.irregularRules = irregularRules;
+    }
+
+    /**
+     * <h3>[컴파일]</h3>
+     * 와일드카드 패턴 → 사이트 코드 매핑을 받아 트라이를 생성합니다.
+     * 와일드카드({@code *})가 없는 패턴은 정확 일치 단계에서 처리되므로 무시합니다.
+     *
+     * @param rules Key: 도메인 패턴, Value: 사이트 코드
+     */
+    public static DomainRouteTrie compile(Map<String, String> rules) {
+        // 1. 우선순위 정렬: 길이가 긴 패턴이 먼저 (기존 sortedPatterns와 동일한 기준)
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : rules.keySet()) {
+            if (pattern.contains(SINGLE_WILDCARD)) {
+                patterns.add(pattern);
+            }
+        }
+        patterns.sort(Comparator.comparingInt(String::length).reversed());
+
+        // 2. 정렬된 순서(rank)를 그대로 우선순위로 사용하여 트라이에 적재
+        Node root = new Node();
+        List<Rule> irregular = new ArrayList<>();
+
+        for (int rank = 0; rank < patterns.size(); rank++) {
+            String pattern = patterns.get(rank);
+            Rule rule = new Rule(pattern, rules.get(pattern), rank);
+
+            String[] labels = pattern.split("\\.");
+            if (!isTrieCompatible(labels)) {
+                irregular.add(rule);
+                continue;
+            }
+
+            Node node = root;
+            for (int i = labels.length - 1; i >= 0; i--) {
+                node = node.child(labels[i]);
+            }
+            // 같은 패턴이 중복되면 먼저 등록된(우선순위가 높은) 규칙을 유지
+            if (node.rule == null) {
+                node.rule = rule;
+            }
+        }
+
+        return new DomainRouteTrie(root, Collections.unmodifiableList(irregular));
+    }
+
+    /**
+     * 도메인에 매칭되는 가장 구체적인 와일드카드 규칙의 사이트 코드를 반환합니다.
+     *
+     * @param domain 소문자로 정규화된 요청 도메인
+     * @return 사이트 코드, 매칭되는 규칙이 없으면 null
+     */
+    public String match(String domain) {
+        String[] labels = domain.split("\\.");
+
+        Rule best = walk(root, labels, labels.length - 1, null);
+
+        // 비정형 패턴은 rank 순으로 정렬되어 있으므로, 현재 최선보다 우선순위가 낮아지면 즉시 중단
+        for (Rule rule : irregularRules) {
+            if (best != null && rule.rank() > best.rank()) {
+                break;
+            }
+            if (PATH_MATCHER.match(rule.pattern(), domain)) {
+                best = rule;
+                break;
+            }
+        }
+
+        return best != null ? best.siteCode() : null;
+    }
+
+    /**
+     * 역순 라벨을 따라 트라이를 탐색하며 매칭된 규칙 중 rank가 가장 낮은(우선순위 높은) 규칙을 고릅니다.
+     *
+     * @param index 다음에 소비할 라벨 위치 (뒤에서부터 감소, -1이면 모두 소비)
+     */
+    private static Rule walk(Node node, String[] labels, int index, Rule best) {
+        if (node.multi != null) {
+            // '**'는 0개 이상의 라벨을 소비할 수 있음 (라벨을 모두 소비한 뒤에도 매칭 가능)
+            for (int next = index; next >= -1; next--) {
+                best = walk(node.multi, labels, next, best);
+            }
+        }
+
+        if (index < 0) {
+            return better(node.rule, best);
+        }
+
+        Node literal = node.literals.get(labels[index]);
+        if (literal != null) {
+            best = walk(literal, labels, index - 1, best);
+        }
+        if (node.single != null) {
+            best = walk(node.single, labels, index - 1, best);
+        }
+        return best;
+    }
+
+    private static Rule better(Rule candidate, Rule best) {
+        if (candidate == null) return best;
+        if (best == null || candidate.rank() < best.rank()) return candidate;
+        return best;
+    }
+
+    /**
+     * 모든 라벨이 리터럴이거나 온전한 와일드카드({@code *}, {@code **})인지 확인합니다.
+     */
+    private static boolean isTrieCompatible(String[] labels) {
+        for (String label : labels) {
+            if (SINGLE_WILDCARD.equals(label) || MULTI_WILDCARD.equals(label)) {
+                continue;
+            }
+            if (label.isEmpty() || label.indexOf('*') >= 0 || label.indexOf('?') >= 0 || label.indexOf('{') >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Rule(String pattern, String siteCode, int rank) {
+    }
+
+    /**
+     * 트라이 노드. {@link #compile} 내부에서만 구성되며 이후에는 읽기 전용으로만 사용됩니다.
+     */
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node single;
+        private Node multi;
+        private Rule rule;
+
+        private Node child(String label) {
+            if (SINGLE_WILDCARD.equals(label)) {
+                if (single == null) single = new Node();
+                return single;
+            }
+            if (MULTI_WILDCARD.equals(label)) {
+                if (multi == null) multi = new Node();
+                return multi;
+            }
+            return literals.computeIfAbsent(label, k -> new Node());
+        }
+    }
+}
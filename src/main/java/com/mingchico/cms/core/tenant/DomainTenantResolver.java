@@ -2,26 +2,23 @@ package com.mingchico.cms.core.tenant;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.mingchico.cms.core.tenant.domain.Tenant;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import com.mingchico.cms.core.tenant.dto.TenantRoute;
+import com.mingchico.cms.core.tenant.dto.TenantRouteVersion;
 import com.mingchico.cms.core.tenant.event.TenantRouteChangedEvent;
 import com.mingchico.cms.core.tenant.repository.TenantRepository;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -34,25 +31,44 @@ import java.util.concurrent.TimeUnit;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class DomainTenantResolver implements TenantResolver {
+public class DomainTenantResolver implements TenantResolver, CacheStatsContributor {
 
     private final TenantRepository tenantRepository;
 
-    // Ant 스타일 패턴 매칭 유틸리티 (예: *.shop.com)
-    private final AntPathMatcher pathMatcher = new AntPathMatcher(".");
-
-    // [Layer 1] Rule Cache: 매핑 규칙 원본 (순서 중요: LinkedHashMap 권장되나 로직상 List/Map 분리 관리)
-    // 읽기 효율을 위해 "매칭 우선순위가 정렬된 키 목록"을 따로 관리
-    private final Map<String, String> cachedRules = new ConcurrentHashMap<>();
-    private final List<String> sortedPatterns = new ArrayList<>(); // 정렬된 키 목록 (매칭 순서 보장용)
+    // [Layer 1] Routing Snapshot: 정확 일치 맵 + 와일드카드 트라이를 하나의 불변 객체로 묶어 관리
+    // 갱신 시에는 새 스냅샷을 만들어 volatile 참조 하나만 교체(Copy-On-Write)하므로,
+    // 요청 스레드는 락이나 복사 없이 읽으면서도 절반만 채워진 규칙을 보는 일이 없습니다.
+    private volatile RouteSnapshot snapshot = RouteSnapshot.EMPTY;
 
     // [Layer 2] Result Cache: 요청 도메인별 계산 결과 캐시 (Caffeine)
     private final Cache<String, String> resolvedResultCache = Caffeine.newBuilder()
             .maximumSize(10_000)
             .expireAfterAccess(10, TimeUnit.MINUTES)
+            .recordStats()
             .build();
 
+    // [Layer 2-1] Negative Cache: 등록되지 않은 Host 목록 (짧은 TTL, 크기 제한)
+    // Caffeine은 null 결과를 저장하지 않으므로, 미등록 Host를 따로 기억하지 않으면
+    // 스캐너가 보내는 무작위 서브도메인마다 규칙 탐색이 반복됩니다.
+    private final Cache<String, Boolean> unknownHostCache;
+
+    public DomainTenantResolver(TenantRepository tenantRepository, TenantProperties tenantProperties) {
+        this.tenantRepository = tenantRepository;
+        this.unknownHostCache = Caffeine.newBuilder()
+                .maximumSize(tenantProperties.getUnknownHostCacheSize())
+                .expireAfterWrite(tenantProperties.getUnknownHostTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Map<String, Cache<?, ?>> getStatsCaches() {
+        return Map.of(
+                "tenant.resolved_domains", resolvedResultCache,
+                "tenant.unknown_hosts", unknownHostCache
+        );
+    }
+
     /**
      * <h3>[이벤트 리스너: 도메인 변경 감지]</h3>
      * <p>
@@ -68,53 +84,102 @@ public class DomainTenantResolver implements TenantResolver {
     }
 
     /**
-     * <h3>[규칙 동기화]</h3>
+     * <h3>[규칙 동기화 (강제)]</h3>
      * <p>
-     * DB에서 모든 테넌트 정보를 가져와 메모리에 캐싱합니다.
-     * 이때, <b>"구체적인 패턴"이 먼저 매칭되도록 정밀하게 정렬</b>합니다.
+     * 버전 비교 없이 DB에서 라우팅 규칙을 다시 읽어 스냅샷을 교체합니다.
+     * 기동 시점과 관리자 변경 이벤트 수신 시 사용됩니다.
      * </p>
      */
     @PostConstruct
-    @Scheduled(fixedDelay = 60000)
-    public synchronized void refreshRules() {
-        try {
-            log.debug("Refreshing tenant rules from DB...");
-
-            // 1. DB 조회 (정렬은 Java에서 수행)
-            List<Tenant> allTenants = new ArrayList<>(tenantRepository.findAll());
+    public void refreshRules() {
+        reloadRules(true);
+    }
 
-            // 2. 스마트 정렬 로직 (Priority Sorting)
-            // 우선순위 1: 와일드카드(*)가 없는 정확한 도메인 (admin.shop.com)
-            // 우선순위 2: 와일드카드가 있어도 길이가 긴 패턴 (*.shop.com > *.com)
-            allTenants.sort(Comparator.comparing((Tenant t) -> t.getDomainPattern().contains("*")) // false(0) -> true(1)
-                    .thenComparing(t -> t.getDomainPattern().length(), Comparator.reverseOrder())); // 길이 긴 순
+    /**
+     * <h3>[규칙 동기화 (변경 감지)]</h3>
+     * <p>
+     * 모든 노드가 주기적으로 실행하는 안전망입니다. 매번 전체 테넌트를 읽는 대신
+     * {@code count/max(updated_at)} 프로브 한 줄만 조회하고, 값이 바뀐 경우에만 재적재합니다.
+     * 주기는 {@code cms.tenant.route-refresh-interval}로 조정합니다.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "#{@tenantProperties.routeRefreshInterval.toMillis()}",
+            initialDelayString = "#{@tenantProperties.routeRefreshInterval.toMillis()}")
+    public void refreshRulesIfChanged() {
+        reloadRules(false);
+    }
 
-            // 3. 캐시 갱신 (Map & List)
-            Map<String, String> newRules = new ConcurrentHashMap<>();
-            List<String> newSortedKeys = new ArrayList<>();
+    /**
+     * <h3>[규칙 적재]</h3>
+     * <p>
+     * 라우팅에 필요한 컬럼(도메인 패턴, 사이트 코드)만 프로젝션으로 가져와 스냅샷을 만듭니다.
+     * 이때, 와일드카드 패턴은 <b>"구체적인 패턴"이 먼저 매칭되도록</b> 트라이로 컴파일합니다.
+     * </p>
+     *
+     * @param force true면 버전이 같아도 재적재
+     */
+    private synchronized void reloadRules(boolean force) {
+        try {
+            // 1. 변경 감지 프로브 (규칙 조회보다 먼저 읽어야 그 사이의 변경을 다음 주기에 놓치지 않음)
+            TenantRouteVersion version = tenantRepository.findRouteVersion();
+            RouteSnapshot current = snapshot;
 
-            for (Tenant t : allTenants) {
-                newRules.put(t.getDomainPattern(), t.getSiteCode());
-                newSortedKeys.add(t.getDomainPattern());
+            if (!force && version != null && version.equals(current.version())) {
+                log.trace("Tenant rules unchanged (version: {}). Skipping reload.", version);
+                return;
             }
 
-            // Atomic 교체에 가깝게 참조 변경
-            cachedRules.clear();
-            cachedRules.putAll(newRules);
+            log.debug("Refreshing tenant rules from DB...");
+
+            // 2. 규칙 맵 구성 (길이가 같은 패턴은 조회 순서를 유지하도록 LinkedHashMap 사용)
+            Map<String, String> newRules = new LinkedHashMap<>();
+            for (TenantRoute route : tenantRepository.findAllRoutes()) {
+                newRules.put(route.domainPattern(), route.siteCode());
+            }
 
-            sortedPatterns.clear();
-            sortedPatterns.addAll(newSortedKeys);
+            // 3. 새 스냅샷 생성 후 참조 교체 (Atomic Swap)
+            // 우선순위 1: 와일드카드(*)가 없는 정확한 도메인 (admin.shop.com) -> exactRules에서 먼저 처리
+            // 우선순위 2: 와일드카드가 있어도 길이가 긴 패턴 (*.shop.com > *.com) -> 트라이 rank로 처리
+            RouteSnapshot newSnapshot = RouteSnapshot.of(newRules, version);
+            snapshot = newSnapshot;
 
-            // 4. 결과 캐시 초기화 (규칙 변경으로 인한 구형 데이터 제거)
-            resolvedResultCache.invalidateAll();
+            // 4. 결과 캐시 선별 삭제 (규칙 변경으로 결과가 달라지는 도메인만 제거)
+            int evicted = current.exactRules().equals(newSnapshot.exactRules())
+                    ? 0
+                    : evictAffectedResults(newSnapshot);
 
-            log.debug("✅ Tenant Rules Refreshed. Total Rules: {}", cachedRules.size());
+            log.debug("✅ Tenant Rules Refreshed. Total Rules: {}, Evicted Results: {}",
+                    newSnapshot.exactRules().size(), evicted);
 
         } catch (Exception e) {
             log.error("❌ Failed to refresh tenant rules from DB. Using cached rules.", e);
         }
     }
 
+    /**
+     * 새 스냅샷 기준으로 다시 계산했을 때 결과가 달라지는 캐시 항목만 제거합니다.
+     * 전체 invalidate와 달리, 변경과 무관한 도메인은 캐시 히트를 그대로 유지합니다.
+     * 새 규칙으로 식별 가능해진 미등록 Host도 부정 캐시에서 함께 제거합니다.
+     */
+    private int evictAffectedResults(RouteSnapshot newSnapshot) {
+        int evicted = 0;
+        Map<String, String> results = resolvedResultCache.asMap();
+        for (Map.Entry<String, String> entry : results.entrySet()) {
+            if (!entry.getValue().equals(newSnapshot.resolve(entry.getKey()))
+                    && results.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+
+        Map<String, Boolean> unknownHosts = unknownHostCache.asMap();
+        for (String host : unknownHosts.keySet()) {
+            if (newSnapshot.resolve(host) != null && unknownHosts.remove(host) != null) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
     @Override
     public String resolveSiteCode(HttpServletRequest request) {
         String serverName = request.getServerName().toLowerCase();
@@ -125,11 +190,17 @@ public class DomainTenantResolver implements TenantResolver {
             return headerOverride;
         }
 
-        // 2. [캐시 조회] Caffeine Cache
+        // 2. [부정 캐시 조회] 최근에 미등록으로 판정된 Host는 해시 조회 한 번으로 즉시 거절
+        if (unknownHostCache.getIfPresent(serverName) != null) {
+            throw new UnknownTenantException("등록되지 않은 도메인입니다: " + serverName);
+        }
+
+        // 3. [캐시 조회] Caffeine Cache
         String siteCode = resolvedResultCache.get(serverName, this::computeSiteCode);
 
-        // 3. [최종 검증]
+        // 4. [최종 검증] 미등록 Host는 부정 캐시에 기록
         if (siteCode == null) {
+            unknownHostCache.put(serverName, Boolean.TRUE);
             throw new UnknownTenantException("등록되지 않은 도메인입니다: " + serverName);
         }
 
@@ -138,24 +209,51 @@ public class DomainTenantResolver implements TenantResolver {
 
     /**
      * <h3>[내부 연산 로직]</h3>
-     * 정렬된 패턴 목록(sortedPatterns)을 순서대로 대조하여
+     * 정확 일치를 먼저 확인한 뒤, 와일드카드 트라이를 역순 라벨로 탐색하여
      * 가장 구체적인 규칙(Best Match)을 찾아냅니다.
      */
     private String computeSiteCode(String domain) {
-        // Step 1: 정확한 일치 (Exact Match) - O(1)
-        if (cachedRules.containsKey(domain)) {
-            return cachedRules.get(domain);
+        // 한 번의 연산 동안에는 같은 스냅샷만 보도록 지역 변수로 고정
+        RouteSnapshot current = snapshot;
+        String siteCode = current.resolve(domain);
+
+        // 연산 도중 스냅샷이 교체되었다면, 선별 삭제를 놓친 구형 결과가 캐시에 남지 않도록 재계산
+        while (current != snapshot) {
+            current = snapshot;
+            siteCode = current.resolve(domain);
         }
+        return siteCode;
+    }
 
-        // Step 2: 정렬된 패턴 순차 검사 (Wildcard Match)
-        // sortedPatterns는 이미 [구체적 -> 일반적] 순서로 정렬되어 있음
-        for (String pattern : sortedPatterns) {
-            if (pattern.contains("*") && pathMatcher.match(pattern, domain)) {
-                log.debug("Wildcard Matched: Domain[{}] matches Pattern[{}]", domain, pattern);
-                return cachedRules.get(pattern);
-            }
+    /**
+     * <h3>[라우팅 스냅샷]</h3>
+     * 특정 시점의 전체 라우팅 규칙을 담는 불변 객체입니다.
+     *
+     * @param exactRules   Key: 도메인 패턴, Value: 사이트 코드 (읽기 전용)
+     * @param wildcardTrie 와일드카드 패턴 트라이
+     * @param version      적재 시점의 라우팅 버전 (변경 감지용)
+     */
+    private record RouteSnapshot(Map<String, String> exactRules, DomainRouteTrie wildcardTrie,
+                                 TenantRouteVersion version) {
+
+        static final RouteSnapshot EMPTY =
+                new RouteSnapshot(Map.of(), DomainRouteTrie.EMPTY, TenantRouteVersion.NONE);
+
+        static RouteSnapshot of(Map<String, String> rules, TenantRouteVersion version) {
+            return new RouteSnapshot(Map.copyOf(rules), DomainRouteTrie.compile(rules),
+                    version != null ? version : TenantRouteVersion.NONE);
         }
 
-        return null;
+        /**
+         * Step 1: 정확한 일치 (Exact Match) - O(1)
+         * Step 2: 와일드카드 트라이 탐색 (Wildcard Match) - O(라벨 수)
+         */
+        String resolve(String domain) {
+            String exact = exactRules.get(domain);
+            if (exact != null) {
+                return exact;
+            }
+            return wildcardTrie.match(domain);
+        }
     }
-}
\ No newline at end of file
+}
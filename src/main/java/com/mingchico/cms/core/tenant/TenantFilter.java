@@ -1,5 +1,6 @@
 package com.mingchico.cms.core.tenant;
 
+import com.mingchico.cms.core.common.ErrorResponseWriter;
 import com.mingchico.cms.core.tenant.dto.TenantInfo;
 import com.mingchico.cms.core.tenant.service.TenantMetadataProvider;
 import jakarta.servlet.FilterChain;
@@ -12,7 +13,6 @@ import org.slf4j.MDC;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.util.AntPathMatcher;
@@ -37,8 +37,15 @@ public class TenantFilter extends OncePerRequestFilter {
     private final TenantResolver tenantResolver;
     private final TenantMetadataProvider tenantMetadataProvider;
     private final TenantProperties tenantProperties;
+    private final TenantTrafficTracker tenantTrafficTracker;
 
     private static final String MDC_SITE_KEY = "siteCode";
+
+    // 거절 응답 본문은 기동 시 미리 인코딩 (무작위 서브도메인 스캔 시 매 요청 문자열 조립 방지)
+    private static final ErrorResponseWriter MAINTENANCE =
+            ErrorResponseWriter.of(HttpStatus.SERVICE_UNAVAILABLE, "시스템 점검 중입니다.");
+    private static final ErrorResponseWriter UNKNOWN_SITE =
+            ErrorResponseWriter.of(HttpStatus.NOT_FOUND, "존재하지 않는 사이트입니다.");
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
@@ -65,10 +72,14 @@ public class TenantFilter extends OncePerRequestFilter {
             // TODO: 관리자 IP나 특정 헤더가 있는 경우 통과시키는 화이트리스트 로직 추가 권장
             if (tenantInfo.maintenance()) {
                 log.warn("⛔ Access Blocked (Maintenance Mode): {}", siteCode);
-                sendErrorResponse(response, HttpStatus.SERVICE_UNAVAILABLE, "시스템 점검 중입니다.");
+                MAINTENANCE.write(response);
                 return; // 필터 체인 중단
             }
 
+            // 워밍업 대상(상위 N개 테넌트) 선정용 집계
+            // 검증된(존재하고 점검 중이 아닌) 사이트만 집계하여, 위조된 X-Tenant-ID 값이 카운터로 쌓이지 않도록 함
+            tenantTrafficTracker.record(tenantInfo.siteCode());
+
             // 4. 컨텍스트 바인딩
             TenantContext.setContext(tenantInfo);
             MDC.put(MDC_SITE_KEY, siteCode);
@@ -76,19 +87,13 @@ public class TenantFilter extends OncePerRequestFilter {
             filterChain.doFilter(request, response);
 
         } catch (TenantResolver.UnknownTenantException e) {
-            log.warn("⛔ Access Rejected: {}", e.getMessage());
-            sendErrorResponse(response, HttpStatus.NOT_FOUND, "존재하지 않는 사이트입니다.");
+            // 무작위 서브도메인 스캐너 트래픽으로 로그가 넘치지 않도록 debug 레벨로 기록
+            log.debug("⛔ Access Rejected: {}", e.getMessage());
+            UNKNOWN_SITE.write(response);
         } finally {
             // 5. 스레드 로컬 정리 (매우 중요: 스레드 풀 오염 방지)
             TenantContext.clear();
             MDC.remove(MDC_SITE_KEY);
         }
     }
-
-    private void sendErrorResponse(HttpServletResponse response, HttpStatus status, String message) throws IOException {
-        response.setStatus(status.value());
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setCharacterEncoding("UTF-8");
-        response.getWriter().write("{\"error\": \"" + status.getReasonPhrase() + "\", \"message\": \"" + message + "\"}");
-    }
 }
\ No newline at end of file
@@ -44,4 +44,24 @@ public class TenantProperties {
             "/h2-console/**"       // H2 DB 콘솔 (개발용)
     );
 
-}
\ No newline at end of file
+    /**
+     * [미등록 도메인 캐시 최대 크기]
+     * 등록되지 않은 Host를 별도로 기억하는 부정(Negative) 캐시의 최대 항목 수입니다.
+     * 무작위 서브도메인 공격이 들어와도 메모리 사용량이 이 값을 넘지 않습니다.
+     */
+    private long unknownHostCacheSize = 50_000;
+
+    /**
+     * [미등록 도메인 캐시 유효 시간]
+     * 신규 테넌트 등록 시에는 즉시 정리되므로, 짧게 유지해도 충분합니다.
+     */
+    private Duration unknownHostTtl = Duration.ofSeconds(30);
+
+    /**
+     * [라우팅 규칙 주기 점검 간격]
+     * 변경 감지 프로브를 실행하는 주기입니다.
+     * REDIS 모드에서는 변경 알림이 Pub/Sub으로 즉시 전파되므로, 이 값은 알림 유실에 대비한
+     * 안전망 역할만 하며 길게(예: 10m) 설정해도 됩니다.
+     */
+    private Duration routeRefreshInterval = Duration.ofSeconds(60);
+}
@@ -21,10 +21,14 @@ public interface TenantResolver {
 
     /**
      * 식별 실패 시 발생하는 예외
+     * <p>
+     * 무작위 서브도메인 스캐너처럼 대량으로 발생할 수 있는 흐름 제어용 예외이므로,
+     * 스택 트레이스를 채우지 않아(Stackless) 생성 비용을 최소화합니다.
+     * </p>
      */
     class UnknownTenantException extends RuntimeException {
         public UnknownTenantException(String message) {
-            super(message);
+            super(message, null, false, false);
         }
     }
 }
\ No newline at end of file
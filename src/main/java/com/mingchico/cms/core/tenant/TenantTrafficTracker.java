@@ -0,0 +1,151 @@
+package com.mingchico.cms.core.tenant;
+
+import com.mingchico.cms.core.config.CacheProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h3>[테넌트 트래픽 집계기]</h3>
+ * <p>
+ * 사이트별 요청 수를 집계하여 "최근 트래픽 상위 N개 테넌트"를 제공합니다. (캐시 워밍업 대상 선정용)
+ * </p>
+ * <ul>
+ * <li><b>요청 경로:</b> 메모리의 {@link LongAdder}만 증가시키므로 요청당 비용은 사실상 0입니다.</li>
+ * <li><b>REDIS/TIERED 모드:</b> 주기적으로 시간 단위 Sorted Set({@code cms:tenant:traffic:yyyyMMddHH})에 합산하여,
+ * 재기동한 노드도 클러스터 전체의 최근 트래픽 순위를 알 수 있습니다.</li>
+ * <li><b>LOCAL 모드:</b> 현재 프로세스의 누적치만 사용하므로, 갓 기동한 노드에서는 순위가 비어 있습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TenantTrafficTracker {
+
+    private static final String KEY_PREFIX = "cms:tenant:traffic:";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 시간 버킷 보관 기간 (집계 기간 최대값보다 넉넉하게)
+    private static final Duration BUCKET_RETENTION = Duration.ofDays(2);
+
+    // 집계 대상 사이트 수 상한 (상한 도달 후 처음 보는 사이트는 집계하지 않음)
+    static final int MAX_TRACKED_SITES = 10_000;
+
+    // Redis로 아직 보내지 않은 증가분 (LOCAL 모드에서는 누적치 자체)
+    private final ConcurrentMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate redisTemplate;
+
+    public TenantTrafficTracker(ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                CacheProperties cacheProperties) {
+        // LOCAL 모드에서는 Redis 자동 구성이 있더라도 접속하지 않음
+        this.redisTemplate = cacheProperties.getMode().usesRedis() ? redisTemplateProvider.getIfAvailable() : null;
+    }
+
+    /**
+     * 요청 1건을 집계합니다. 호출자는 존재가 확인된 사이트 코드만 넘겨야 합니다.
+     */
+    public void record(String siteCode) {
+        LongAdder counter = counters.get(siteCode);
+        if (counter == null) {
+            if (counters.size() >= MAX_TRACKED_SITES) {
+                return; // 메모리 상한 보호 (워밍업 정확도에만 영향)
+            }
+            counter = counters.computeIfAbsent(siteCode, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * [주기적 합산] 메모리 증가분을 현재 시간 버킷에 더합니다. (REDIS/TIERED 모드 전용)
+     * 한 주기 동안 요청이 없던 사이트의 카운터는 제거하여 맵이 계속 커지지 않도록 합니다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    public void flush() {
+        if (redisTemplate == null || counters.isEmpty()) {
+            return;
+        }
+
+        String key = KEY_PREFIX + LocalDateTime.now().format(HOUR_FORMAT);
+        try {
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            for (Map.Entry<String, LongAdder> entry : counters.entrySet()) {
+                long delta = entry.getValue().sumThenReset();
+                if (delta > 0) {
+                    zSet.incrementScore(key, entry.getKey(), delta);
+                } else {
+                    // 제거와 동시에 들어온 증가분은 유실될 수 있으나, 순위 집계 용도라 허용
+                    counters.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            redisTemplate.expire(key, BUCKET_RETENTION);
+        } catch (Exception e) {
+            // [Fail-Safe] 집계 실패는 워밍업 정확도에만 영향을 주므로 경고만 남김
+            log.warn("⚠️ Failed to flush tenant traffic counters: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최근 트래픽 상위 사이트 코드를 반환합니다.
+     *
+     * @param limit  최대 개수
+     * @param window 집계 기간 (시간 단위로 올림)
+     * @return 요청 수 내림차순 사이트 코드 (집계가 없으면 빈 목록)
+     */
+    public List<String> topSites(int limit, Duration window) {
+        Map<String, Double> scores = (redisTemplate != null) ? loadRemoteScores(window) : loadLocalScores();
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private Map<String, Double> loadLocalScores() {
+        Map<String, Double> scores = new HashMap<>();
+        counters.forEach((siteCode, counter) -> scores.put(siteCode, (double) counter.sum()));
+        return scores;
+    }
+
+    private Map<String, Double> loadRemoteScores(Duration window) {
+        long hours = Math.max(1, (window.toMinutes() + 59) / 60);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < hours; i++) {
+            keys.add(KEY_PREFIX + now.minusHours(i).format(HOUR_FORMAT));
+        }
+
+        Map<String, Double> scores = new HashMap<>();
+        try {
+            Set<ZSetOperations.TypedTuple<String>> union =
+                    redisTemplate.opsForZSet().unionWithScores(keys.getFirst(), keys.subList(1, keys.size()));
+            if (union != null) {
+                for (ZSetOperations.TypedTuple<String> tuple : union) {
+                    if (tuple.getValue() != null && tuple.getScore() != null) {
+                        scores.put(tuple.getValue(), tuple.getScore());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to read tenant traffic ranking: {}", e.getMessage());
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mingchico.cms.core.tenant.dto;
+
+/**
+ * <h3>[테넌트 라우팅 프로젝션]</h3>
+ * <p>
+ * 도메인 라우팅에 필요한 최소 컬럼(도메인 패턴, 사이트 코드)만 담습니다.
+ * JSON 컬럼(features) 등 무거운 엔티티 필드를 로딩하지 않기 위해 사용합니다.
+ * </p>
+ */
+public record TenantRoute(
+        String domainPattern,
+        String siteCode
+) {
+}
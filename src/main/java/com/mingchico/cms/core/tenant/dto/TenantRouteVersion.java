@@ -0,0 +1,19 @@
+package com.mingchico.cms.core.tenant.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * <h3>[테넌트 라우팅 버전]</h3>
+ * <p>
+ * 전체 테넌트 수와 마지막 수정 시각의 조합입니다.
+ * 값이 이전과 같으면 라우팅 규칙이 바뀌지 않은 것으로 보고 재적재를 생략합니다.
+ * (삭제는 count로, 생성/수정은 lastUpdatedAt으로 감지)
+ * </p>
+ */
+public record TenantRouteVersion(
+        long count,
+        LocalDateTime lastUpdatedAt
+) {
+    /** 아직 한 번도 적재하지 않은 상태 */
+    public static final TenantRouteVersion NONE = new TenantRouteVersion(-1, null);
+}
@@ -0,0 +1,130 @@
+package com.mingchico.cms.core.tenant.event;
+
+import com.mingchico.cms.core.config.SingleFlightCache;
+import com.mingchico.cms.core.config.TieredCache;
+import com.mingchico.cms.core.menu.service.NavigationCache;
+import com.mingchico.cms.core.tenant.DomainTenantResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * <h3>[테넌트 변경 알림 중계기 (Redis Pub/Sub)]</h3>
+ * <p>
+ * 로컬 스프링 이벤트({@link TenantRouteChangedEvent}, {@link TenantMetadataChangedEvent})를
+ * Redis 채널로 전파하고, 다른 노드가 보낸 알림을 받아 자신의 캐시에 반영합니다.
+ * 이를 통해 관리자 API를 처리하지 않은 노드도 주기 점검을 기다리지 않고 즉시 갱신됩니다.
+ * </p>
+ *
+ * <h3>[메시지 포맷]</h3>
+ * <p>
+ * {@code TYPE|nodeId|payload} 형식의 문자열입니다. (예: {@code META|3f2a...|SITE_A})
+ * 자신이 보낸 메시지는 이미 로컬 이벤트로 처리했으므로 nodeId로 걸러냅니다.
+ * </p>
+ *
+ * <h3>[원격 메타데이터 변경: 노드 로컬 상태만 정리]</h3>
+ * <p>
+ * 공유 저장소(Redis {@code tenant_meta})는 발행 노드가 이미 비웠으므로, 수신 노드는 {@code evictCache}를 다시 호출하지 않고
+ * 자신의 L1(TIERED 모드)과 네비게이션 캐시만 정리합니다. 이렇게 해야 변경 1건이 노드 수만큼의 중복 삭제와
+ * {@code cms:cache:invalidate} 재전파로 번지지 않습니다.
+ * </p>
+ */
+@Slf4j
+public class RedisTenantChangeRelay implements MessageListener {
+
+    public static final String CHANNEL = "cms:tenant:changes";
+
+    private static final String SEPARATOR = "|";
+    private static final String TYPE_ROUTE = "ROUTE";
+    private static final String TYPE_META = "META";
+    private static final String TENANT_META_CACHE = "tenant_meta";
+
+    private final StringRedisTemplate redisTemplate;
+    private final DomainTenantResolver domainTenantResolver;
+    private final CacheManager cacheManager;
+    private final NavigationCache navigationCache;
+
+    // 노드(인스턴스) 식별자: 자기 자신이 보낸 메시지를 무시하기 위해 사용
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisTenantChangeRelay(StringRedisTemplate redisTemplate,
+                                  DomainTenantResolver domainTenantResolver,
+                                  CacheManager cacheManager,
+                                  NavigationCache navigationCache) {
+        this.redisTemplate = redisTemplate;
+        this.domainTenantResolver = domainTenantResolver;
+        this.cacheManager = cacheManager;
+        this.navigationCache = navigationCache;
+    }
+
+    // --- [발행: 커밋된 변경만 전파] ---
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRouteChanged(TenantRouteChangedEvent event) {
+        publish(TYPE_ROUTE, "");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onMetadataChanged(TenantMetadataChangedEvent event) {
+        publish(TYPE_META, event.siteCode());
+    }
+
+    private void publish(String type, String payload) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, type + SEPARATOR + nodeId + SEPARATOR + payload);
+        } catch (Exception e) {
+            // [Fail-Safe] 알림 전파에 실패해도 다른 노드는 주기 점검(route-refresh-interval)으로 따라잡음
+            log.warn("⚠️ Failed to publish tenant change [{}]. Other nodes will catch up by polling: {}",
+                    type, e.getMessage());
+        }
+    }
+
+    // --- [구독: 다른 노드의 변경 반영] ---
+
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 3);
+
+        if (parts.length < 3) {
+            log.warn("Ignoring malformed tenant change message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[1])) {
+            return; // 내가 보낸 메시지
+        }
+
+        switch (parts[0]) {
+            case TYPE_ROUTE -> {
+                log.info("📢 Remote Tenant Route Change Received. Refreshing rules now...");
+                domainTenantResolver.refreshRules();
+            }
+            case TYPE_META -> {
+                log.debug("📢 Remote Tenant Metadata Change Received: {}", parts[2]);
+                evictLocalMetadata(parts[2]);
+            }
+            default -> log.warn("Ignoring unknown tenant change type: {}", parts[0]);
+        }
+    }
+
+    private void evictLocalMetadata(String siteCode) {
+        Cache cache = cacheManager.getCache(TENANT_META_CACHE);
+        if (cache instanceof SingleFlightCache singleFlight) {
+            cache = singleFlight.getDelegate();
+        }
+        // REDIS 모드는 노드 로컬 사본이 없으므로 L1만 정리 (재전파하지 않음)
+        if (cache instanceof TieredCache tiered) {
+            tiered.evictLocal(siteCode);
+        }
+        navigationCache.evictSite(siteCode);
+    }
+}
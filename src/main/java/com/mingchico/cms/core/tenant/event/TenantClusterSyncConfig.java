@@ -0,0 +1,46 @@
+package com.mingchico.cms.core.tenant.event;
+
+import com.mingchico.cms.core.config.RedisCacheModeCondition;
+import com.mingchico.cms.core.menu.service.NavigationCache;
+import com.mingchico.cms.core.tenant.DomainTenantResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * <h3>[테넌트 클러스터 동기화 설정]</h3>
+ * <p>
+ * {@code cms.cache.mode}가 REDIS 또는 TIERED일 때만 활성화되어, 테넌트 라우팅/메타데이터 변경을
+ * Redis Pub/Sub으로 모든 노드에 전파합니다. LOCAL 모드(단일 서버)에서는 로컬 이벤트만으로 충분합니다.
+ * </p>
+ */
+@Slf4j
+@Configuration
+@Conditional(RedisCacheModeCondition.class)
+public class TenantClusterSyncConfig {
+
+    @Bean
+    public RedisTenantChangeRelay redisTenantChangeRelay(StringRedisTemplate redisTemplate,
+                                                         DomainTenantResolver domainTenantResolver,
+                                                         CacheManager cacheManager,
+                                                         NavigationCache navigationCache) {
+        return new RedisTenantChangeRelay(redisTemplate, domainTenantResolver, cacheManager, navigationCache);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer tenantChangeListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisTenantChangeRelay relay) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(relay, new ChannelTopic(RedisTenantChangeRelay.CHANNEL));
+
+        log.info("✅ Tenant Cluster Sync: Subscribed to Redis channel [{}]", RedisTenantChangeRelay.CHANNEL);
+        return container;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mingchico.cms.core.tenant.event;
+
+/**
+ * <h3>[테넌트 메타데이터 변경 이벤트]</h3>
+ * <p>
+ * 테넌트 정보(테마, 기능 설정 등)가 수정되거나 삭제되었을 때 발행됩니다.
+ * </p>
+ *
+ * @param siteCode 변경된 테넌트의 사이트 코드
+ */
+public record TenantMetadataChangedEvent(String siteCode) {
+}
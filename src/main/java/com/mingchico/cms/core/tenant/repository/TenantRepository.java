@@ -1,9 +1,14 @@
 package com.mingchico.cms.core.tenant.repository;
 
 import com.mingchico.cms.core.tenant.domain.Tenant;
+import com.mingchico.cms.core.tenant.dto.TenantRoute;
+import com.mingchico.cms.core.tenant.dto.TenantRouteVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,4 +31,29 @@ public interface TenantRepository extends JpaRepository<Tenant, Long> {
 
     // 사이트 코드로 조회
     Optional<Tenant> findBySiteCode(String siteCode);
-}
\ No newline at end of file
+
+    /**
+     * [라우팅 변경 감지용 프로브]
+     * 전체 엔티티 대신 count/max(updatedAt) 집계 한 줄만 조회합니다.
+     */
+    @Query("SELECT new com.mingchico.cms.core.tenant.dto.TenantRouteVersion(COUNT(t), MAX(t.updatedAt)) FROM Tenant t")
+    TenantRouteVersion findRouteVersion();
+
+    /**
+     * [라우팅 규칙 조회]
+     * 도메인 패턴과 사이트 코드만 프로젝션으로 가져옵니다. (JSON features 컬럼 제외)
+     */
+    @Query("SELECT new com.mingchico.cms.core.tenant.dto.TenantRoute(t.domainPattern, t.siteCode) FROM Tenant t")
+    List<TenantRoute> findAllRoutes();
+
+    /**
+     * [캐시 워밍업용] 전체 사이트 코드 (등록 순)
+     */
+    @Query("SELECT t.siteCode FROM Tenant t ORDER BY t.id")
+    List<String> findAllSiteCodes();
+
+    /**
+     * [캐시 워밍업용] 여러 사이트를 한 번의 IN 쿼리로 조회
+     */
+    List<Tenant> findAllBySiteCodeIn(Collection<String> siteCodes);
+}
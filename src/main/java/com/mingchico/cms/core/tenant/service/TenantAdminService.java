@@ -2,6 +2,7 @@ package com.mingchico.cms.core.tenant.service;
 
 import com.mingchico.cms.core.tenant.domain.Tenant;
 import com.mingchico.cms.core.tenant.dto.TenantDto;
+import com.mingchico.cms.core.tenant.event.TenantMetadataChangedEvent;
 import com.mingchico.cms.core.tenant.event.TenantRouteChangedEvent;
 import com.mingchico.cms.core.tenant.repository.TenantRepository;
 import com.mingchico.cms.core.theme.ThemeProperties;
@@ -87,6 +88,9 @@ public class TenantAdminService {
         // [Cache Evict] 메타데이터 갱신
         tenantMetadataProvider.evictCache(tenant.getSiteCode());
 
+        // [Event] 다른 노드도 메타데이터를 갱신하도록 알림
+        eventPublisher.publishEvent(new TenantMetadataChangedEvent(tenant.getSiteCode()));
+
         log.info("Tenant Updated: ID {}", id);
         return TenantDto.Response.from(tenant);
     }
@@ -101,6 +105,7 @@ public class TenantAdminService {
 
         // [Cache] 메타데이터 삭제
         tenantMetadataProvider.evictCache(siteCode);
+        eventPublisher.publishEvent(new TenantMetadataChangedEvent(siteCode));
 
         // [Event] 도메인이 사라졌으니 라우팅 규칙 갱신 알림
         eventPublisher.publishEvent(new TenantRouteChangedEvent());
@@ -10,6 +10,10 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * <h3>[테넌트 메타데이터 제공자]</h3>
  * <p>
@@ -29,7 +33,7 @@ public class TenantMetadataProvider {
      * 'tenant_meta'라는 이름은 application.yml의 policies에 정의되어 있습니다.
      * 특정 cacheManager를 지정하지 않아도, CacheConfig의 @Primary 빈이 자동으로 적용됩니다.
      */
-    @Cacheable(value = "tenant_meta", key = "#siteCode") // [수정] cacheManager 속성 제거
+    @Cacheable(value = "tenant_meta", key = "#siteCode", sync = true) // sync: 키별 Single-Flight + refresh-after-write 적용
     public TenantInfo getTenantInfo(String siteCode) {
         return tenantRepository.findBySiteCode(siteCode)
                 .map(this::mapToInfo)
@@ -44,6 +48,18 @@ public class TenantMetadataProvider {
         // AOP 처리
     }
 
+    /**
+     * [일괄 조회] 캐시 워밍업용
+     * 여러 사이트의 메타데이터를 한 번의 쿼리로 읽어 {@link #getTenantInfo}와 동일한 형태로 반환합니다.
+     */
+    public Map<String, TenantInfo> loadTenantInfos(Collection<String> siteCodes) {
+        Map<String, TenantInfo> result = new LinkedHashMap<>();
+        for (Tenant tenant : tenantRepository.findAllBySiteCodeIn(siteCodes)) {
+            result.put(tenant.getSiteCode(), mapToInfo(tenant));
+        }
+        return result;
+    }
+
     private TenantInfo mapToInfo(Tenant tenant) {
         // DB에 JSON이 없거나 깨져있을 경우를 대비해 안전하게 처리
         TenantFeatures safeFeatures = tenant.getFeatures();
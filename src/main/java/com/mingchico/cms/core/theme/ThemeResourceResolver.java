@@ -2,6 +2,7 @@ package com.mingchico.cms.core.theme;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
@@ -9,6 +10,7 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * <h3>[테마 리소스 리졸버]</h3>
@@ -22,7 +24,7 @@ import java.time.Duration;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ThemeResourceResolver {
+public class ThemeResourceResolver implements CacheStatsContributor {
 
     private final ResourceLoader resourceLoader;
 
@@ -30,8 +32,14 @@ public class ThemeResourceResolver {
     private final Cache<String, Boolean> resourceExistenceCache = Caffeine.newBuilder()
             .maximumSize(5000) // 뷰 템플릿 개수는 유한하므로 적절히 설정
             .expireAfterWrite(Duration.ofMinutes(30)) // 개발 모드에서는 짧게, 운영에선 길게 조정
+            .recordStats()
             .build();
 
+    @Override
+    public Map<String, Cache<?, ?>> getStatsCaches() {
+        return Map.of("theme.resource_existence", resourceExistenceCache);
+    }
+
     /**
      * 해당 테마 경로에 뷰 파일이 존재하는지 확인합니다.
      *
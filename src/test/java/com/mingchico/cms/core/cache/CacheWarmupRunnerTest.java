@@ -0,0 +1,119 @@
+package com.mingchico.cms.core.cache;
+
+import com.mingchico.cms.core.config.CacheProperties;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.service.MenuResolver;
+import com.mingchico.cms.core.tenant.TenantTrafficTracker;
+import com.mingchico.cms.core.tenant.domain.TenantFeatures;
+import com.mingchico.cms.core.tenant.dto.TenantInfo;
+import com.mingchico.cms.core.tenant.repository.TenantRepository;
+import com.mingchico.cms.core.tenant.service.TenantMetadataProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupRunnerTest {
+
+    @Mock TenantRepository tenantRepository;
+    @Mock TenantMetadataProvider tenantMetadataProvider;
+    @Mock MenuResolver menuResolver;
+    @Mock TenantTrafficTracker tenantTrafficTracker;
+
+    private CacheProperties cacheProperties;
+    private ConcurrentMapCacheManager cacheManager;
+    private CacheWarmupRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.getWarmup().setEnabled(true);
+        cacheProperties.getWarmup().setBatchSize(2);
+        cacheManager = new ConcurrentMapCacheManager("tenant_meta", "menu_list");
+
+        runner = new CacheWarmupRunner(cacheProperties, cacheManager, tenantRepository,
+                tenantMetadataProvider, menuResolver, new StaticMessageSource(), tenantTrafficTracker);
+    }
+
+    @Test
+    @DisplayName("사이트를 배치 단위로 묶어 IN 쿼리로 조회하고 캐시에 적재한다")
+    void loads_sites_in_batches() {
+        given(tenantRepository.findAllSiteCodes()).willReturn(List.of("A", "B", "C"));
+        given(tenantMetadataProvider.loadTenantInfos(anyCollection())).willAnswer(inv -> infos(inv.getArgument(0)));
+        given(menuResolver.loadMenus(anyCollection())).willAnswer(inv -> emptyMenus(inv.getArgument(0)));
+
+        runner.run(null);
+
+        // 3개 사이트 / 배치 2 -> 2회씩 조회
+        verify(tenantMetadataProvider, times(2)).loadTenantInfos(anyCollection());
+        verify(menuResolver, times(2)).loadMenus(anyCollection());
+        assertThat(cacheManager.getCache("tenant_meta").get("C", TenantInfo.class)).isNotNull();
+        assertThat(cacheManager.getCache("menu_list").get("A", MenuSnapshot.class).menus()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("top-tenants 설정 시 최근 트래픽 상위 테넌트만 적재한다")
+    void loads_only_top_tenants_by_traffic() {
+        cacheProperties.getWarmup().setTopTenants(1);
+        given(tenantTrafficTracker.topSites(anyInt(), any(Duration.class))).willReturn(List.of("HOT"));
+        given(tenantMetadataProvider.loadTenantInfos(anyCollection())).willAnswer(inv -> infos(inv.getArgument(0)));
+        given(menuResolver.loadMenus(anyCollection())).willAnswer(inv -> emptyMenus(inv.getArgument(0)));
+
+        runner.run(null);
+
+        verify(tenantRepository, never()).findAllSiteCodes();
+        assertThat(cacheManager.getCache("tenant_meta").get("HOT")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘긴 작업은 취소되고 기동은 계속된다")
+    void timeout_does_not_fail_startup() {
+        cacheProperties.getWarmup().setTimeout(Duration.ofMillis(100));
+        given(tenantRepository.findAllSiteCodes()).willReturn(List.of("SLOW"));
+        given(tenantMetadataProvider.loadTenantInfos(anyCollection())).willAnswer(inv -> {
+            Thread.sleep(5_000); // 응답 없는 DB 흉내
+            return Map.of();
+        });
+        given(menuResolver.loadMenus(anyCollection())).willAnswer(inv -> emptyMenus(inv.getArgument(0)));
+
+        assertThatCode(() -> runner.run(null)).doesNotThrowAnyException();
+        assertThat(cacheManager.getCache("tenant_meta").get("SLOW")).isNull();
+    }
+
+    private static Map<String, TenantInfo> infos(Collection<String> siteCodes) {
+        Map<String, TenantInfo> result = new LinkedHashMap<>();
+        for (String siteCode : siteCodes) {
+            result.put(siteCode, new TenantInfo(1L, siteCode, siteCode, "default", false, false, new TenantFeatures()));
+        }
+        return result;
+    }
+
+    private static Map<String, MenuSnapshot> emptyMenus(Collection<String> siteCodes) {
+        Map<String, MenuSnapshot> result = new LinkedHashMap<>();
+        for (String siteCode : siteCodes) {
+            result.put(siteCode, MenuSnapshot.empty(siteCode));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mingchico.cms.core.cache.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mingchico.cms.core.cache.CacheStatsContributor;
+import com.mingchico.cms.core.cache.dto.CacheStatsDto;
+import com.mingchico.cms.core.config.CacheProperties;
+import com.mingchico.cms.core.config.SingleFlightCacheManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheStatsServiceTest {
+
+    @Test
+    @DisplayName("관리 캐시와 비공개 캐시의 히트/미스/로딩 통계를 함께 수집한다")
+    void collects_managed_and_private_cache_stats() {
+        // [Given] LOCAL 모드 구성과 동일한 캐시 매니저 (recordStats + SingleFlight 래핑)
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager("tenant_meta");
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
+        SingleFlightCacheManager cacheManager =
+                new SingleFlightCacheManager(caffeineCacheManager, new CacheProperties(), Runnable::run);
+
+        Cache<String, Boolean> privateCache = Caffeine.newBuilder().recordStats().build();
+        CacheStatsContributor contributor = () -> Map.of("theme.resource_existence", privateCache);
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("contributor", contributor);
+        ObjectProvider<CacheStatsContributor> contributors = beanFactory.getBeanProvider(CacheStatsContributor.class);
+
+        CacheStatsService service = new CacheStatsService(cacheManager, contributors);
+
+        // [When] 미스 1회(로딩) + 히트 2회, 비공개 캐시 미스 1회 + 히트 1회
+        org.springframework.cache.Cache tenantMeta = cacheManager.getCache("tenant_meta");
+        tenantMeta.get("SITE_A", () -> "meta");
+        tenantMeta.get("SITE_A", () -> "meta");
+        tenantMeta.get("SITE_A", () -> "meta");
+
+        privateCache.get("default:index", key -> true);
+        privateCache.getIfPresent("default:index");
+
+        List<CacheStatsDto> stats = service.collect();
+
+        // [Then]
+        CacheStatsDto managed = find(stats, "tenant_meta");
+        assertThat(managed.tier()).isEqualTo("LOCAL");
+        assertThat(managed.hitCount()).isEqualTo(2);
+        assertThat(managed.missCount()).isEqualTo(1);
+        assertThat(managed.loadCount()).isEqualTo(1);
+        assertThat(managed.estimatedSize()).isEqualTo(1);
+
+        CacheStatsDto unmanaged = find(stats, "theme.resource_existence");
+        assertThat(unmanaged.tier()).isEqualTo("PRIVATE");
+        assertThat(unmanaged.hitCount()).isEqualTo(1);
+        assertThat(unmanaged.missCount()).isEqualTo(1);
+        assertThat(unmanaged.hitRatio()).isEqualTo(0.5);
+    }
+
+    private CacheStatsDto find(List<CacheStatsDto> stats, String name) {
+        return stats.stream()
+                .filter(dto -> dto.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
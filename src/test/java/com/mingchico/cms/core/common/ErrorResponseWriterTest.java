@@ -0,0 +1,76 @@
+package com.mingchico.cms.core.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("고정 응답: ObjectMapper로 직렬화한 본문과 같은 JSON이고, Content-Length가 바이트 길이와 일치한다")
+    void fixed_body() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorResponseWriter.of(HttpStatus.NOT_FOUND, "존재하지 않는 사이트입니다.").write(response);
+
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("status", 404);
+        expected.put("error", "Not Found");
+        expected.put("message", "존재하지 않는 사이트입니다.");
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.getHeader("Retry-After")).isNull();
+        assertBody(response, expected);
+    }
+
+    @Test
+    @DisplayName("대기 시간 응답: 메시지/wait_seconds/Retry-After에 같은 값이 들어간다")
+    void retry_after_body() throws Exception {
+        ErrorResponseWriter writer = ErrorResponseWriter.withRetryAfter(
+                HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. " + ErrorResponseWriter.SECONDS + "초 후에 다시 시도해주세요.");
+
+        for (long seconds : new long[]{0, 7, 59, 600, 3600, Long.MAX_VALUE}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            writer.write(response, seconds);
+
+            Map<String, Object> expected = new LinkedHashMap<>();
+            expected.put("status", 429);
+            expected.put("error", "Too Many Requests");
+            expected.put("message", String.format("요청이 너무 많습니다. %d초 후에 다시 시도해주세요.", seconds));
+            expected.put("wait_seconds", seconds);
+
+            assertThat(response.getStatus()).isEqualTo(429);
+            assertThat(response.getHeader("Retry-After")).isEqualTo(Long.toString(seconds));
+            assertBody(response, expected);
+        }
+    }
+
+    @Test
+    @DisplayName("메시지의 따옴표/역슬래시/제어 문자는 JSON 문자열로 이스케이프된다")
+    void escapes_message() throws Exception {
+        String message = "\"quoted\" \\ back\nslash\t\u0001";
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ErrorResponseWriter.of(HttpStatus.UNAUTHORIZED, message).write(response);
+
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("message").asText()).isEqualTo(message);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    private void assertBody(MockHttpServletResponse response, Map<String, Object> expected) throws Exception {
+        byte[] bytes = response.getContentAsByteArray();
+        assertThat(response.getContentLength()).isEqualTo(bytes.length);
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(expected));
+    }
+}
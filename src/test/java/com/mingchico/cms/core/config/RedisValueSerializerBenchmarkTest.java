@@ -0,0 +1,58 @@
+package com.mingchico.cms.core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import static com.mingchico.cms.core.config.RedisValueSerializersTest.tenant;
+import static com.mingchico.cms.core.config.RedisValueSerializersTest.tenants;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[Redis 값 직렬화 방식 비교 벤치마크]</h3>
+ * <p>
+ * 캐시에 실제로 저장되는 형태(단건 TenantInfo, 목록, i18n 문자열)를 직렬화 방식별로
+ * 저장 크기와 디코딩 시간을 측정하여 로그로 남깁니다. 정밀 측정이 아닌 회귀 감지용 비교치입니다.
+ * 단위 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * (손실 없는 복원과 저장 크기 검증은 {@link RedisValueSerializersTest})
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class RedisValueSerializerBenchmarkTest {
+
+    private static final int THRESHOLD = 1024;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    @Test
+    @DisplayName("[Benchmark] 방식별 저장 크기 및 디코딩 시간 비교")
+    void compare_size_and_decode_time() {
+        for (CacheProperties.Serializer type : CacheProperties.Serializer.values()) {
+            RedisSerializer<Object> serializer = RedisValueSerializers.create(type, THRESHOLD);
+
+            report(type, "tenant x1", serializer, tenant(1));
+            report(type, "i18n message", serializer, "안녕하세요, {0}님");
+            report(type, "tenant x100", serializer, tenants(100));
+        }
+    }
+
+    private void report(CacheProperties.Serializer type, String label, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+
+        for (int i = 0; i < WARMUP; i++) {
+            serializer.deserialize(bytes);
+        }
+        Object last = null;
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            last = serializer.deserialize(bytes);
+        }
+        long nsPerOp = (System.nanoTime() - start) / ITERATIONS;
+
+        assertThat(last).isNotNull(); // 결과를 사용하여 루프가 최적화로 제거되지 않도록 함
+        log.info("📊 [{}] {}: {} bytes, decode {} ns/op", type, label, bytes.length, nsPerOp);
+    }
+}
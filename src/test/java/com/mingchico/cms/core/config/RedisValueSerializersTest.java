@@ -0,0 +1,71 @@
+package com.mingchico.cms.core.config;
+
+import com.mingchico.cms.core.tenant.domain.TenantFeatures;
+import com.mingchico.cms.core.tenant.dto.TenantInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisValueSerializersTest {
+
+    private static final int THRESHOLD = 1024;
+
+    @Test
+    @DisplayName("모든 방식이 값을 손실 없이 복원한다")
+    void round_trip_is_lossless() {
+        for (CacheProperties.Serializer type : CacheProperties.Serializer.values()) {
+            RedisSerializer<Object> serializer = RedisValueSerializers.create(type, THRESHOLD);
+
+            Object single = serializer.deserialize(serializer.serialize(tenant(1)));
+            Object list = serializer.deserialize(serializer.serialize(tenants(100)));
+            Object message = serializer.deserialize(serializer.serialize("안녕하세요, {0}님"));
+
+            assertThat(single).as(type.name()).usingRecursiveComparison().isEqualTo(tenant(1));
+            assertThat(list).as(type.name()).usingRecursiveComparison().isEqualTo(tenants(100));
+            assertThat(message).as(type.name()).isEqualTo("안녕하세요, {0}님");
+        }
+    }
+
+    @Test
+    @DisplayName("JSON_COMPRESSED는 임계치 미만 값은 압축하지 않아 JSON과 동일하게 저장한다")
+    void small_values_are_not_compressed() {
+        RedisSerializer<Object> json = RedisValueSerializers.create(CacheProperties.Serializer.JSON, THRESHOLD);
+        RedisSerializer<Object> compressed = RedisValueSerializers.create(CacheProperties.Serializer.JSON_COMPRESSED, THRESHOLD);
+
+        assertThat(compressed.serialize(tenant(1))).isEqualTo(json.serialize(tenant(1)));
+        // 압축되지 않은 기존 JSON 값도 그대로 읽을 수 있어야 함 (모드 전환 호환성)
+        assertThat(compressed.deserialize(json.serialize(tenants(100))))
+                .usingRecursiveComparison().isEqualTo(tenants(100));
+    }
+
+    @Test
+    @DisplayName("목록처럼 반복 구조가 많은 값은 BINARY/JSON_COMPRESSED 모두 JSON보다 작게 저장된다")
+    void repetitive_values_are_smaller_than_json() {
+        int json = size(CacheProperties.Serializer.JSON, tenants(100));
+
+        assertThat(size(CacheProperties.Serializer.BINARY, tenants(100))).isLessThan(json);
+        assertThat(size(CacheProperties.Serializer.JSON_COMPRESSED, tenants(100))).isLessThan(json);
+    }
+
+    private static int size(CacheProperties.Serializer type, Object value) {
+        return RedisValueSerializers.create(type, THRESHOLD).serialize(value).length;
+    }
+
+    static TenantInfo tenant(int i) {
+        return new TenantInfo((long) i, "SITE_" + i, "Mingchico Site " + i, "default",
+                false, false, TenantFeatures.createDefault());
+    }
+
+    static List<TenantInfo> tenants(int count) {
+        List<TenantInfo> list = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            list.add(tenant(i));
+        }
+        return list;
+    }
+}
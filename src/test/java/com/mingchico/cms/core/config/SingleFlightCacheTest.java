@@ -0,0 +1,159 @@
+package com.mingchico.cms.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightCacheTest {
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 로더를 한 번만 호출한다")
+    void concurrent_misses_load_once() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(
+                new ConcurrentMapCache("tenant_meta"), new CacheProperties.Policy(), Runnable::run);
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 32;
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get("SITE_A", () -> {
+                    loads.incrementAndGet();
+                    release.await(5, TimeUnit.SECONDS); // 느린 DB 조회 흉내
+                    return "meta";
+                })));
+            }
+            Thread.sleep(100); // 모든 호출자가 미스 경로에 진입할 시간
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("meta");
+            }
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("직전 flight가 막 값을 채운 뒤 flight를 얻으면 원본을 다시 읽지 않고, 재확인은 저장소 통계에 남지 않는다")
+    void recheck_after_winning_flight_skips_reload() {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = Caffeine.newBuilder().recordStats().build();
+        nativeCache.put("SITE_A", "meta");
+        // 첫 조회 시점에는 아직 값이 없었던 상황 (직전 flight의 적재와 inFlight 제거 사이에 미스)
+        CaffeineCache delegate = new CaffeineCache("tenant_meta", nativeCache) {
+            @Override
+            public ValueWrapper get(Object key) {
+                return null;
+            }
+        };
+        SingleFlightCache cache = new SingleFlightCache(delegate, new CacheProperties.Policy(), Runnable::run);
+
+        AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get("SITE_A", () -> {
+            loads.incrementAndGet();
+            return "reloaded";
+        })).isEqualTo("meta");
+
+        assertThat(loads.get()).isZero();
+        assertThat(nativeCache.stats().requestCount()).isZero();
+        assertThat(cache.getLoadStats().recheckCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("refresh-after-write가 지나면 기존 값을 반환하고 백그라운드에서 새 값으로 교체한다")
+    void stale_entry_is_served_then_refreshed() {
+        AtomicLong clock = new AtomicLong();
+        CacheProperties.Policy policy = new CacheProperties.Policy();
+        policy.setRefreshAfterWrite(Duration.ofMinutes(5));
+
+        Cache delegate = new ConcurrentMapCache("tenant_meta");
+        SingleFlightCache cache = new SingleFlightCache(delegate, policy, Runnable::run, clock::get);
+
+        assertThat(cache.get("SITE_A", () -> "v1")).isEqualTo("v1");
+
+        // 갱신 시점 이전: 로더 미호출
+        clock.set(Duration.ofMinutes(4).toNanos());
+        assertThat(cache.get("SITE_A", () -> "v2")).isEqualTo("v1");
+        assertThat(delegate.get("SITE_A", String.class)).isEqualTo("v1");
+
+        // 갱신 시점 이후: 이번 호출은 기존 값, 저장소는 새 값으로 교체
+        clock.set(Duration.ofMinutes(6).toNanos());
+        assertThat(cache.get("SITE_A", () -> "v2")).isEqualTo("v1");
+        assertThat(delegate.get("SITE_A", String.class)).isEqualTo("v2");
+        assertThat(cache.get("SITE_A", () -> "v3")).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("갱신이 실패해도 기존 값을 계속 제공한다")
+    void failed_refresh_keeps_stale_value() {
+        AtomicLong clock = new AtomicLong();
+        CacheProperties.Policy policy = new CacheProperties.Policy();
+        policy.setRefreshAfterWrite(Duration.ofMinutes(5));
+
+        SingleFlightCache cache = new SingleFlightCache(
+                new ConcurrentMapCache("tenant_meta"), policy, Runnable::run, clock::get);
+        cache.get("SITE_A", () -> "v1");
+
+        clock.set(Duration.ofMinutes(6).toNanos());
+        String value = cache.get("SITE_A", () -> {
+            throw new IllegalStateException("DB down");
+        });
+
+        assertThat(value).isEqualTo("v1");
+        assertThat(cache.get("SITE_A", String.class)).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("로딩 도중 evict된 키는 이전 시점의 로딩 결과로 다시 채워지지 않는다")
+    void evict_during_load_is_not_overwritten() {
+        Cache delegate = new ConcurrentMapCache("tenant_meta");
+        SingleFlightCache cache = new SingleFlightCache(delegate, new CacheProperties.Policy(), Runnable::run);
+
+        String value = cache.get("SITE_A", () -> {
+            cache.evict("SITE_A"); // 관리자 수정으로 인한 무효화가 로딩 도중 발생
+            return "old";
+        });
+
+        assertThat(value).isEqualTo("old");
+        assertThat(delegate.get("SITE_A")).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 확인과 저장소 쓰기 사이에 evict가 끼어들어도 이전 시점의 값이 남지 않는다")
+    void evict_between_check_and_write_is_not_overwritten() {
+        AtomicReference<SingleFlightCache> ref = new AtomicReference<>();
+        Cache delegate = new ConcurrentMapCache("tenant_meta") {
+            @Override
+            public void put(Object key, Object value) {
+                if ("old".equals(value)) {
+                    ref.get().evict(key); // 다른 스레드의 무효화가 쓰기 직전에 완료된 상황
+                }
+                super.put(key, value);
+            }
+        };
+        SingleFlightCache cache = new SingleFlightCache(delegate, new CacheProperties.Policy(), Runnable::run);
+        ref.set(cache);
+
+        assertThat(cache.get("SITE_A", () -> "old")).isEqualTo("old");
+        assertThat(delegate.get("SITE_A")).isNull();
+    }
+}
@@ -0,0 +1,48 @@
+package com.mingchico.cms.core.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TieredCacheManagerTest {
+
+    @Test
+    @DisplayName("local-ttl이 ttl보다 길면 L1 만료는 ttl로 제한된다")
+    void local_ttl_is_capped_at_ttl() {
+        CacheProperties properties = new CacheProperties();
+        properties.getPolicies().put("capped", policy(Duration.ofMinutes(5), Duration.ofMinutes(30)));
+        properties.getPolicies().put("kept", policy(Duration.ofMinutes(30), Duration.ofMinutes(5)));
+
+        RedisCacheManager remote = mock(RedisCacheManager.class);
+        given(remote.getCache("capped")).willReturn(new ConcurrentMapCache("capped"));
+        given(remote.getCache("kept")).willReturn(new ConcurrentMapCache("kept"));
+
+        TieredCacheManager manager = new TieredCacheManager(remote, mock(StringRedisTemplate.class), properties);
+
+        assertThat(localExpiry(manager, "capped")).isEqualTo(Duration.ofMinutes(5));
+        assertThat(localExpiry(manager, "kept")).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private static CacheProperties.Policy policy(Duration ttl, Duration localTtl) {
+        CacheProperties.Policy policy = new CacheProperties.Policy();
+        policy.setTtl(ttl);
+        policy.setLocalTtl(localTtl);
+        return policy;
+    }
+
+    private static Duration localExpiry(TieredCacheManager manager, String name) {
+        TieredCache cache = (TieredCache) manager.getCache(name);
+        Policy.FixedExpiration<Object, Object> expiry = cache.getLocal().getNativeCache()
+                .policy().expireAfterWrite().orElseThrow();
+        return expiry.getExpiresAfter();
+    }
+}
@@ -0,0 +1,102 @@
+package com.mingchico.cms.core.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TieredCacheTest {
+
+    // 두 노드가 공유하는 L2 (Redis 역할)
+    private Cache sharedRemote;
+
+    private TieredCache nodeA;
+    private TieredCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedRemote = spy(new ConcurrentMapCache("tenant_meta", false));
+
+        // 무효화 메시지는 발행 노드를 제외한 다른 노드의 L1에만 전달 (Redis Pub/Sub 흉내)
+        TieredCache[] nodes = new TieredCache[2];
+        nodes[0] = new TieredCache(localCache(), sharedRemote, (name, key) -> invalidate(nodes[1], key));
+        nodes[1] = new TieredCache(localCache(), sharedRemote, (name, key) -> invalidate(nodes[0], key));
+        nodeA = nodes[0];
+        nodeB = nodes[1];
+    }
+
+    @Test
+    @DisplayName("L1에 적재된 값은 L2를 다시 조회하지 않는다")
+    void l1_hit_skips_remote() {
+        sharedRemote.put("SITE_A", "v1");
+
+        assertThat(nodeA.get("SITE_A", String.class)).isEqualTo("v1");
+        assertThat(nodeA.get("SITE_A", String.class)).isEqualTo("v1");
+
+        verify(sharedRemote, times(1)).get("SITE_A");
+    }
+
+    @Test
+    @DisplayName("한 노드의 갱신/삭제는 다른 노드의 L1을 무효화한다")
+    void write_on_one_node_invalidates_other_l1() {
+        nodeA.put("SITE_A", "v1");
+        assertThat(nodeB.get("SITE_A", String.class)).isEqualTo("v1"); // B의 L1에 v1 적재
+
+        nodeA.put("SITE_A", "v2");
+        assertThat(nodeB.get("SITE_A", String.class)).isEqualTo("v2");
+
+        nodeA.evict("SITE_A");
+        assertThat(nodeB.get("SITE_A")).isNull();
+    }
+
+    @Test
+    @DisplayName("clear는 다른 노드의 L1 전체를 비운다")
+    void clear_invalidates_other_l1_entirely() {
+        nodeA.put("K1", "v1");
+        nodeA.put("K2", "v2");
+        nodeB.get("K1");
+        nodeB.get("K2");
+
+        nodeA.clear();
+
+        assertThat(nodeB.get("K1")).isNull();
+        assertThat(nodeB.get("K2")).isNull();
+    }
+
+    @Test
+    @DisplayName("valueLoader는 L1/L2 모두 미스일 때만 호출되고 결과는 양쪽에 적재된다")
+    void loader_runs_only_on_full_miss() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = nodeA.get("SITE_A", () -> "loaded-" + loads.incrementAndGet());
+        String second = nodeA.get("SITE_A", () -> "loaded-" + loads.incrementAndGet());
+        String other = nodeB.get("SITE_A", () -> "loaded-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("loaded-1");
+        assertThat(second).isEqualTo("loaded-1");
+        assertThat(other).isEqualTo("loaded-1"); // 다른 노드는 L2에서 가져옴
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private static CaffeineCache localCache() {
+        return new CaffeineCache("tenant_meta", Caffeine.newBuilder().maximumSize(100).build(), false);
+    }
+
+    private static void invalidate(TieredCache node, Object key) {
+        if (key == null) {
+            node.clearLocal();
+        } else {
+            node.evictLocal(key);
+        }
+    }
+}
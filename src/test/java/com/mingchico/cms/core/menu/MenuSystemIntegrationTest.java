@@ -2,6 +2,7 @@ package com.mingchico.cms.core.menu;
 
 import com.mingchico.cms.core.menu.domain.Menu;
 import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuNode;
 import com.mingchico.cms.core.menu.repository.MenuRepository;
 import com.mingchico.cms.core.tenant.DomainTenantResolver;
 import com.mingchico.cms.core.tenant.domain.Tenant;
@@ -18,6 +19,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -132,7 +134,7 @@ class MenuSystemIntegrationTest {
         mockMvc.perform(get("/board/notice/1")
                         .header("Host", SITE_HOST))
                 .andExpect(status().isOk())
-                .andExpect(request().attribute("currentMenu", org.hamcrest.Matchers.hasProperty("name", org.hamcrest.Matchers.is("공지사항"))));
+                .andExpect(currentMenuName("공지사항"));
     }
 
     @Test
@@ -141,7 +143,7 @@ class MenuSystemIntegrationTest {
         mockMvc.perform(get("/board/free/1")
                         .header("Host", SITE_HOST))
                 .andExpect(status().isOk())
-                .andExpect(request().attribute("currentMenu", org.hamcrest.Matchers.hasProperty("name", org.hamcrest.Matchers.is("게시판 홈"))));
+                .andExpect(currentMenuName("게시판 홈"));
     }
 
     @Test
@@ -171,6 +173,14 @@ class MenuSystemIntegrationTest {
         assertThat(MenuContext.getCurrentMenu()).isEmpty();
     }
 
+    /**
+     * 요청 속성 'currentMenu'에 바인딩된 메뉴 스냅샷의 이름을 검증합니다.
+     */
+    private static ResultMatcher currentMenuName(String expected) {
+        return result -> assertThat(result.getRequest().getAttribute("currentMenu"))
+                .isInstanceOfSatisfying(MenuNode.class, menu -> assertThat(menu.name()).isEqualTo(expected));
+    }
+
     @RestController
     static class TestController {
         @GetMapping("/board/**") public String board() { return "board"; }
@@ -0,0 +1,88 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.repository.MenuRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class MenuReorderTest {
+
+    private static final String SITE = "REORDER_SITE";
+
+    @Autowired private MenuAdminService menuAdminService;
+    @Autowired private MenuRepository menuRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("전달된 순서대로 출력 순서를 저장하고, 실제로 바뀐 행 수만 반환한다")
+    void persists_new_order_and_counts_changed_rows() {
+        Long a = save(SITE, "A", 1);
+        Long b = save(SITE, "B", 2);
+        Long c = save(SITE, "C", 3);
+
+        // A는 그대로 1번, B/C만 자리 교체
+        int changed = menuAdminService.reorderMenus(SITE, List.of(a, c, b));
+
+        assertThat(changed).isEqualTo(2);
+        assertThat(displayOrders(a, b, c)).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("다른 사이트의 메뉴가 섞여 있으면 아무것도 변경하지 않고 거부한다")
+    void rejects_foreign_menu_ids() {
+        Long mine = save(SITE, "MINE", 1);
+        Long foreign = save("OTHER_SITE", "FOREIGN", 1);
+
+        assertThatThrownBy(() -> menuAdminService.reorderMenus(SITE, List.of(foreign, mine)))
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(displayOrders(mine, foreign)).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("순서 변경 후 해당 사이트의 메뉴 캐시가 무효화된다")
+    void evicts_menu_cache() {
+        Long a = save(SITE, "A", 1);
+        Long b = save(SITE, "B", 2);
+        Objects.requireNonNull(cacheManager.getCache("menu_list")).put(SITE, "stale");
+
+        menuAdminService.reorderMenus(SITE, List.of(b, a));
+
+        assertThat(Objects.requireNonNull(cacheManager.getCache("menu_list")).get(SITE)).isNull();
+    }
+
+    private List<Integer> displayOrders(Long... ids) {
+        // JDBC로 갱신된 값을 읽기 위해 1차 캐시를 비움
+        entityManager.clear();
+        return Arrays.stream(ids)
+                .map(id -> menuRepository.findById(id).orElseThrow().getDisplayOrder())
+                .toList();
+    }
+
+    private Long save(String siteCode, String name, int displayOrder) {
+        return menuRepository.save(Menu.builder()
+                .siteCode(siteCode)
+                .name(name)
+                .urlPattern("/" + name.toLowerCase())
+                .type(MenuType.PAGE)
+                .displayOrder(displayOrder)
+                .visible(true).accessible(true)
+                .build()).getId();
+    }
+}
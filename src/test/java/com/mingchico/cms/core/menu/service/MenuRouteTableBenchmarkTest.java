@@ -0,0 +1,120 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuNode;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[메뉴 라우팅 방식 비교 벤치마크]</h3>
+ * <p>
+ * 메뉴 5,000개 사이트에서 기존 방식(전체 메뉴 AntPathMatcher 순차 검사 후 최장 패턴 선택)과
+ * 세그먼트 트라이({@link MenuRouteTable})의 URI당 해석 시간을 측정하여 로그로 남깁니다.
+ * 정밀 측정이 아닌 회귀 감지용 비교치이며, 단위 테스트에서는 제외되어 {@code ./gradlew benchmark}로 실행합니다.
+ * (해석 결과의 동등성 검증은 {@link MenuRouteTableTest})
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class MenuRouteTableBenchmarkTest {
+
+    private static final int MENU_COUNT = 5_000;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 50_000;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Test
+    @DisplayName("[Benchmark] 메뉴 5,000개 기준 순차 검사 vs 세그먼트 트라이")
+    void compare_linear_scan_and_trie() {
+        MenuSnapshot snapshot = MenuSnapshot.of("SITE_BENCH", menus());
+        List<MenuNode> menus = snapshot.menus();
+        List<String> uris = uris();
+        MenuRouteTable table = MenuRouteTable.compile(snapshot);
+
+        long linearNs = measure(uris, uri -> linearScan(menus, uri), WARMUP / 100, ITERATIONS / 100);
+        long trieNs = measure(uris, table::resolve, WARMUP, ITERATIONS);
+
+        log.info("📊 [linear] {} ns/op", linearNs);
+        log.info("📊 [trie] {} ns/op", trieNs);
+    }
+
+    private long measure(List<String> uris, Function<String, Optional<MenuNode>> resolver,
+                         int warmup, int iterations) {
+        int hits = 0;
+        for (int i = 0; i < warmup; i++) {
+            if (resolver.apply(uris.get(i % uris.size())).isPresent()) hits++;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            if (resolver.apply(uris.get(i % uris.size())).isPresent()) hits++;
+        }
+        long nsPerOp = (System.nanoTime() - start) / iterations;
+
+        assertThat(hits).isPositive(); // 결과를 사용하여 루프가 최적화로 제거되지 않도록 함
+        return nsPerOp;
+    }
+
+    /**
+     * 기존 MenuResolver.resolve()의 로직(전체 매칭 후 가장 긴 패턴 선택)을 그대로 재현한 기준 구현
+     */
+    private Optional<MenuNode> linearScan(List<MenuNode> menus, String uri) {
+        return menus.stream()
+                .filter(menu -> menu.urlPattern() != null)
+                .filter(menu -> pathMatcher.match(menu.urlPattern(), uri))
+                .max(Comparator.comparingInt(menu -> menu.urlPattern().length()));
+    }
+
+    private static List<Menu> menus() {
+        List<Menu> menus = new ArrayList<>(MENU_COUNT);
+        menus.add(menu("/**"));
+        for (int i = 1; i < MENU_COUNT; i++) {
+            String section = "/s" + (i % 50);
+            String pattern = switch (i % 4) {
+                case 0 -> section + "/board" + i + "/**";
+                case 1 -> section + "/page" + i;
+                case 2 -> section + "/*/item" + i;
+                default -> section + "/files" + i + "/*.pdf";
+            };
+            menus.add(menu(pattern));
+        }
+        return menus;
+    }
+
+    private static List<String> uris() {
+        List<String> uris = new ArrayList<>();
+        for (int i = 1; i < MENU_COUNT; i += 97) {
+            String section = "/s" + (i % 50);
+            uris.add(switch (i % 4) {
+                case 0 -> section + "/board" + i + "/notice/" + i;
+                case 1 -> section + "/page" + i;
+                case 2 -> section + "/category/item" + i;
+                default -> section + "/files" + i + "/report.pdf";
+            });
+        }
+        uris.add("/unknown/path");
+        return uris;
+    }
+
+    private static Menu menu(String urlPattern) {
+        return Menu.builder()
+                .siteCode("SITE_BENCH")
+                .name(urlPattern)
+                .urlPattern(urlPattern)
+                .type(MenuType.PAGE)
+                .build();
+    }
+}
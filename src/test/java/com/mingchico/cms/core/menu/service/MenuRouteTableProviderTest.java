@@ -0,0 +1,75 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuNode;
+import com.mingchico.cms.core.menu.repository.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MenuRouteTableProviderTest {
+
+    private static final String SITE = "SITE_A";
+
+    private MenuRepository menuRepository;
+    private ConcurrentMapCacheManager cacheManager;
+    private MenuRouteTableProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = mock(MenuRepository.class);
+        cacheManager = new ConcurrentMapCacheManager("menu_list");
+        provider = new MenuRouteTableProvider(menuRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("반복 조회 시 DB는 한 번만 조회하고 컴파일된 테이블을 재사용한다")
+    void repeated_resolves_hit_cache_and_reuse_table() {
+        given(menuRepository.findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc(SITE))
+                .willReturn(List.of(menu("게시판", "/board/**"), menu("공지", "/board/notice/**")));
+
+        MenuRouteTable first = provider.getRouteTable(SITE);
+        for (int i = 0; i < 100; i++) {
+            assertThat(provider.getRouteTable(SITE)).isSameAs(first);
+        }
+
+        verify(menuRepository, times(1)).findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc(SITE);
+    }
+
+    @Test
+    @DisplayName("'menu_list' 캐시가 무효화되면 새 목록으로 다시 컴파일한다")
+    void evicting_menu_list_triggers_recompile() {
+        given(menuRepository.findAllBySiteCodeOrderByParentIdAscDisplayOrderAsc(SITE))
+                .willReturn(List.of(menu("게시판", "/board/**")))
+                .willReturn(List.of(menu("게시판", "/board/**"), menu("공지", "/board/notice/**")));
+
+        MenuRouteTable before = provider.getRouteTable(SITE);
+        assertThat(before.resolve("/board/notice/1")).get().extracting(MenuNode::name).isEqualTo("게시판");
+
+        // MenuAdminService의 @CacheEvict("menu_list")와 동일한 효과
+        cacheManager.getCache("menu_list").evict(SITE);
+
+        MenuRouteTable after = provider.getRouteTable(SITE);
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.resolve("/board/notice/1")).get().extracting(MenuNode::name).isEqualTo("공지");
+    }
+
+    private Menu menu(String name, String urlPattern) {
+        return Menu.builder()
+                .siteCode(SITE)
+                .name(name)
+                .urlPattern(urlPattern)
+                .type(MenuType.PAGE)
+                .build();
+    }
+}
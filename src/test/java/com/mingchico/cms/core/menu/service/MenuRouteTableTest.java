@@ -0,0 +1,135 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuNode;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MenuRouteTableTest {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private static final List<String> PATTERNS = List.of(
+            "/", "/**", "/board", "/board/", "/board/*", "/board/**", "/board/notice/**",
+            "/board/*/view", "/board/**/view", "/*/list", "/{category}/list", "/board/list",
+            "/files/*.pdf", "/files/report-??.csv", "/post/{id}", "/post/{id:\\d+}/edit",
+            "/a/**/b/**/c", "board/relative", "/event/secret/**", "/admin/**"
+    );
+
+    private static final List<String> URIS = List.of(
+            "/", "", "/board", "/board/", "/board/1", "/board/notice", "/board/notice/1",
+            "/board/free/view", "/board/x/y/view", "/news/list", "/board/list", "/files/a.pdf",
+            "/files/a.doc", "/files/report-01.csv", "/post/abc", "/post/12/edit", "/post/ab/edit",
+            "/a/b/c", "/a/x/b/y/z/c", "/a/c", "board/relative", "/board/relative",
+            "/event/secret/entry", "/admin/dashboard", "/unknown/deep/path", "//board//notice//1"
+    );
+
+    @Test
+    @DisplayName("각 패턴의 매칭 여부가 AntPathMatcher와 동일하다")
+    void match_result_equals_ant_path_matcher() {
+        for (String pattern : PATTERNS) {
+            MenuRouteTable table = MenuRouteTable.compile(snapshot(pattern));
+
+            for (String uri : URIS) {
+                assertThat(table.resolve(uri).isPresent())
+                        .as("pattern=%s, uri=%s", pattern, uri)
+                        .isEqualTo(pathMatcher.match(pattern, uri));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("여러 패턴이 매칭되면 AntPathMatcher 순차 검사 + 우선순위 정렬과 동일한 메뉴를 고른다")
+    void resolution_equals_linear_scan() {
+        MenuSnapshot snapshot = snapshot(PATTERNS.toArray(String[]::new));
+        MenuRouteTable table = MenuRouteTable.compile(snapshot);
+
+        for (String uri : URIS) {
+            assertThat(table.resolve(uri).orElse(null))
+                    .as("uri=%s", uri)
+                    .isSameAs(linearScan(snapshot.menus(), uri).orElse(null));
+        }
+    }
+
+    @Test
+    @DisplayName("와일드카드가 적은 패턴이 길이와 무관하게 우선하고, 동률이면 길이 -> 등록 순서로 결정된다")
+    void specificity_ranking() {
+        MenuRouteTable table = MenuRouteTable.compile(snapshot(
+                "/{category}/list", "/board/list", "/board/**", "/board/notice/**", "/dup/**", "/dup/**"));
+
+        // 기존 "가장 긴 문자열" 기준이라면 변수 패턴이 선택되던 경우
+        assertThat(resolvedName(table, "/board/list")).isEqualTo("1:/board/list");
+        assertThat(resolvedName(table, "/news/list")).isEqualTo("0:/{category}/list");
+        assertThat(resolvedName(table, "/board/notice/1")).isEqualTo("3:/board/notice/**");
+        assertThat(resolvedName(table, "/board/free/1")).isEqualTo("2:/board/**");
+        assertThat(resolvedName(table, "/dup/x")).isEqualTo("4:/dup/**");
+        assertThat(table.resolve("/none")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("URL 패턴이 없는 메뉴는 라우팅 대상에서 제외된다")
+    void menus_without_pattern_are_ignored() {
+        MenuRouteTable table = MenuRouteTable.compile(snapshot(null, "/page"));
+
+        assertThat(resolvedName(table, "/page")).isEqualTo("1:/page");
+        assertThat(MenuRouteTable.EMPTY.resolve("/page")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 인스턴스이거나 버전이 같은 스냅샷이면 다시 컴파일할 필요가 없다")
+    void detects_unchanged_snapshot() {
+        MenuSnapshot snapshot = snapshot("/a", "/b");
+        MenuRouteTable table = MenuRouteTable.compile(snapshot);
+
+        // Redis에서 다시 역직렬화된 스냅샷 (다른 인스턴스, 같은 버전)
+        MenuSnapshot reloaded = new MenuSnapshot(snapshot.siteCode(), snapshot.version(), snapshot.menus(), snapshot.indexById());
+
+        assertThat(table.isCompiledFrom(snapshot)).isTrue();
+        assertThat(table.isCompiledFrom(reloaded)).isTrue();
+        assertThat(table.isCompiledFrom(snapshot("/a"))).isFalse();
+    }
+
+    /**
+     * 트라이 없이 모든 메뉴를 AntPathMatcher로 검사한 뒤 같은 우선순위 기준으로 고르는 기준 구현
+     */
+    private Optional<MenuNode> linearScan(List<MenuNode> menus, String uri) {
+        List<MenuNode> matched = new ArrayList<>();
+        for (MenuNode menu : menus) {
+            if (menu.urlPattern() != null && pathMatcher.match(menu.urlPattern(), uri)) {
+                matched.add(menu);
+            }
+        }
+        // 안정 정렬이므로 동률이면 등록 순서 유지
+        matched.sort((a, b) -> MenuRouteTable.SPECIFICITY.compare(a.urlPattern(), b.urlPattern()));
+        return matched.stream().findFirst();
+    }
+
+    private static String resolvedName(MenuRouteTable table, String uri) {
+        return table.resolve(uri).map(MenuNode::name).orElse(null);
+    }
+
+    /**
+     * 패턴 순서대로 메뉴를 만들어 스냅샷으로 변환합니다. (메뉴명 = "순번:패턴")
+     */
+    private static MenuSnapshot snapshot(String... patterns) {
+        List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < patterns.length; i++) {
+            menus.add(Menu.builder()
+                    .siteCode("SITE_A")
+                    .name(i + ":" + patterns[i])
+                    .urlPattern(patterns[i])
+                    .type(MenuType.PAGE)
+                    .build());
+        }
+        return MenuSnapshot.of("SITE_A", menus);
+    }
+}
@@ -0,0 +1,109 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuDto;
+import com.mingchico.cms.core.menu.repository.MenuRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[메뉴 트리 조회 쿼리 수 검증]</h3>
+ * <p>
+ * 트리의 깊이/너비와 관계없이 {@link MenuAdminService#getMenuTree}가 항상 같은 수의 SQL만 실행하는지
+ * Hibernate Statistics로 확인합니다.
+ * </p>
+ */
+@SpringBootTest
+@Transactional
+class MenuTreeQueryCountTest {
+
+    @Autowired private MenuAdminService menuAdminService;
+    @Autowired private MenuRepository menuRepository;
+    @Autowired private EntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    @DisplayName("깊은 트리(1 x 8단계)와 넓은 트리(5 x 10 x 4)를 모두 단일 쿼리로 조회한다")
+    void tree_is_loaded_with_constant_query_count() {
+        // [Given] 한 줄로 깊게 이어진 트리
+        Long parentId = null;
+        for (int depth = 0; depth < 8; depth++) {
+            parentId = save("TREE_DEEP", parentId, "deep-" + depth, depth).getId();
+        }
+
+        // [Given] 넓게 퍼진 트리
+        for (int r = 0; r < 5; r++) {
+            Long rootId = save("TREE_WIDE", null, "root-" + r, r).getId();
+            for (int c = 0; c < 10; c++) {
+                Long childId = save("TREE_WIDE", rootId, "child-" + r + "-" + c, c).getId();
+                for (int g = 0; g < 4; g++) {
+                    save("TREE_WIDE", childId, "leaf-" + r + "-" + c + "-" + g, g);
+                }
+            }
+        }
+
+        // [When & Then]
+        List<MenuDto.Response> deep = countQueries("TREE_DEEP");
+        long deepQueries = statistics.getPrepareStatementCount();
+
+        List<MenuDto.Response> wide = countQueries("TREE_WIDE");
+        long wideQueries = statistics.getPrepareStatementCount();
+
+        assertThat(deepQueries).isEqualTo(1);
+        assertThat(wideQueries).isEqualTo(1);
+
+        // 트리 구조가 올바르게 조립되었는지 확인
+        assertThat(depthOf(deep.get(0))).isEqualTo(8);
+        assertThat(wide).hasSize(5);
+        assertThat(wide.get(0).children()).hasSize(10);
+        assertThat(wide.get(0).children().get(0).children()).hasSize(4);
+        assertThat(wide.get(4).children().get(9).children().get(3).name()).isEqualTo("leaf-4-9-3");
+    }
+
+    /**
+     * 영속성 컨텍스트를 비운 뒤(1차 캐시 영향 제거) 통계를 초기화하고 트리를 조회합니다.
+     */
+    private List<MenuDto.Response> countQueries(String siteCode) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        return menuAdminService.getMenuTree(siteCode);
+    }
+
+    private int depthOf(MenuDto.Response node) {
+        return 1 + node.children().stream().mapToInt(this::depthOf).max().orElse(0);
+    }
+
+    private Menu save(String siteCode, Long parentId, String name, int displayOrder) {
+        return menuRepository.save(Menu.builder()
+                .siteCode(siteCode)
+                .parentId(parentId)
+                .name(name)
+                .urlPattern("/" + name)
+                .type(MenuType.PAGE)
+                .displayOrder(displayOrder)
+                .visible(true).accessible(true)
+                .build());
+    }
+}
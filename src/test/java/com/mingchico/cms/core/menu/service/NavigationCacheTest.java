@@ -0,0 +1,101 @@
+package com.mingchico.cms.core.menu.service;
+
+import com.mingchico.cms.core.menu.domain.Menu;
+import com.mingchico.cms.core.menu.domain.MenuType;
+import com.mingchico.cms.core.menu.dto.MenuSnapshot;
+import com.mingchico.cms.core.menu.dto.NavigationView;
+import com.mingchico.cms.core.menu.event.MenuChangedEvent;
+import com.mingchico.cms.core.security.RoleRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NavigationCacheTest {
+
+    private static final String SITE = "SITE_A";
+
+    private MenuRouteTableProvider provider;
+    private NavigationCache navigationCache;
+
+    private final long userMask = RoleRegistry.maskOf(Set.of("ROLE_USER"));
+
+    @BeforeEach
+    void setUp() {
+        provider = mock(MenuRouteTableProvider.class);
+        navigationCache = new NavigationCache(provider);
+
+        given(provider.getSnapshot(SITE)).willReturn(MenuSnapshot.of(SITE, List.of(
+                menu(1L, null, "게시판", "/board/**", "ANONYMOUS", true),
+                menu(2L, 1L, "공지", "/board/notice/{id}", "ANONYMOUS", true),
+                menu(3L, 1L, "회원전용", "/board/member", "ROLE_USER", true),
+                menu(4L, null, "숨김", "/hidden", "ANONYMOUS", false)
+        )));
+    }
+
+    @Test
+    @DisplayName("같은 조합으로 다시 조회하면 캐시된 뷰 모델을 그대로 반환한다")
+    void second_lookup_hits_cache() {
+        NavigationView first = navigationCache.get(SITE, "default", Locale.KOREAN, 0L);
+        NavigationView second = navigationCache.get(SITE, "default", Locale.KOREAN, 0L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(stats().hitCount()).isEqualTo(1);
+        assertThat(stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("권한 마스크에 따라 노출 메뉴가 달라지고, 숨김 메뉴는 제외된다")
+    void filters_by_role_mask_and_visibility() {
+        NavigationView anonymous = navigationCache.get(SITE, "default", Locale.KOREAN, 0L);
+        NavigationView user = navigationCache.get(SITE, "default", Locale.KOREAN, userMask);
+
+        assertThat(anonymous.items()).extracting(NavigationView.Item::name).containsExactly("게시판");
+        assertThat(anonymous.items().get(0).children()).extracting(NavigationView.Item::name).containsExactly("공지");
+        assertThat(user.items().get(0).children()).extracting(NavigationView.Item::name).containsExactly("공지", "회원전용");
+
+        // 링크는 첫 와일드카드 세그먼트 이전까지
+        assertThat(anonymous.items().get(0).url()).isEqualTo("/board");
+        assertThat(anonymous.items().get(0).children().get(0).url()).isEqualTo("/board/notice");
+    }
+
+    @Test
+    @DisplayName("메뉴 변경 이벤트를 받으면 해당 사이트의 항목만 비운다")
+    void menu_change_evicts_site() {
+        given(provider.getSnapshot("SITE_B")).willReturn(MenuSnapshot.empty("SITE_B"));
+        NavigationView siteA = navigationCache.get(SITE, "default", Locale.KOREAN, 0L);
+        NavigationView siteB = navigationCache.get("SITE_B", "default", Locale.KOREAN, 0L);
+
+        navigationCache.onMenuChanged(new MenuChangedEvent(SITE));
+
+        assertThat(navigationCache.get(SITE, "default", Locale.KOREAN, 0L)).isNotSameAs(siteA);
+        assertThat(navigationCache.get("SITE_B", "default", Locale.KOREAN, 0L)).isSameAs(siteB);
+    }
+
+    private com.github.benmanes.caffeine.cache.stats.CacheStats stats() {
+        return navigationCache.getStatsCaches().get("menu.navigation").stats();
+    }
+
+    private static Menu menu(Long id, Long parentId, String name, String urlPattern, String readRoles, boolean visible) {
+        Menu menu = Menu.builder()
+                .siteCode(SITE)
+                .parentId(parentId)
+                .name(name)
+                .urlPattern(urlPattern)
+                .type(MenuType.PAGE)
+                .visible(visible)
+                .accessible(true)
+                .readRoles(readRoles)
+                .build();
+        ReflectionTestUtils.setField(menu, "id", id);
+        return menu;
+    }
+}
@@ -0,0 +1,204 @@
+package com.mingchico.cms.core.ratelimit;
+
+import com.mingchico.cms.core.context.ChannelType;
+import com.mingchico.cms.core.context.ContextHolder;
+import com.mingchico.cms.core.context.ContextProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private ConcurrencyLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(1);
+        properties.setMaxLimit(100);
+        properties.setTenantSharePercent(100);
+        properties.getGradient().setWindowSize(10);
+    }
+
+    @Test
+    @DisplayName("혼잡 시 우선순위가 낮은 채널(WEB)부터 거절되고, 남은 슬롯은 관리자 채널이 사용한다")
+    void priority_lanes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        // WEB 80% => 10개 중 8개까지
+        List<AdaptiveConcurrencyLimiter.Permit> held = acquire(limiter, ChannelType.WEB, "site_a", 8);
+        assertThat(limiter.tryAcquire(ChannelType.WEB, "site_a")).isNull();
+
+        // API 90% => 9번째까지
+        held.addAll(acquire(limiter, ChannelType.API, "site_a", 1));
+        assertThat(limiter.tryAcquire(ChannelType.API, "site_a")).isNull();
+
+        // ADMIN 100% => 마지막 슬롯
+        held.addAll(acquire(limiter, ChannelType.ADMIN, "site_a", 1));
+        assertThat(limiter.tryAcquire(ChannelType.ADMIN, "site_a")).isNull();
+
+        assertThat(limiter.rejectedCount(ChannelType.WEB)).isEqualTo(1);
+        assertThat(limiter.getInflight()).isEqualTo(10);
+
+        held.forEach(permit -> permit.release(FAST, false));
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한 테넌트는 전체 한도의 지정 비율까지만 점유하고, 다른 테넌트는 영향을 받지 않는다")
+    void tenant_isolation() {
+        properties.setTenantSharePercent(50);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        acquire(limiter, ChannelType.ADMIN, "noisy", 5);
+        assertThat(limiter.tryAcquire(ChannelType.ADMIN, "noisy")).isNull();
+        assertThat(limiter.tenantRejectedCount()).isEqualTo(1);
+
+        assertThat(limiter.tryAcquire(ChannelType.ADMIN, "quiet")).isNotNull();
+        assertThat(limiter.tryAcquire(ChannelType.ADMIN, null)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("GRADIENT: 지연이 평소 수준이면 한도가 늘고, 창 전체가 느려지면 줄어든다")
+    void gradient_follows_latency() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        // 창(10건)이 차기 전에는 한도를 바꾸지 않음
+        acquire(limiter, ChannelType.ADMIN, "site_a", 9).forEach(permit -> permit.release(FAST, false));
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        saturate(limiter, 50, i -> FAST);
+        int grown = limiter.getLimit();
+        assertThat(grown).isGreaterThan(10);
+
+        // 장기 평균(10ms) 대비 20배 느린 응답이 창 여러 개에 걸쳐 이어지면 한도가 급감
+        saturate(limiter, 3, i -> SLOW);
+        assertThat(limiter.getLimit()).isLessThan(grown / 2);
+    }
+
+    @Test
+    @DisplayName("GRADIENT: 느린 엔드포인트가 섞여 있어도 창의 최소 RTT가 평소 수준이면 한도를 줄이지 않는다")
+    void gradient_ignores_slow_endpoints_in_mix() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        saturate(limiter, 20, i -> FAST);
+        int grown = limiter.getLimit();
+
+        // 요청 5건 중 1건은 20배 느린 리포트 페이지
+        saturate(limiter, 20, i -> (i % 5 == 0) ? SLOW : FAST);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(grown);
+    }
+
+    @Test
+    @DisplayName("GRADIENT: 트래픽이 한도의 절반에 못 미치면 한도를 늘리지 않는다")
+    void gradient_does_not_grow_when_app_limited() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(ChannelType.WEB, "site_a").release(FAST, false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("AIMD: 정상 응답에는 1씩 늘고, 임계치 초과/서버 오류에는 비율로 줄며, 하한 아래로 내려가지 않는다")
+    void aimd_adjusts_limit() {
+        properties.setAlgorithm(ConcurrencyLimitProperties.Algorithm.AIMD);
+        properties.setMinLimit(5);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties);
+
+        List<AdaptiveConcurrencyLimiter.Permit> held = acquire(limiter, ChannelType.ADMIN, "site_a", 10);
+
+        // 한도까지 찬 상태에서 시작된 요청이 정상 완료 => +1
+        held.removeLast().release(FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(11);
+
+        // 서버 오류 => 11 * 0.9 = 9.9
+        held.removeLast().release(FAST, true);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        // 지연 임계치(500ms) 초과가 이어지면 하한까지 감소
+        held.forEach(permit -> permit.release(SLOW * 5, false));
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("필터: 한도를 넘는 요청은 체인에 진입하지 않고 503 + Retry-After로 거절된다")
+    void filter_rejects_with_503() throws Exception {
+        ContextProperties contextProperties = new ContextProperties();
+        ContextHolder.setProperties(contextProperties);
+        properties.setInitialLimit(1);
+        properties.setLaneSharePercents(new EnumMap<>(ChannelType.class));
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties);
+
+        MockHttpServletResponse inner = new MockHttpServletResponse();
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+
+        // 첫 요청이 처리 중인 동안 두 번째 요청이 들어오는 상황
+        filter.doFilter(request("/board/1"), outer, (req, res) ->
+                filter.doFilter(request("/board/2"), inner, (r, s) -> {
+                    throw new AssertionError("rejected request must not reach the chain");
+                }));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(inner.getStatus()).isEqualTo(503);
+        assertThat(inner.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(inner.getContentAsString()).contains("\"status\":503");
+        assertThat(filter.limiter().getInflight()).isZero();
+
+        // 제외 경로는 한도와 무관하게 통과
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        filter.doFilter(request("/board/1"), outer, (req, res) ->
+                filter.doFilter(request("/actuator/health"), health, (r, s) -> { }));
+        assertThat(health.getStatus()).isEqualTo(200);
+
+        // 정적 리소스도 슬롯을 점유하지 않음
+        MockHttpServletResponse asset = new MockHttpServletResponse();
+        filter.doFilter(request("/board/1"), outer, (req, res) ->
+                filter.doFilter(request("/static/css/site.CSS"), asset, (r, s) -> { }));
+        assertThat(asset.getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        // OncePerRequestFilter가 중첩 호출을 건너뛰지 않도록 요청마다 별도 인스턴스 사용
+        return new MockHttpServletRequest("GET", uri);
+    }
+
+    /**
+     * 한도만큼 슬롯을 채운 뒤 주어진 지연으로 모두 완료시키는 과정을 반복합니다. (포화 상태 재현)
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, int rounds, IntToLongFunction rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> held =
+                    acquire(limiter, ChannelType.ADMIN, "site_a", limiter.getLimit());
+            for (int i = 0; i < held.size(); i++) {
+                held.get(i).release(rttNanos.applyAsLong(i), false);
+            }
+        }
+    }
+
+    private static List<AdaptiveConcurrencyLimiter.Permit> acquire(
+            AdaptiveConcurrencyLimiter limiter, ChannelType channel, String siteCode, int count) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire(channel, siteCode);
+            assertThat(permit).as("permit #%d", i).isNotNull();
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,87 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GcraRateLimitProviderTest {
+
+    private static final RateLimitPolicy FIVE_PER_MINUTE =
+            new RateLimitPolicy(5, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA);
+
+    @Test
+    @DisplayName("처음에는 용량만큼 허용한 뒤 거절하고, 다음 토큰/가득 찰 때까지의 대기 시간을 알려준다")
+    void allows_burst_up_to_capacity_then_rejects() {
+        GcraRateLimitProvider provider = new GcraRateLimitProvider();
+
+        for (int i = 4; i >= 0; i--) {
+            ConsumptionProbe probe = provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, 0);
+            assertThat(probe.isConsumed()).isTrue();
+            assertThat(probe.getRemainingTokens()).isEqualTo(i);
+        }
+
+        ConsumptionProbe rejected = provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, 0);
+        assertThat(rejected.isConsumed()).isFalse();
+        assertThat(rejected.getNanosToWaitForRefill()).isEqualTo(Duration.ofSeconds(12).toNanos());
+        assertThat(rejected.getNanosToWaitForReset()).isEqualTo(Duration.ofMinutes(1).toNanos());
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 상태를 바꾸지 않고, 토큰 간격만큼 지나면 다시 1개를 허용한다")
+    void rejection_does_not_push_back_schedule() {
+        GcraRateLimitProvider provider = new GcraRateLimitProvider();
+        for (int i = 0; i < 5; i++) {
+            provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, 0);
+        }
+
+        long twelveSeconds = Duration.ofSeconds(12).toNanos();
+        assertThat(provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, twelveSeconds - 1).isConsumed()).isFalse();
+        assertThat(provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, twelveSeconds).isConsumed()).isTrue();
+        assertThat(provider.tryConsume("10.0.0.1", FIVE_PER_MINUTE, twelveSeconds).isConsumed()).isFalse();
+        assertThat(provider.tryConsume("10.0.0.2", FIVE_PER_MINUTE, twelveSeconds).isConsumed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 용량/주기의 Greedy 토큰 버킷과 허용/거절 결과가 항상 같다")
+    void equivalent_to_greedy_token_bucket() {
+        GcraRateLimitProvider gcra = new GcraRateLimitProvider();
+        StripedRateLimitProvider tokenBucket = new StripedRateLimitProvider(1_024, 4);
+        RateLimitPolicy bucketPolicy = new RateLimitPolicy(5, Duration.ofMinutes(1));
+        SplittableRandom random = new SplittableRandom(42);
+
+        long now = 0;
+        for (int i = 0; i < 10_000; i++) {
+            now += random.nextLong(Duration.ofSeconds(8).toNanos());
+            String key = "10.0.0." + random.nextInt(3);
+
+            ConsumptionProbe expected = tokenBucket.tryConsume(key, bucketPolicy, now);
+            ConsumptionProbe actual = gcra.tryConsume(key, FIVE_PER_MINUTE, now);
+
+            assertThat(actual.isConsumed()).as("request #%d", i).isEqualTo(expected.isConsumed());
+            assertThat(actual.getRemainingTokens()).as("request #%d", i).isEqualTo(expected.getRemainingTokens());
+        }
+    }
+
+    @Test
+    @DisplayName("로컬 제공자는 GCRA 정책을 GCRA 구현으로 위임한다")
+    void local_providers_route_gcra_policies() {
+        LocalRateLimitProvider local = new LocalRateLimitProvider(new RateLimitProperties());
+        local.init();
+
+        for (int i = 0; i < 5; i++) {
+            local.tryConsume("10.0.0.1", FIVE_PER_MINUTE);
+        }
+
+        assertThat(local.tryConsume("10.0.0.1", FIVE_PER_MINUTE).isConsumed()).isFalse();
+        assertThat(local.getStatsCaches().get("ratelimit.local_gcra").estimatedSize()).isEqualTo(1);
+        assertThat(local.getStatsCaches().get("ratelimit.local_buckets").estimatedSize()).isZero();
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
-import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith; // [필수] startsWith 추가
@@ -71,7 +71,7 @@ class GlobalRateLimitFilterTest {
         given(successProbe.isConsumed()).willReturn(true);
         given(successProbe.getRemainingTokens()).willReturn(999L);
 
-        given(rateLimitProvider.tryConsume(anyString(), anyInt())).willReturn(successProbe);
+        given(rateLimitProvider.tryConsume(anyString(), any(RateLimitPolicy.class))).willReturn(successProbe);
 
         // when
         mockMvc.perform(get("/api/test")
@@ -80,8 +80,8 @@ class GlobalRateLimitFilterTest {
                 .andExpect(header().string("X-Rate-Limit-Remaining", "999"));
 
         // then [수정됨]
-        // 실제 키는 "vip-site.com:127.0.0.1:/api/test" 형식이므로 startsWith로 검증
-        verify(rateLimitProvider).tryConsume(startsWith("vip-site.com"), eq(1000));
+        // 실제 키는 "vip-site.com:127.0.0.1:default" 형식이므로 startsWith로 검증
+        verify(rateLimitProvider).tryConsume(startsWith("vip-site.com"), eq(RateLimitPolicy.perMinute(1000)));
     }
 
     @Test
@@ -95,7 +95,7 @@ class GlobalRateLimitFilterTest {
         given(successProbe.isConsumed()).willReturn(true);
         given(successProbe.getRemainingTokens()).willReturn(99L);
 
-        given(rateLimitProvider.tryConsume(anyString(), anyInt())).willReturn(successProbe);
+        given(rateLimitProvider.tryConsume(anyString(), any(RateLimitPolicy.class))).willReturn(successProbe);
 
         // when
         mockMvc.perform(get("/api/test")
@@ -104,6 +104,6 @@ class GlobalRateLimitFilterTest {
 
         // then [수정됨]
         // 용량이 defaultCapacity(100)으로 잘 들어갔는지 확인하는 것이 핵심
-        verify(rateLimitProvider).tryConsume(startsWith("normal-site.com"), eq(defaultCapacity));
+        verify(rateLimitProvider).tryConsume(startsWith("normal-site.com"), eq(RateLimitPolicy.perMinute(defaultCapacity)));
     }
 }
\ No newline at end of file
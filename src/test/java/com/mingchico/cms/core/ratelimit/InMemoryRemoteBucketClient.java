@@ -0,0 +1,82 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <h3>[Redis 대역 (Stand-in)]</h3>
+ * <p>
+ * 여러 노드가 공유하는 Redis 버킷을 JVM 내 Bucket4j 버킷으로 흉내 냅니다.
+ * 호출마다 지정한 왕복 지연(RTT) 뒤에 Future를 완료하고 호출 횟수를 셉니다.
+ * 지연을 늘리거나 실패를 주입하여 장애 상황도 재현할 수 있습니다.
+ * </p>
+ */
+class InMemoryRemoteBucketClient implements RemoteBucketClient {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private volatile Duration roundTrip;
+    private volatile boolean failing;
+
+    InMemoryRemoteBucketClient(Duration roundTrip) {
+        this.roundTrip = roundTrip;
+    }
+
+    @Override
+    public CompletableFuture<ConsumptionProbe> tryConsume(String key, RateLimitPolicy policy) {
+        return call(() -> bucket(key, policy).tryConsumeAndReturnRemaining(1));
+    }
+
+    @Override
+    public CompletableFuture<Long> tryConsumeUpTo(String key, RateLimitPolicy policy, long limit) {
+        return call(() -> bucket(key, policy).tryConsumeAsMuchAsPossible(limit));
+    }
+
+    @Override
+    public CompletableFuture<?> ping() {
+        return call(() -> "PONG");
+    }
+
+    long roundTrips() {
+        return roundTrips.get();
+    }
+
+    void setRoundTrip(Duration roundTrip) {
+        this.roundTrip = roundTrip;
+    }
+
+    void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    private <T> CompletableFuture<T> call(Supplier<T> operation) {
+        roundTrips.incrementAndGet();
+        if (failing) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Connection refused"));
+        }
+        long nanos = roundTrip.toNanos();
+        if (nanos == 0) {
+            return CompletableFuture.completedFuture(operation.get());
+        }
+        return CompletableFuture.supplyAsync(operation,
+                CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    private Bucket bucket(String key, RateLimitPolicy policy) {
+        return buckets.computeIfAbsent(key, k -> Bucket.builder()
+                .addLimit(Bandwidth.builder()
+                        .capacity(policy.capacity())
+                        .refillGreedy(policy.capacity(), policy.refillPeriod())
+                        .build())
+                .build());
+    }
+}
@@ -0,0 +1,98 @@
+package com.mingchico.cms.core.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.mingchico.cms.core.ratelimit.RateLimitBenchmarkSupport.bucket4j;
+import static com.mingchico.cms.core.ratelimit.RateLimitBenchmarkSupport.bytesPerKey;
+import static com.mingchico.cms.core.ratelimit.RateLimitBenchmarkSupport.keys;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[로컬 Rate Limit 엔진 비교 벤치마크]</h3>
+ * <p>
+ * 서로 다른 키 100만 개를 32개 스레드가 무작위로 요청할 때, Bucket4j + Caffeine 구현({@link LocalRateLimitProvider})과
+ * 스트라이프 배열 구현({@link StripedRateLimitProvider})의 요청당 처리 시간과 키당 힙 사용량을 로그로 남깁니다.
+ * 힙 사용량은 {@link RateLimitBenchmarkSupport}로 추정하며, 스트라이프 배열 구현이 키당 메모리가 더 작은지만 검증합니다.
+ * 단위 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class LocalRateLimitEngineBenchmarkTest {
+
+    private static final int DISTINCT_KEYS = 1_000_000;
+    private static final int THREADS = 32;
+    private static final int OPS_PER_THREAD = 50_000;
+    private static final int MEMORY_KEYS = 100_000; // Caffeine 구현의 최대 보관 수와 동일
+    private static final RateLimitPolicy POLICY = RateLimitPolicy.perMinute(100);
+
+    @Test
+    @DisplayName("[Benchmark] 키 100만 개, 32 스레드: Bucket4j + Caffeine vs 스트라이프 배열")
+    void compare_local_engines() throws Exception {
+        String[] keys = keys("SITE_BENCH", DISTINCT_KEYS);
+
+        long bucket4jNs = measure(bucket4j(), keys);
+        long stripedNs = measure(striped(), keys);
+        long bucket4jBytes = bytesPerKey(RateLimitBenchmarkSupport::bucket4j, POLICY, keys, MEMORY_KEYS);
+        long stripedBytes = bytesPerKey(() -> new StripedRateLimitProvider(MEMORY_KEYS, 64), POLICY, keys, MEMORY_KEYS);
+
+        log.info("📊 [bucket4j] {} ns/op, {} bytes/key", bucket4jNs, bucket4jBytes);
+        log.info("📊 [striped] {} ns/op, {} bytes/key", stripedNs, stripedBytes);
+
+        // 키마다 버킷 객체를 만들지 않는 것이 스트라이프 배열 구현의 목적
+        assertThat(stripedBytes).isLessThan(bucket4jBytes);
+    }
+
+    private RateLimitProvider striped() {
+        return new StripedRateLimitProvider(DISTINCT_KEYS, 64);
+    }
+
+    private long measure(RateLimitProvider provider, String[] keys) throws Exception {
+        // 워밍업
+        runThreads(provider, keys, OPS_PER_THREAD / 5);
+
+        long start = System.nanoTime();
+        long consumed = runThreads(provider, keys, OPS_PER_THREAD);
+        long elapsed = System.nanoTime() - start;
+
+        assertThat(consumed).isPositive(); // 결과를 사용하여 호출이 최적화로 제거되지 않도록 함
+        // 스레드 수만큼 병렬로 처리되므로, 처리량 기준 요청당 평균 시간
+        return elapsed / ((long) THREADS * OPS_PER_THREAD);
+    }
+
+    private long runThreads(RateLimitProvider provider, String[] keys, int opsPerThread) throws Exception {
+        CountDownLatch ready = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    ready.await();
+                    long consumed = 0;
+                    for (int i = 0; i < opsPerThread; i++) {
+                        if (provider.tryConsume(keys[random.nextInt(keys.length)], POLICY).isConsumed()) consumed++;
+                    }
+                    return consumed;
+                }));
+            }
+            ready.countDown();
+            long consumed = 0;
+            for (Future<Long> future : futures) {
+                consumed += future.get();
+            }
+            return consumed;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.time.Duration;
+
+import static com.mingchico.cms.core.ratelimit.RateLimitBenchmarkSupport.bytesPerKey;
+import static com.mingchico.cms.core.ratelimit.RateLimitBenchmarkSupport.keys;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[Rate Limit 알고리즘 비교 벤치마크: Bucket4j 토큰 버킷 vs GCRA]</h3>
+ * <p>
+ * 키당 로컬 힙 사용량(Caffeine 보관 기준)과, 실제 Redis에서의 요청당 명령 수 및 키당 메모리({@code MEMORY USAGE})를 로그로 남깁니다.
+ * 힙 사용량은 {@link RateLimitBenchmarkSupport}로 추정하며, 단위 테스트에서는 제외되어 {@code ./gradlew benchmark}로 실행합니다.
+ * Redis 비교는 {@code ./gradlew benchmark -Dcms.benchmark.redis-uri=redis://localhost:6379}처럼 지정했을 때만 실행됩니다.
+ * (CONFIG RESETSTAT으로 명령 통계를 초기화하므로 운영 Redis에 실행하지 마십시오.)
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class RateLimitAlgorithmBenchmarkTest {
+
+    private static final int MEMORY_KEYS = 100_000;
+    private static final int REDIS_KEYS = 1_000;
+    private static final RateLimitPolicy TOKEN_BUCKET = RateLimitPolicy.perMinute(100);
+    private static final RateLimitPolicy GCRA =
+            new RateLimitPolicy(100, RateLimitPolicy.DEFAULT_REFILL_PERIOD, RateLimitAlgorithm.GCRA);
+
+    @Test
+    @DisplayName("[Benchmark] 로컬 키당 힙 사용량: Bucket4j + Caffeine vs GCRA + Caffeine")
+    void compare_local_memory_per_key() {
+        String[] keys = keys("SITE_BENCH", MEMORY_KEYS);
+
+        long bucket4jBytes = bytesPerKey(RateLimitBenchmarkSupport::bucket4j, TOKEN_BUCKET, keys, MEMORY_KEYS);
+        long gcraBytes = bytesPerKey(GcraRateLimitProvider::new, GCRA, keys, MEMORY_KEYS);
+
+        log.info("📊 [bucket4j] {} bytes/key", bucket4jBytes);
+        log.info("📊 [gcra] {} bytes/key", gcraBytes);
+
+        // 키마다 TAT 하나만 보관하는 것이 GCRA 구현의 목적
+        assertThat(gcraBytes).isLessThan(bucket4jBytes);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "cms.benchmark.redis-uri", matches = ".+")
+    @DisplayName("[Benchmark] Redis 요청당 명령 수와 키당 메모리: Bucket4j CAS vs GCRA 스크립트")
+    void compare_redis_commands_and_memory() {
+        RedisURI uri = RedisURI.create(System.getProperty("cms.benchmark.redis-uri"));
+        LettuceConnectionFactory factory =
+                new LettuceConnectionFactory(new RedisStandaloneConfiguration(uri.getHost(), uri.getPort()));
+        factory.afterPropertiesSet();
+        factory.start();
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRedis().setTimeout(Duration.ofSeconds(1));
+        RedisRateLimitProvider provider = new RedisRateLimitProvider(properties, factory);
+        provider.init();
+
+        RedisClient adminClient = RedisClient.create(uri);
+        try (StatefulRedisConnection<String, String> admin = adminClient.connect()) {
+            RedisCommands<String, String> redis = admin.sync();
+
+            String[] bucketKeys = keys("BENCH_TB", REDIS_KEYS);
+            String[] gcraKeys = keys("BENCH_GCRA", REDIS_KEYS);
+            double bucket4jCommands = commandsPerOp(redis, provider, TOKEN_BUCKET, bucketKeys);
+            double gcraCommands = commandsPerOp(redis, provider, GCRA, gcraKeys);
+            long bucket4jBytes = redis.memoryUsage("ratelimit:" + bucketKeys[0]);
+            long gcraBytes = redis.memoryUsage("ratelimit:gcra:" + gcraKeys[0]);
+
+            log.info("📊 [bucket4j] {} commands/op, {} bytes/key", String.format("%.2f", bucket4jCommands), bucket4jBytes);
+            log.info("📊 [gcra] {} commands/op, {} bytes/key", String.format("%.2f", gcraCommands), gcraBytes);
+
+            assertThat(gcraCommands).isLessThanOrEqualTo(bucket4jCommands);
+        } finally {
+            provider.shutdown();
+            adminClient.shutdown();
+            factory.destroy();
+        }
+    }
+
+    /**
+     * 키마다 두 번씩(생성 + 갱신) 요청하고, 그동안 Redis가 처리한 명령 수(통계 조회 명령 제외)를 요청 수로 나눕니다.
+     */
+    private double commandsPerOp(RedisCommands<String, String> redis, RateLimitProvider provider,
+                                 RateLimitPolicy policy, String[] keys) {
+        redis.configResetstat();
+        int ops = 0;
+        for (int round = 0; round < 2; round++) {
+            for (String key : keys) {
+                assertThat(provider.tryConsume(key, policy).isConsumed()).isTrue();
+                ops++;
+            }
+        }
+        return (double) totalCalls(redis.info("commandstats")) / ops;
+    }
+
+    private static long totalCalls(String commandStats) {
+        long calls = 0;
+        for (String line : commandStats.split("\r?\n")) {
+            // 예: cmdstat_evalsha:calls=2000,usec=...
+            if (!line.startsWith("cmdstat_") || line.startsWith("cmdstat_info") || line.startsWith("cmdstat_config")) {
+                continue;
+            }
+            int start = line.indexOf("calls=") + "calls=".length();
+            calls += Long.parseLong(line.substring(start, line.indexOf(',', start)));
+        }
+        return calls;
+    }
+}
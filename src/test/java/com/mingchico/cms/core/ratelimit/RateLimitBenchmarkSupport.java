@@ -0,0 +1,60 @@
+package com.mingchico.cms.core.ratelimit;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[Rate Limit 벤치마크 공용 도구]</h3>
+ * <p>
+ * 벤치마크 테스트들이 함께 쓰는 키 생성, Bucket4j 로컬 구현 생성, 키당 힙 사용량 추정 로직입니다.
+ * 힙 사용량은 GC 직후 사용량의 차이로 추정합니다.
+ * </p>
+ */
+final class RateLimitBenchmarkSupport {
+
+    private RateLimitBenchmarkSupport() {
+    }
+
+    /**
+     * 사이트 하나에 IP만 다른 Rate Limit 키를 만듭니다. (예: {@code SITE:10.0.1.2:default})
+     */
+    static String[] keys(String siteCode, int count) {
+        String[] keys = new String[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = siteCode + ":10." + (i >>> 16) + "." + ((i >>> 8) & 0xff) + "." + (i & 0xff) + ":default";
+        }
+        return keys;
+    }
+
+    /**
+     * 기본 설정의 Bucket4j + Caffeine 로컬 구현
+     */
+    static RateLimitProvider bucket4j() {
+        LocalRateLimitProvider provider = new LocalRateLimitProvider(new RateLimitProperties());
+        provider.init();
+        return provider;
+    }
+
+    /**
+     * 새 구현에 앞쪽 {@code count}개 키를 한 번씩 요청한 뒤, 늘어난 힙을 키 수로 나눕니다.
+     */
+    static long bytesPerKey(Supplier<RateLimitProvider> factory, RateLimitPolicy policy, String[] keys, int count) {
+        long before = usedHeap();
+        RateLimitProvider provider = factory.get();
+        for (int i = 0; i < count; i++) {
+            provider.tryConsume(keys[i], policy);
+        }
+        long after = usedHeap();
+        assertThat(provider).isNotNull(); // 측정 시점까지 도달 가능하도록 유지
+        return (after - before) / count;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
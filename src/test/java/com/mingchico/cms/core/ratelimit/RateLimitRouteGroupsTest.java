@@ -0,0 +1,142 @@
+package com.mingchico.cms.core.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimitRouteGroupsTest {
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setCapacity(100);
+        properties.getPerTenantCapacities().put("vip", 1000);
+        properties.setRouteGroups(List.of(
+                group("auth", List.of("/login", "/api/auth/**"), 10, Map.of("vip", 30)),
+                group("board", List.of("/board/{id}", "/board/{id}/comments"), null, Map.of())
+        ));
+    }
+
+    @Test
+    @DisplayName("ID가 다른 URL도 같은 그룹으로 묶이고, 매칭되지 않으면 default 그룹이 된다")
+    void urls_collapse_into_groups() {
+        RateLimitRouteGroups groups = new RateLimitRouteGroups(properties);
+
+        assertThat(groups.match("/board/1").name()).isEqualTo("board");
+        assertThat(groups.match("/board/99999/comments").name()).isEqualTo("board");
+        assertThat(groups.match("/api/auth/token/refresh").name()).isEqualTo("auth");
+        assertThat(groups.match("/login").name()).isEqualTo("auth");
+        assertThat(groups.match("/products/abc").name()).isEqualTo(RateLimitRouteGroups.DEFAULT_GROUP);
+    }
+
+    @Test
+    @DisplayName("용량은 그룹의 테넌트별 용량 -> 그룹 용량 -> 사이트 용량 순으로 결정된다")
+    void capacity_resolution_order() {
+        RateLimitRouteGroups groups = new RateLimitRouteGroups(properties);
+        RateLimitRouteGroups.CompiledGroup auth = groups.match("/login");
+        RateLimitRouteGroups.CompiledGroup board = groups.match("/board/1");
+        RateLimitRouteGroups.CompiledGroup other = groups.match("/other");
+
+        assertThat(groups.policyOf(auth, "vip")).isEqualTo(new RateLimitPolicy(30, Duration.ofSeconds(10)));
+        assertThat(groups.policyOf(auth, "normal")).isEqualTo(new RateLimitPolicy(10, Duration.ofSeconds(10)));
+        assertThat(groups.policyOf(board, "vip")).isEqualTo(RateLimitPolicy.perMinute(1000));
+        assertThat(groups.policyOf(other, "normal")).isEqualTo(RateLimitPolicy.perMinute(100));
+    }
+
+    @Test
+    @DisplayName("알고리즘은 그룹 알고리즘 -> 사이트 알고리즘 -> 기본 알고리즘 순으로 결정된다")
+    void algorithm_resolution_order() {
+        properties.getRouteGroups().get(0).setAlgorithm(RateLimitAlgorithm.GCRA);
+        properties.getPerTenantAlgorithms().put("vip", RateLimitAlgorithm.GCRA);
+        RateLimitRouteGroups groups = new RateLimitRouteGroups(properties);
+        RateLimitRouteGroups.CompiledGroup auth = groups.match("/login");
+        RateLimitRouteGroups.CompiledGroup other = groups.match("/other");
+
+        assertThat(groups.policyOf(auth, "normal").algorithm()).isEqualTo(RateLimitAlgorithm.GCRA);
+        assertThat(groups.policyOf(other, "vip").algorithm()).isEqualTo(RateLimitAlgorithm.GCRA);
+        assertThat(groups.policyOf(other, "normal").algorithm()).isEqualTo(RateLimitAlgorithm.TOKEN_BUCKET);
+
+        properties.setAlgorithm(RateLimitAlgorithm.GCRA);
+        assertThat(groups.policyOf(other, "normal").algorithm()).isEqualTo(RateLimitAlgorithm.GCRA);
+    }
+
+    @Test
+    @DisplayName("그룹명이 중복되거나 예약어(default)이면 기동 시점에 실패한다")
+    void rejects_duplicated_group_names() {
+        properties.setRouteGroups(List.of(
+                group("auth", List.of("/login"), 10, Map.of()),
+                group("auth", List.of("/logout"), 10, Map.of())));
+
+        assertThatThrownBy(() -> new RateLimitRouteGroups(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("용량 x 리필 주기(ns)가 long 토큰 단위를 넘으면 기동 시점에 실패하고, 실행 중 변경된 값은 상한으로 낮춘다")
+    void capacity_is_bounded_by_refill_period() {
+        RateLimitProperties.RouteGroup hourly = group("export", List.of("/export/**"), 3_000_000, Map.of());
+        hourly.setRefillPeriod(Duration.ofHours(1));
+        properties.setRouteGroups(List.of(hourly));
+
+        assertThatThrownBy(() -> new RateLimitRouteGroups(properties)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RateLimitPolicy(3_000_000, Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // 기동 후 사이트 용량이 상한을 넘게 변경된 경우: 요청 경로에서 예외 없이 상한 적용
+        RateLimitProperties runtime = new RateLimitProperties();
+        RateLimitRouteGroups groups = new RateLimitRouteGroups(runtime);
+        runtime.getPerTenantCapacities().put("vip", Integer.MAX_VALUE);
+
+        assertThat(RateLimitPolicy.maxCapacity(Duration.ofHours(1))).isEqualTo(1_281_023);
+        assertThat(groups.policyOf(groups.match("/any"), "vip").capacity())
+                .isEqualTo(RateLimitPolicy.maxCapacity(RateLimitPolicy.DEFAULT_REFILL_PERIOD));
+    }
+
+    @Test
+    @DisplayName("GCRA는 토큰 간격이 0ns가 되는 용량(> 리필 주기 ns)을 기동 시점에 거부하고, 실행 중 변경된 값은 상한으로 낮춘다")
+    void gcra_capacity_keeps_positive_interval() {
+        RateLimitProperties.RouteGroup burst = group("burst", List.of("/burst/**"), 2_000_000_000, Map.of());
+        burst.setRefillPeriod(Duration.ofSeconds(1));
+        burst.setAlgorithm(RateLimitAlgorithm.GCRA);
+        properties.setRouteGroups(List.of(burst));
+
+        assertThatThrownBy(() -> new RateLimitRouteGroups(properties)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new RateLimitPolicy(2_000_000_000, Duration.ofSeconds(1), RateLimitAlgorithm.GCRA))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(new RateLimitPolicy(2_000_000_000, Duration.ofSeconds(1)).capacity()).isEqualTo(2_000_000_000);
+
+        // 기동 후 사이트 용량/알고리즘이 바뀐 경우: 요청 경로에서 예외 없이 GCRA 상한 적용
+        burst.setCapacity(null);
+        burst.setAlgorithm(null);
+        RateLimitProperties runtime = new RateLimitProperties();
+        runtime.setRouteGroups(List.of(burst));
+        RateLimitRouteGroups groups = new RateLimitRouteGroups(runtime);
+        runtime.getPerTenantCapacities().put("vip", 2_000_000_000);
+        runtime.getPerTenantAlgorithms().put("vip", RateLimitAlgorithm.GCRA);
+
+        RateLimitPolicy policy = groups.policyOf(groups.match("/burst/1"), "vip");
+        assertThat(policy.capacity()).isEqualTo(1_000_000_000);
+        assertThat(policy.nanosPerToken()).isEqualTo(1);
+    }
+
+    private static RateLimitProperties.RouteGroup group(String name, List<String> patterns, Integer capacity,
+                                                        Map<String, Integer> perTenantCapacities) {
+        RateLimitProperties.RouteGroup group = new RateLimitProperties.RouteGroup();
+        group.setName(name);
+        group.setPatterns(patterns);
+        group.setCapacity(capacity);
+        if (capacity != null) {
+            group.setRefillPeriod(Duration.ofSeconds(10));
+        }
+        group.setPerTenantCapacities(perTenantCapacities);
+        return group;
+    }
+}
@@ -0,0 +1,77 @@
+package com.mingchico.cms.core.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <h3>[Redis Rate Limit 임대 모드 비교 벤치마크]</h3>
+ * <p>
+ * 왕복 지연 200µs의 Redis 대역({@link InMemoryRemoteBucketClient})을 두고,
+ * 요청마다 Redis를 호출하는 기존 방식과 토큰 임대 방식의 요청당 처리 시간 및 Redis 호출 수를 로그로 남깁니다.
+ * 정밀 측정이 아닌 회귀 감지용 비교치이며, 단위 테스트에서는 제외되어 {@code ./gradlew benchmark}로 실행합니다.
+ * (호출 수 감소 검증은 {@link RedisRateLimitProviderTest})
+ * </p>
+ */
+@Slf4j
+@Tag("benchmark")
+class RedisRateLimitLeaseBenchmarkTest {
+
+    private static final Duration ROUND_TRIP = Duration.ofNanos(200_000);
+    private static final int THREADS = 8;
+    private static final int KEYS = 64;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int CAPACITY = 1_000_000; // 벤치마크 도중 차단되지 않도록 충분히 크게
+
+    @Test
+    @DisplayName("[Benchmark] 요청당 Redis 호출 vs 토큰 임대 (RTT 200µs)")
+    void compare_direct_and_leased() throws Exception {
+        Result direct = run(false);
+        Result leased = run(true);
+
+        log.info("📊 [direct] {} ns/op, {} redis calls", direct.nanosPerOp(), direct.roundTrips());
+        log.info("📊 [leased] {} ns/op, {} redis calls", leased.nanosPerOp(), leased.roundTrips());
+    }
+
+    private Result run(boolean leaseEnabled) throws Exception {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(ROUND_TRIP);
+        RedisRateLimitProvider provider = RedisRateLimitProviderTest.node(redis, leaseEnabled, 50);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            long start = System.nanoTime();
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    int consumed = 0;
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        String key = "SITE_BENCH:10.0.0." + ((thread * REQUESTS_PER_THREAD + i) % KEYS);
+                        if (provider.tryConsume(key, CAPACITY).isConsumed()) consumed++;
+                    }
+                    return consumed;
+                }));
+            }
+            int consumed = 0;
+            for (Future<Integer> future : futures) {
+                consumed += future.get();
+            }
+            long elapsed = System.nanoTime() - start;
+
+            assertThat(consumed).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+            return new Result(elapsed / ((long) THREADS * REQUESTS_PER_THREAD), redis.roundTrips());
+        }
+    }
+
+    private record Result(long nanosPerOp, long roundTrips) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisRateLimitProviderTest {
+
+    private static final String KEY = "SITE_A:10.0.0.1:/api/test";
+
+    @Test
+    @DisplayName("임대 모드가 꺼져 있으면 요청마다 Redis를 한 번씩 호출한다")
+    void direct_mode_round_trip_per_request() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        RedisRateLimitProvider provider = node(redis, false, 10);
+
+        for (int i = 0; i < 20; i++) {
+            provider.tryConsume(KEY, 100);
+        }
+
+        assertThat(redis.roundTrips()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("임대 모드에서는 임대 크기만큼 로컬에서 차감하여 Redis 호출이 1/size로 줄어든다")
+    void lease_mode_reduces_round_trips() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        RedisRateLimitProvider provider = node(redis, true, 10);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(provider.tryConsume(KEY, 100).isConsumed()).isTrue();
+        }
+
+        assertThat(redis.roundTrips()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 임대 모드의 Redis 호출 수가 요청당 호출보다 적다")
+    void lease_mode_reduces_round_trips_under_concurrency() throws Exception {
+        InMemoryRemoteBucketClient direct = new InMemoryRemoteBucketClient(Duration.ZERO);
+        InMemoryRemoteBucketClient leased = new InMemoryRemoteBucketClient(Duration.ZERO);
+
+        assertThat(concurrentConsumed(node(direct, false, 50))).isEqualTo(8 * 200);
+        assertThat(concurrentConsumed(node(leased, true, 50))).isEqualTo(8 * 200);
+
+        assertThat(direct.roundTrips()).isEqualTo(8 * 200);
+        assertThat(leased.roundTrips()).isLessThan(direct.roundTrips());
+    }
+
+    @Test
+    @DisplayName("여러 노드가 임대해도 전역 허용량을 넘지 않는다")
+    void leased_nodes_never_exceed_global_capacity() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        List<RedisRateLimitProvider> nodes = List.of(
+                node(redis, true, 7), node(redis, true, 7), node(redis, true, 7));
+
+        int admitted = 0;
+        for (int i = 0; i < 300; i++) {
+            if (nodes.get(i % nodes.size()).tryConsume(KEY, 50).isConsumed()) admitted++;
+        }
+
+        assertThat(admitted).isLessThanOrEqualTo(50).isGreaterThanOrEqualTo(50 - 2 * 7);
+    }
+
+    @Test
+    @DisplayName("전역 버킷이 소진되면 대기 시간을 알려주고, 재충전 전까지는 Redis를 다시 호출하지 않는다")
+    void exhausted_bucket_is_rejected_locally() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        RedisRateLimitProvider provider = node(redis, true, 10);
+
+        for (int i = 0; i < 5; i++) {
+            provider.tryConsume(KEY, 5);
+        }
+        ConsumptionProbe rejected = provider.tryConsume(KEY, 5);
+        long roundTrips = redis.roundTrips();
+        for (int i = 0; i < 100; i++) {
+            provider.tryConsume(KEY, 5);
+        }
+
+        assertThat(rejected.isConsumed()).isFalse();
+        assertThat(rejected.getNanosToWaitForRefill()).isPositive();
+        assertThat(redis.roundTrips()).isEqualTo(roundTrips);
+    }
+
+    @Test
+    @DisplayName("Redis 응답이 지연 예산을 넘기면 기다리지 않고 로컬 버킷으로 판단한다")
+    void slow_redis_falls_back_within_budget() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ofSeconds(2));
+        RedisRateLimitProvider provider = node(redis, false, 10);
+
+        long start = System.nanoTime();
+        ConsumptionProbe probe = provider.tryConsume(KEY, 100);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(probe.isConsumed()).isTrue();
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(provider.fallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 임계치에 도달하면 회로가 열려 Redis를 호출하지 않고, 복구 점검 후 다시 닫힌다")
+    void circuit_opens_and_recovers() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        RedisRateLimitProvider provider = node(redis, false, 10);
+        redis.setFailing(true);
+
+        for (int i = 0; i < 3; i++) {
+            provider.tryConsume(KEY, 100);
+        }
+        assertThat(provider.circuitState()).isEqualTo(RateLimitCircuitBreaker.State.OPEN);
+
+        // 회로가 열린 동안: Redis 호출 없이 로컬 제한 적용
+        long roundTrips = redis.roundTrips();
+        for (int i = 0; i < 10; i++) {
+            assertThat(provider.tryConsume(KEY, 100).isConsumed()).isTrue();
+        }
+        assertThat(redis.roundTrips()).isEqualTo(roundTrips);
+        assertThat(provider.fallbackCount()).isEqualTo(13);
+
+        // 아직 장애 중이면 열린 상태 유지
+        provider.probeRecovery();
+        assertThat(provider.circuitState()).isEqualTo(RateLimitCircuitBreaker.State.OPEN);
+
+        // 복구되면 점검이 회로를 닫고 다시 Redis로 판단
+        redis.setFailing(false);
+        provider.probeRecovery();
+        assertThat(provider.circuitState()).isEqualTo(RateLimitCircuitBreaker.State.CLOSED);
+
+        long beforeClosed = redis.roundTrips();
+        provider.tryConsume(KEY, 100);
+        assertThat(redis.roundTrips()).isEqualTo(beforeClosed + 1);
+    }
+
+    @Test
+    @DisplayName("임대 모드에서 임대분/차단 캐시로 로컬 응답한 요청은 연속 실패 수를 초기화하지 않아 회로가 열린다")
+    void lease_mode_local_answers_do_not_reset_failures() {
+        InMemoryRemoteBucketClient redis = new InMemoryRemoteBucketClient(Duration.ZERO);
+        RedisRateLimitProvider provider = node(redis, true, 10);
+        String leasedKey = "SITE_A:10.0.0.2:/api/test";
+        String blockedKey = "SITE_A:10.0.0.3:/api/test";
+
+        provider.tryConsume(leasedKey, 100);
+        for (int i = 0; i < 2; i++) {
+            provider.tryConsume(blockedKey, 1);
+        }
+        redis.setFailing(true);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(provider.tryConsume(leasedKey, 100).isConsumed()).isTrue();
+            assertThat(provider.tryConsume(blockedKey, 1).isConsumed()).isFalse();
+            provider.tryConsume(KEY, 100); // Redis 호출 실패
+        }
+
+        assertThat(provider.circuitState()).isEqualTo(RateLimitCircuitBreaker.State.OPEN);
+    }
+
+    /**
+     * 8개 스레드가 키 16개에 200건씩 요청하고, 허용된 요청 수를 반환합니다.
+     */
+    private static int concurrentConsumed(RedisRateLimitProvider provider) throws Exception {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    int consumed = 0;
+                    for (int i = 0; i < 200; i++) {
+                        if (provider.tryConsume("SITE_A:10.0.0." + ((thread + i) % 16), 10_000).isConsumed()) consumed++;
+                    }
+                    return consumed;
+                }));
+            }
+            int consumed = 0;
+            for (Future<Integer> future : futures) {
+                consumed += future.get();
+            }
+            return consumed;
+        }
+    }
+
+    static RedisRateLimitProvider node(RemoteBucketClient redis, boolean leaseEnabled, int leaseSize) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getLease().setEnabled(leaseEnabled);
+        properties.getLease().setSize(leaseSize);
+        properties.getLease().setTtl(Duration.ofMinutes(1));
+        properties.getRedis().setFailureThreshold(3);
+        properties.getRedis().setProbeInterval(Duration.ofHours(1)); // 테스트에서는 probeRecovery()를 직접 호출
+
+        RedisRateLimitProvider provider = new RedisRateLimitProvider(properties, redis);
+        provider.init();
+        return provider;
+    }
+}
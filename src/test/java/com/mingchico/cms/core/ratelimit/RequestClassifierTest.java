@@ -0,0 +1,101 @@
+package com.mingchico.cms.core.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link AffixTrie}, {@link CidrRadixTree}가 기존 판정 방식
+ * (소문자 변환 후 startsWith/endsWith 순회, {@link IpAddressMatcher} 순회)과 같은 결과를 내는지 검증합니다.
+ */
+class RequestClassifierTest {
+
+    private static final List<String> PATHS = List.of("/actuator", "/health", "/metrics");
+    private static final List<String> EXTENSIONS = List.of(".css", ".js", ".png", ".woff", ".woff2");
+
+    private static final List<String> URIS = List.of(
+            "/", "", "/actuator", "/actuator/health", "/ACTUATOR/info", "/healthz", "/api/health",
+            "/static/app.js", "/static/APP.JS", "/static/app.json", "/img/logo.png", "/fonts/a.woff2",
+            "/fonts/a.woff", "/fonts/a.wof", "/js", "/board/1", "/metrics.css"
+    );
+
+    private static final List<String> CIDRS = List.of(
+            "127.0.0.1", "10.0.0.0/8", "192.168.1.0/24", "172.16.0.0/12",
+            "0:0:0:0:0:0:0:1", "2001:db8::/32", "fe80::/10"
+    );
+
+    private static final List<String> ADDRESSES = List.of(
+            "127.0.0.1", "127.0.0.2", "10.255.255.255", "11.0.0.1", "192.168.1.77", "192.168.2.1",
+            "172.31.0.1", "172.32.0.1", "0.0.0.0", "255.255.255.255",
+            "::1", "0:0:0:0:0:0:0:1", "::2", "2001:db8::1", "2001:DB8:ffff::", "2001:db9::1",
+            "fe80::1", "febf::1", "fec0::1", "::ffff:10.1.2.3", "::ffff:11.1.2.3"
+    );
+
+    @Test
+    @DisplayName("제외 경로(접두)와 확장자(접미) 판정이 대소문자 무시 startsWith/endsWith 순회와 동일하다")
+    void affix_trie_equals_linear_scan() {
+        AffixTrie prefixes = AffixTrie.prefixes(PATHS);
+        AffixTrie suffixes = AffixTrie.suffixes(EXTENSIONS);
+
+        for (String uri : URIS) {
+            String lower = uri.toLowerCase();
+            assertThat(prefixes.matches(uri)).as("prefix uri=%s", uri)
+                    .isEqualTo(PATHS.stream().anyMatch(lower::startsWith));
+            assertThat(suffixes.matches(uri)).as("suffix uri=%s", uri)
+                    .isEqualTo(EXTENSIONS.stream().anyMatch(lower::endsWith));
+        }
+    }
+
+    @Test
+    @DisplayName("등록된 항목이 없으면 어떤 값과도 매칭되지 않고, 빈 문자열 항목은 모든 값과 매칭된다")
+    void affix_trie_edge_cases() {
+        assertThat(AffixTrie.prefixes(List.of()).matches("/anything")).isFalse();
+        assertThat(AffixTrie.suffixes(List.of()).matches("")).isFalse();
+        assertThat(AffixTrie.prefixes(List.of("")).matches("/anything")).isTrue();
+    }
+
+    @Test
+    @DisplayName("신뢰 프록시 판정이 IpAddressMatcher 순회와 동일하다 (IPv4, IPv6, IPv4-mapped)")
+    void cidr_tree_equals_ip_address_matcher() {
+        CidrRadixTree tree = new CidrRadixTree(CIDRS);
+        List<IpAddressMatcher> matchers = CIDRS.stream().map(IpAddressMatcher::new).toList();
+
+        for (String address : ADDRESSES) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.setRemoteAddr(address);
+
+            assertThat(tree.matches(address)).as("address=%s", address)
+                    .isEqualTo(matchers.stream().anyMatch(m -> m.matches(request)));
+        }
+    }
+
+    @Test
+    @DisplayName("주소 형식이 아니면 신뢰하지 않고, 잘못된 CIDR 설정은 기동 시점에 거부된다")
+    void cidr_tree_rejects_invalid_input() {
+        CidrRadixTree tree = new CidrRadixTree(CIDRS);
+
+        assertThat(tree.matches(null)).isFalse();
+        assertThat(tree.matches("")).isFalse();
+        assertThat(tree.matches("localhost")).isFalse();
+        assertThat(tree.matches("10.0.0")).isFalse();
+        assertThat(tree.matches("10.0.0.256")).isFalse();
+        assertThat(tree.matches("1::2::3")).isFalse();
+
+        assertThatThrownBy(() -> new CidrRadixTree(List.of("10.0.0.0/33")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CidrRadixTree(List.of("not-an-ip")))
+                .isInstanceOf(IllegalArgumentException.class);
+        // 16진수 문자만으로 된 호스트명도 DNS 조회 없이 거부
+        for (String hostname : List.of("cafe", "dead.beef", "bad", "::1/129")) {
+            assertThatThrownBy(() -> new CidrRadixTree(List.of(hostname)))
+                    .as(hostname)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.mingchico.cms.core.ratelimit;
+
+import io.github.bucket4j.ConsumptionProbe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedRateLimitProviderTest {
+
+    private static final RateLimitPolicy TEN_PER_MINUTE = RateLimitPolicy.perMinute(10);
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고, 토큰 1개가 찰 때까지의 대기 시간을 알려준다")
+    void allows_up_to_capacity_then_rejects() {
+        StripedRateLimitProvider provider = new StripedRateLimitProvider(1_024, 4);
+
+        for (int i = 9; i >= 0; i--) {
+            ConsumptionProbe probe = provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, 0);
+            assertThat(probe.isConsumed()).isTrue();
+            assertThat(probe.getRemainingTokens()).isEqualTo(i);
+        }
+
+        ConsumptionProbe rejected = provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, 0);
+        assertThat(rejected.isConsumed()).isFalse();
+        assertThat(rejected.getNanosToWaitForRefill()).isEqualTo(Duration.ofSeconds(6).toNanos());
+    }
+
+    @Test
+    @DisplayName("경과 시간에 비례하여 토큰이 채워지고, 용량을 넘지 않는다")
+    void refills_greedily_up_to_capacity() {
+        StripedRateLimitProvider provider = new StripedRateLimitProvider(1_024, 4);
+        for (int i = 0; i < 10; i++) {
+            provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, 0);
+        }
+
+        long sixSeconds = Duration.ofSeconds(6).toNanos();
+        assertThat(provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, sixSeconds - 1).isConsumed()).isFalse();
+        assertThat(provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, sixSeconds).isConsumed()).isTrue();
+
+        long oneHour = Duration.ofHours(1).toNanos();
+        assertThat(provider.tryConsume("10.0.0.1", TEN_PER_MINUTE, oneHour).getRemainingTokens()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("키는 서로 독립적인 버킷을 가진다")
+    void keys_are_isolated() {
+        StripedRateLimitProvider provider = new StripedRateLimitProvider(1_024, 4);
+        RateLimitPolicy one = RateLimitPolicy.perMinute(1);
+
+        assertThat(provider.tryConsume("a", one, 0).isConsumed()).isTrue();
+        assertThat(provider.tryConsume("a", one, 0).isConsumed()).isFalse();
+        assertThat(provider.tryConsume("b", one, 0).isConsumed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 키가 들어오면 CLOCK 방식으로 교체하며 메모리는 늘어나지 않는다")
+    void evicts_with_clock_when_full() {
+        StripedRateLimitProvider provider = new StripedRateLimitProvider(64, 2);
+        RateLimitPolicy one = RateLimitPolicy.perMinute(1);
+
+        for (int i = 0; i < 10_000; i++) {
+            provider.tryConsume("scanner-" + i, one, 0);
+        }
+
+        assertThat(provider.slotCount()).isEqualTo(64);
+        assertThat(provider.evictionCount()).isGreaterThanOrEqualTo(10_000 - 64);
+    }
+
+    @Test
+    @DisplayName("방금 사용된 키는 참조 비트 덕분에 한 번의 교체로 밀려나지 않는다")
+    void recently_used_key_survives_single_eviction() {
+        // 샤드 1개, 세트 1개(8칸)로 구성하여 교체 순서를 결정적으로 만듦
+        StripedRateLimitProvider provider = new StripedRateLimitProvider(StripedRateLimitProvider.WAYS, 1);
+        RateLimitPolicy one = RateLimitPolicy.perMinute(1);
+
+        for (int i = 0; i < StripedRateLimitProvider.WAYS; i++) {
+            provider.tryConsume("key-" + i, one, 0);
+        }
+        // 모든 참조 비트가 지워지고 key-0 칸이 교체됨
+        provider.tryConsume("new-1", one, 0);
+        // key-1은 다시 참조되어 다음 교체에서 건너뜀
+        provider.tryConsume("key-1", one, 0);
+        provider.tryConsume("new-2", one, 0);
+
+        assertThat(provider.tryConsume("key-1", one, 0).isConsumed()).isFalse(); // 상태 유지 (이미 소진)
+        assertThat(provider.tryConsume("key-0", one, 0).isConsumed()).isTrue();  // 교체되어 새 버킷
+    }
+}
@@ -0,0 +1,53 @@
+package com.mingchico.cms.core.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoleRegistryTest {
+
+    @Test
+    @DisplayName("접두사 유무와 공백에 관계없이 같은 역할은 같은 비트로 변환된다")
+    void normalizes_role_names() {
+        assertThat(RoleRegistry.maskOf(Set.of("ADMIN")))
+                .isEqualTo(RoleRegistry.maskOf(Set.of(" ROLE_ADMIN ")))
+                .isNotZero();
+        assertThat(RoleRegistry.maskOf(Set.of("ANONYMOUS"))).isEqualTo(RoleRegistry.ANONYMOUS_MASK);
+    }
+
+    @Test
+    @DisplayName("사용자 권한 마스크와 요구 역할 마스크가 하나라도 겹치면 접근을 허용한다")
+    void matches_any_required_role() {
+        long required = RoleRegistry.maskOf(Set.of("ROLE_ADMIN", "ROLE_MANAGER"));
+
+        long manager = RoleRegistry.authorityMask(List.of(new SimpleGrantedAuthority("ROLE_MANAGER")));
+        long user = RoleRegistry.authorityMask(List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        assertThat(RoleRegistry.hasAny(required, manager)).isTrue();
+        assertThat(RoleRegistry.hasAny(required, user)).isFalse();
+        assertThat(RoleRegistry.allowsAnonymous(required)).isFalse();
+    }
+
+    @Test
+    @DisplayName("메뉴에서 요구한 적 없는 사용자 권한은 레지스트리에 등록되지 않는다")
+    void unknown_authorities_are_not_interned() {
+        long mask = RoleRegistry.authorityMask(List.of(new SimpleGrantedAuthority("ROLE_NEVER_REQUIRED_BY_MENU")));
+
+        assertThat(mask).isZero();
+    }
+
+    @Test
+    @DisplayName("새로운 사용자 정의 역할도 메뉴 스냅샷 생성 시 등록되어 비교할 수 있다")
+    void custom_roles_are_interned_on_demand() {
+        long required = RoleRegistry.maskOf(Set.of("EDITOR"));
+        long editor = RoleRegistry.authorityMask(List.of(new SimpleGrantedAuthority("ROLE_EDITOR")));
+
+        assertThat(RoleRegistry.hasAny(required, editor)).isTrue();
+        assertThat(RoleRegistry.isOverflowed(required)).isFalse();
+    }
+}
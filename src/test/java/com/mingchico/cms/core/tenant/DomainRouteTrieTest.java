@@ -0,0 +1,85 @@
+package com.mingchico.cms.core.tenant;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainRouteTrieTest {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher(".");
+
+    @Test
+    @DisplayName("더 긴(구체적인) 와일드카드 패턴이 짧은 패턴보다 우선한다")
+    void longer_pattern_wins() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("*.com", "SITE_COM");
+        rules.put("*.shop.com", "SITE_SHOP");
+
+        DomainRouteTrie trie = DomainRouteTrie.compile(rules);
+
+        assertThat(trie.match("a.shop.com")).isEqualTo("SITE_SHOP");
+        assertThat(trie.match("shop.com")).isEqualTo("SITE_COM");
+        assertThat(trie.match("a.b.shop.com")).isNull(); // '*'는 라벨 하나만 매칭
+    }
+
+    @Test
+    @DisplayName("'**'는 0개 이상의 라벨과 매칭된다")
+    void multi_wildcard_matches_zero_or_more_labels() {
+        DomainRouteTrie trie = DomainRouteTrie.compile(Map.of("**.shop.com", "SITE_DEEP"));
+
+        assertThat(trie.match("shop.com")).isEqualTo("SITE_DEEP");
+        assertThat(trie.match("a.b.c.shop.com")).isEqualTo("SITE_DEEP");
+        assertThat(trie.match("shop.org")).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 정렬 + AntPathMatcher 순차 검사와 동일한 결과를 낸다")
+    void equivalent_to_sorted_linear_scan() {
+        Map<String, String> rules = new LinkedHashMap<>();
+        rules.put("*.mingchico.com", "SITE_WILD");
+        rules.put("*.com", "SITE_COM");
+        rules.put("**.deep.com", "SITE_DEEP");
+        rules.put("a.**.x.com", "SITE_AX");
+        rules.put("*.*.com", "SITE_TWO");
+        rules.put("shop-*.com", "SITE_PARTIAL"); // 비정형 패턴 (AntPathMatcher Fallback)
+        rules.put("exact.com", "SITE_EXACT");    // 와일드카드 없음 -> 트라이 대상 아님
+
+        DomainRouteTrie trie = DomainRouteTrie.compile(rules);
+
+        List<String> domains = List.of(
+                "shop.mingchico.com", "mingchico.com", "a.b.mingchico.com",
+                "deep.com", "x.y.deep.com", "a.x.com", "a.q.r.x.com",
+                "shop-kr.com", "exact.com", "foo.org", "a.b.com"
+        );
+
+        for (String domain : domains) {
+            assertThat(trie.match(domain))
+                    .as("domain=%s", domain)
+                    .isEqualTo(linearScan(rules, domain));
+        }
+    }
+
+    /**
+     * 기존 DomainTenantResolver의 와일드카드 검사 로직(정렬 후 순차 매칭)을 그대로 재현한 기준 구현
+     */
+    private String linearScan(Map<String, String> rules, String domain) {
+        List<String> sorted = new ArrayList<>(rules.keySet());
+        sorted.sort(Comparator.comparing((String p) -> p.contains("*"))
+                .thenComparing(String::length, Comparator.reverseOrder()));
+
+        for (String pattern : sorted) {
+            if (pattern.contains("*") && pathMatcher.match(pattern, domain)) {
+                return rules.get(pattern);
+            }
+        }
+        return null;
+    }
+}
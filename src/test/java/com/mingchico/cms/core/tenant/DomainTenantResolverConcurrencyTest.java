@@ -0,0 +1,92 @@
+package com.mingchico.cms.core.tenant;
+
+import com.mingchico.cms.core.tenant.dto.TenantRoute;
+import com.mingchico.cms.core.tenant.repository.TenantRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class DomainTenantResolverConcurrencyTest {
+
+    @Test
+    @DisplayName("규칙이 계속 갱신되는 중에도 조회는 예외 없이 항상 완전한 규칙 집합을 본다")
+    void lookups_never_observe_partial_rules_under_continuous_refresh() throws InterruptedException {
+        // [Given] 매 갱신마다 새로 만들어지는 규칙 목록 (항상 같은 매핑)
+        TenantRepository tenantRepository = mock(TenantRepository.class);
+        given(tenantRepository.findAllRoutes()).willAnswer(invocation -> buildRoutes());
+
+        DomainTenantResolver resolver = new DomainTenantResolver(tenantRepository, new TenantProperties());
+        resolver.refreshRules();
+
+        int readerCount = 16;
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong lookups = new AtomicLong();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch readersDone = new CountDownLatch(readerCount);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // [Writer] 쉬지 않고 규칙 갱신
+            executor.submit(() -> {
+                while (running.get()) {
+                    resolver.refreshRules();
+                }
+            });
+
+            // [Readers] 정확 일치 / 와일드카드 도메인을 번갈아 조회
+            for (int r = 0; r < readerCount; r++) {
+                executor.submit(() -> {
+                    try {
+                        MockHttpServletRequest exact = new MockHttpServletRequest();
+                        exact.setServerName("exact.mingchico.com");
+                        MockHttpServletRequest wildcard = new MockHttpServletRequest();
+
+                        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+                        int i = 0;
+                        while (System.nanoTime() < deadline) {
+                            // 매번 다른 서브도메인으로 결과 캐시를 우회하여 스냅샷을 직접 읽게 함
+                            wildcard.setServerName("sub" + (i++) + ".mingchico.com");
+
+                            assertThat(resolver.resolveSiteCode(exact)).isEqualTo("SITE_EXACT");
+                            assertThat(resolver.resolveSiteCode(wildcard)).isEqualTo("SITE_WILD");
+                            lookups.addAndGet(2);
+                        }
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    } finally {
+                        readersDone.countDown();
+                    }
+                });
+            }
+
+            assertThat(readersDone.await(10, TimeUnit.SECONDS)).isTrue();
+            running.set(false);
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(lookups.get()).isPositive();
+    }
+
+    private List<TenantRoute> buildRoutes() {
+        List<TenantRoute> routes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            routes.add(new TenantRoute("*.site" + i + ".com", "SITE_" + i));
+        }
+        routes.add(new TenantRoute("exact.mingchico.com", "SITE_EXACT"));
+        routes.add(new TenantRoute("*.mingchico.com", "SITE_WILD"));
+        return routes;
+    }
+}
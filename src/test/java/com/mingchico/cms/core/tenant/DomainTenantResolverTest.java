@@ -1,28 +1,30 @@
 package com.mingchico.cms.core.tenant;
 
 import com.mingchico.cms.core.tenant.TenantResolver.UnknownTenantException;
-import com.mingchico.cms.core.tenant.domain.Tenant;
+import com.mingchico.cms.core.tenant.dto.TenantRoute;
+import com.mingchico.cms.core.tenant.dto.TenantRouteVersion;
 import com.mingchico.cms.core.tenant.repository.TenantRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.util.AntPathMatcher;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DomainTenantResolverTest {
 
-    @InjectMocks
     private DomainTenantResolver tenantResolver;
 
     @Mock
@@ -34,14 +36,14 @@ class DomainTenantResolverTest {
     void setUp() {
         // DomainTenantResolver는 생성자 주입을 받으므로,
         // Mockito의 @InjectMocks 대신 직접 생성하여 명확하게 테스트 환경 구성
-        tenantResolver = new DomainTenantResolver(tenantRepository);
+        tenantResolver = new DomainTenantResolver(tenantRepository, new TenantProperties());
 
         // [Given] 테스트용 DB 데이터 모킹
         // DB에서 순서가 뒤죽박죽으로 넘어와도, 자바 로직이 정렬을 잘 하는지 테스트하기 위해 일부러 섞음
-        given(tenantRepository.findAll()).willReturn(List.of(
-                Tenant.builder().domainPattern("*.mingchico.com").siteCode("SITE_WILD").build(), // 1. 와일드카드
-                Tenant.builder().domainPattern("admin.mingchico.com").siteCode("SITE_ADMIN").build(), // 2. 구체적 (우선순위 높아야 함)
-                Tenant.builder().domainPattern("mingchico.com").siteCode("SITE_MAIN").build() // 3. 정확 일치
+        given(tenantRepository.findAllRoutes()).willReturn(List.of(
+                new TenantRoute("*.mingchico.com", "SITE_WILD"), // 1. 와일드카드
+                new TenantRoute("admin.mingchico.com", "SITE_ADMIN"), // 2. 구체적 (우선순위 높아야 함)
+                new TenantRoute("mingchico.com", "SITE_MAIN") // 3. 정확 일치
         ));
 
         // 캐시 초기화 (DB 로딩 시뮬레이션)
@@ -96,6 +98,38 @@ class DomainTenantResolverTest {
                 .hasMessageContaining("hacker.com");
     }
 
+    @Test
+    @DisplayName("미등록 도메인 예외는 스택 트레이스를 채우지 않는다")
+    void unknown_domain_exception_is_stackless() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("random-123.scanner.net");
+
+        assertThatThrownBy(() -> tenantResolver.resolveSiteCode(request))
+                .isInstanceOf(UnknownTenantException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("미등록으로 기억된 도메인도 신규 테넌트 등록 후에는 즉시 식별된다")
+    void unknown_host_cache_cleared_when_route_added() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("new-site.com");
+
+        // Given: 미등록 상태로 조회되어 부정 캐시에 기록됨
+        assertThatThrownBy(() -> tenantResolver.resolveSiteCode(request))
+                .isInstanceOf(UnknownTenantException.class);
+
+        // When: 해당 도메인이 등록됨
+        given(tenantRepository.findAllRoutes()).willReturn(List.of(
+                new TenantRoute("mingchico.com", "SITE_MAIN"),
+                new TenantRoute("new-site.com", "SITE_NEW")
+        ));
+        tenantResolver.refreshRules();
+
+        // Then
+        assertThat(tenantResolver.resolveSiteCode(request)).isEqualTo("SITE_NEW");
+    }
+
     @Test
     @DisplayName("개발자 헤더(X-Tenant-ID)가 있으면 로직을 무시하고 강제 적용한다")
     void resolve_header_override() {
@@ -107,4 +141,44 @@ class DomainTenantResolverTest {
 
         assertThat(siteCode).isEqualTo("SITE_TEST");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("라우팅 버전이 같으면 주기 갱신 시 규칙을 다시 읽지 않는다")
+    void refresh_skipped_when_version_unchanged() {
+        TenantRouteVersion version = new TenantRouteVersion(3, LocalDateTime.of(2026, 1, 1, 0, 0));
+        given(tenantRepository.findRouteVersion()).willReturn(version);
+
+        tenantResolver.refreshRules();          // 강제 적재 (버전 기록)
+        tenantResolver.refreshRulesIfChanged(); // 버전 동일 -> 생략
+
+        // setUp + refreshRules = 2회, 주기 갱신에서는 조회하지 않음
+        verify(tenantRepository, times(2)).findAllRoutes();
+    }
+
+    @Test
+    @DisplayName("규칙 변경 시 결과가 달라지는 도메인만 결과 캐시에서 제거된다")
+    void refresh_evicts_only_affected_results() {
+        // Given: 기존 규칙으로 두 도메인의 결과를 캐시에 적재
+        MockHttpServletRequest shop = new MockHttpServletRequest();
+        shop.setServerName("shop.mingchico.com");
+        MockHttpServletRequest main = new MockHttpServletRequest();
+        main.setServerName("mingchico.com");
+        assertThat(tenantResolver.resolveSiteCode(shop)).isEqualTo("SITE_WILD");
+        assertThat(tenantResolver.resolveSiteCode(main)).isEqualTo("SITE_MAIN");
+
+        // When: shop 전용 규칙이 추가됨
+        given(tenantRepository.findRouteVersion())
+                .willReturn(new TenantRouteVersion(4, LocalDateTime.of(2026, 1, 1, 0, 1)));
+        given(tenantRepository.findAllRoutes()).willReturn(List.of(
+                new TenantRoute("*.mingchico.com", "SITE_WILD"),
+                new TenantRoute("admin.mingchico.com", "SITE_ADMIN"),
+                new TenantRoute("mingchico.com", "SITE_MAIN"),
+                new TenantRoute("shop.mingchico.com", "SITE_SHOP")
+        ));
+        tenantResolver.refreshRulesIfChanged();
+
+        // Then: 영향받은 도메인은 새 규칙으로, 무관한 도메인은 그대로
+        assertThat(tenantResolver.resolveSiteCode(shop)).isEqualTo("SITE_SHOP");
+        assertThat(tenantResolver.resolveSiteCode(main)).isEqualTo("SITE_MAIN");
+    }
+}
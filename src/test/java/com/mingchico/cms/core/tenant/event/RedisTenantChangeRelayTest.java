@@ -0,0 +1,99 @@
+package com.mingchico.cms.core.tenant.event;
+
+import com.mingchico.cms.core.config.TieredCache;
+import com.mingchico.cms.core.menu.service.NavigationCache;
+import com.mingchico.cms.core.tenant.DomainTenantResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class RedisTenantChangeRelayTest {
+
+    // [Fake Redis] convertAndSend로 발행된 메시지를 구독 중인 모든 노드에 그대로 전달하는 인메모리 버스
+    private final List<RedisTenantChangeRelay> subscribers = new CopyOnWriteArrayList<>();
+
+    private DomainTenantResolver resolverA;
+    private DomainTenantResolver resolverB;
+    private TieredCache tenantMetaA;
+    private TieredCache tenantMetaB;
+    private NavigationCache navigationA;
+    private NavigationCache navigationB;
+    private RedisTenantChangeRelay nodeA;
+
+    @BeforeEach
+    void setUp() {
+        StringRedisTemplate fakeRedis = mock(StringRedisTemplate.class);
+        willAnswer(invocation -> {
+            String channel = invocation.getArgument(0);
+            String body = invocation.getArgument(1);
+            DefaultMessage message = new DefaultMessage(
+                    channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+            subscribers.forEach(subscriber -> subscriber.onMessage(message, null));
+            return 1L;
+        }).given(fakeRedis).convertAndSend(anyString(), anyString());
+
+        resolverA = mock(DomainTenantResolver.class);
+        resolverB = mock(DomainTenantResolver.class);
+        tenantMetaA = mock(TieredCache.class);
+        tenantMetaB = mock(TieredCache.class);
+        navigationA = mock(NavigationCache.class);
+        navigationB = mock(NavigationCache.class);
+
+        nodeA = new RedisTenantChangeRelay(fakeRedis, resolverA, cacheManager(tenantMetaA), navigationA);
+        RedisTenantChangeRelay nodeB = new RedisTenantChangeRelay(fakeRedis, resolverB, cacheManager(tenantMetaB), navigationB);
+        subscribers.add(nodeA);
+        subscribers.add(nodeB);
+    }
+
+    @Test
+    @DisplayName("라우팅 변경은 다른 노드의 규칙만 갱신한다 (발행 노드는 로컬 이벤트로 이미 처리)")
+    void route_change_refreshes_other_nodes() {
+        nodeA.onRouteChanged(new TenantRouteChangedEvent());
+
+        verify(resolverB).refreshRules();
+        verify(resolverA, never()).refreshRules();
+    }
+
+    @Test
+    @DisplayName("메타데이터 변경은 다른 노드의 로컬 사본(L1, 네비게이션)만 비우고 공유 캐시 삭제/재전파는 하지 않는다")
+    void metadata_change_evicts_only_local_state_on_other_nodes() {
+        nodeA.onMetadataChanged(new TenantMetadataChangedEvent("SITE_A"));
+
+        verify(tenantMetaB).evictLocal("SITE_A");
+        verify(tenantMetaB, never()).evict(any());
+        verify(navigationB).evictSite("SITE_A");
+        verifyNoInteractions(tenantMetaA, navigationA);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 무시한다")
+    void malformed_message_is_ignored() {
+        nodeA.onMessage(new DefaultMessage(
+                RedisTenantChangeRelay.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "garbage".getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(resolverA, never()).refreshRules();
+    }
+
+    private static CacheManager cacheManager(TieredCache tenantMeta) {
+        CacheManager cacheManager = mock(CacheManager.class);
+        given(cacheManager.getCache("tenant_meta")).willReturn(tenantMeta);
+        return cacheManager;
+    }
+}